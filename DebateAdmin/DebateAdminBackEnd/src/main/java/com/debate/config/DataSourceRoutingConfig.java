@@ -0,0 +1,91 @@
+package com.debate.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본(replica) DataSource 설정.
+ * <p>
+ * spring.datasource.replica.enabled=true일 때만 적용되며, 꺼져 있으면 기존처럼 단일 DataSource를 사용한다.
+ * 주 DB 풀은 spring.datasource(.hikari) 설정을, 복제본 풀은 spring.datasource.replica 설정을 사용하고,
+ * 애플리케이션이 사용하는 DataSource는 LazyConnectionDataSourceProxy로 감싼 {@link ReplicationRoutingDataSource}이다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 커넥션 풀을 생성한다.
+     *
+     * @param properties spring.datasource 설정
+     * @return 주 DB DataSource
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 커넥션 풀(읽기 전용 연결)을 생성한다.
+     * <p>
+     * 계정 정보를 따로 지정하지 않으면 주 DB와 같은 계정을 사용한다.
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${spring.datasource.replica.url}") String url,
+                                              @Value("${spring.datasource.replica.username:}") String username,
+                                              @Value("${spring.datasource.replica.password:}") String password,
+                                              @Value("${spring.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                              @Value("${spring.datasource.replica.connection-timeout:2s}") Duration connectionTimeout) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username.isBlank() ? properties.determineUsername() : username);
+        dataSource.setPassword(username.isBlank() ? properties.determinePassword() : password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // 복제본이 응답하지 않을 때 오래 기다리지 않고 주 DB로 대체
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setReadOnly(true);
+        // 기동 시 복제본이 내려가 있어도 애플리케이션은 주 DB로 동작
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${spring.datasource.replica.max-lag:5s}") Duration maxLag) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag);
+    }
+
+    /**
+     * 애플리케이션 기본 DataSource를 생성한다.
+     * <p>
+     * 실제 연결은 첫 SQL 실행 시점에 얻으므로 트랜잭션의 readOnly 여부에 따라 라우팅된다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${spring.datasource.replica.read-your-writes-window:5s}") Duration stickyWindow) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, stickyWindow);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
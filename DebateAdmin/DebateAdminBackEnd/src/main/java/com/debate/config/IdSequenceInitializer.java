@@ -0,0 +1,53 @@
+package com.debate.config;
+
+import com.debate.entity.IdSequences;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 기반 ID 생성기 초기화 컴포넌트.
+ * <p>
+ * 기동 시 id_sequences의 각 행을 해당 테이블의 최대 ID보다 크게 맞춰
+ * IDENTITY로 저장된 기존 행과 새로 발급하는 ID가 겹치지 않게 한다.
+ * pooled 최적화는 읽은 값 V에 대해 (V - 할당 크기, V] 구간을 사용하므로 최대 ID + 할당 크기 이상으로 맞춘다.
+ * <br>
+ * 이미 더 큰 값이면 그대로 두므로 두 백엔드가 동시에 기동해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactory.class)
+                .unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof TableGenerator generator
+                    && IdSequences.TABLE.equals(generator.getTableName())
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                align(generator, entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+
+    private void align(TableGenerator generator, String table, String idColumn) {
+        String segment = generator.getSegmentValue();
+        jdbcTemplate.update("INSERT IGNORE INTO " + IdSequences.TABLE
+                + " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, 0)", segment);
+        jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN
+                + " = GREATEST(" + IdSequences.VALUE_COLUMN + ", (SELECT COALESCE(MAX(" + idColumn + "), 0) + ? FROM " + table + "))"
+                + " WHERE " + IdSequences.NAME_COLUMN + " = ?", generator.getIncrementSize(), segment);
+        log.debug("[ADMIN-DB] ID 생성기 정렬: segment={}, table={}", segment, table);
+    }
+}
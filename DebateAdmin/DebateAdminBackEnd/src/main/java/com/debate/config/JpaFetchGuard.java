@@ -0,0 +1,41 @@
+package com.debate.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지연 로딩 가드 컴포넌트.
+ * <p>
+ * 영속성 컨텍스트가 서비스 트랜잭션 밖(컨트롤러, JSON 직렬화)까지 열려 있지 않은지 기동 시 확인하고,
+ * spring.jpa.open-in-view 또는 hibernate.enable_lazy_load_no_trans가 켜져 있으면 기동을 중단한다.
+ * <br>
+ * 두 설정이 꺼져 있으면 트랜잭션 밖 지연 로딩은 LazyInitializationException으로 바로 드러난다.
+ * 조회 서비스는 트랜잭션 안에서 {@code @EntityGraph}로 필요한 연관을 함께 읽고 DTO로 변환해 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JpaFetchGuard {
+    private final ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void verify() {
+        if (openEntityManagerInViewInterceptor.getIfAvailable() != null) {
+            throw new IllegalStateException(
+                    "spring.jpa.open-in-view가 켜져 있다. 조회는 서비스 트랜잭션 안에서 DTO로 변환해야 한다");
+        }
+        Object lazyLoadNoTrans = entityManagerFactory.getProperties().get(AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS);
+        if (lazyLoadNoTrans != null && Boolean.parseBoolean(lazyLoadNoTrans.toString())) {
+            throw new IllegalStateException(
+                    AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS + "는 사용할 수 없다. 필요한 연관은 @EntityGraph로 함께 조회한다");
+        }
+        log.debug("[ADMIN-DB] 지연 로딩 가드 확인 - open-in-view 꺼짐, 트랜잭션 밖 지연 로딩 비허용");
+    }
+}
@@ -0,0 +1,54 @@
+package com.debate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 측정 설정 속성 클래스.
+ * <p>
+ * `application.yml`의 `query-metrics` 네임스페이스를 바인딩한다.
+ * 엔드포인트별 예산 키는 "메서드 URI 패턴" 형식이며 (예: "[GET /api/admin/statistics/users]": 5),
+ * 지정하지 않은 엔드포인트는 기본 예산을 사용한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "query-metrics")
+@Getter
+@Setter
+public class QueryMetricsProperties {
+    /** 측정 사용 여부 */
+    private boolean enabled = true;
+
+    /** Server-Timing 응답 헤더 출력 여부 */
+    private boolean serverTiming = true;
+
+    /** ResultSet.next() 호출을 세어 조회 행 수를 측정할지 여부 */
+    private boolean countRows = true;
+
+    /** 쿼리 예산 */
+    private Budget budget = new Budget();
+
+    @Getter
+    @Setter
+    public static class Budget {
+        /** 요청당 기본 허용 SQL 실행 횟수 (0 이하이면 검사하지 않는다) */
+        private int defaultStatements = 30;
+
+        /** 엔드포인트별 허용 SQL 실행 횟수 */
+        private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+        /**
+         * 엔드포인트의 SQL 실행 횟수 예산을 반환한다.
+         *
+         * @param endpoint "메서드 URI 패턴" 형식의 엔드포인트
+         * @return 허용 실행 횟수 (0 이하이면 검사하지 않음)
+         */
+        public int limitFor(String endpoint) {
+            return endpoints.getOrDefault(endpoint, defaultStatements);
+        }
+    }
+}
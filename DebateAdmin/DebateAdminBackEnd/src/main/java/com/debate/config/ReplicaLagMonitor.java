@@ -0,0 +1,130 @@
+package com.debate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본(replica) 상태 감시기.
+ * <p>
+ * 주기적으로 복제 지연을 확인해 허용치를 넘거나 확인에 실패하면 읽기를 주 DB로 돌리도록 표시한다.
+ * MySQL 8.0.22 이상은 SHOW REPLICA STATUS, 그 이전 버전은 SHOW SLAVE STATUS를 사용하며,
+ * 복제 스레드가 멈춰 지연 값이 NULL이면 사용 불가로 본다.
+ * <br>
+ * 복제 설정이 없는 DB(로컬에서 두 인스턴스로 시험하는 경우)는 지연 0으로 보고 사용한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final int MYSQL_SYNTAX_ERROR = 1064;
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private volatile boolean available;          // 첫 확인 전까지는 주 DB 사용
+    private volatile boolean checked;
+    private volatile long lagSeconds = -1;
+    private volatile boolean legacyStatusCommand;
+    private volatile boolean standaloneLogged;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    /**
+     * 복제본으로 읽기를 보내도 되는지 반환한다.
+     *
+     * @return 지연이 허용치 이내이고 마지막 확인에 성공했으면 true
+     */
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연(초)을 반환한다.
+     *
+     * @return 복제 지연, 확인하지 못했으면 -1
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * 복제본 연결 실패 등으로 즉시 사용 불가로 표시한다. 다음 확인에서 회복되면 다시 사용한다.
+     *
+     * @param reason 사유 (로그용)
+     */
+    public void markUnavailable(String reason) {
+        if (available || !checked) {
+            log.warn("[ADMIN-DB] 복제본 사용 중지, 주 DB로 대체: {}", reason);
+        }
+        available = false;
+        checked = true;
+        lagSeconds = -1;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval:PT2S}")
+    public void check() {
+        Long lag;
+        try {
+            lag = queryLag();
+        } catch (SQLException e) {
+            markUnavailable("복제 상태 확인 실패 - " + e.getMessage());
+            return;
+        }
+        if (lag == null) {
+            markUnavailable("복제 스레드 중지");
+            return;
+        }
+        lagSeconds = lag;
+        if (lag > maxLagSeconds) {
+            markUnavailable("복제 지연 " + lag + "초 (허용 " + maxLagSeconds + "초)");
+            return;
+        }
+        if (!available) {
+            log.info("[ADMIN-DB] 복제본 사용{}: lag={}s", checked ? " 재개" : "", lag);
+        }
+        available = true;
+        checked = true;
+    }
+
+    /**
+     * 복제 지연(초)을 조회한다. 복제 설정이 없으면 0, 복제가 멈췄으면 null을 반환한다.
+     */
+    private Long queryLag() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!legacyStatusCommand) {
+                try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                    return readLag(rs, "Seconds_Behind_Source");
+                } catch (SQLException e) {
+                    // MySQL 8.0.22 미만은 REPLICA 구문을 지원하지 않음 (1064: 구문 오류)
+                    if (e.getErrorCode() != MYSQL_SYNTAX_ERROR) {
+                        throw e;
+                    }
+                    legacyStatusCommand = true;
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                return readLag(rs, "Seconds_Behind_Master");
+            }
+        }
+    }
+
+    private Long readLag(ResultSet rs, String column) throws SQLException {
+        if (!rs.next()) {
+            if (!standaloneLogged) {
+                standaloneLogged = true;
+                log.info("[ADMIN-DB] 복제본에 복제 설정이 없어 지연 0으로 간주 (로컬 시험 구성)");
+            }
+            return 0L;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+}
@@ -0,0 +1,140 @@
+package com.debate.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource.
+ * <p>
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 복제본(replica)으로, 그 외에는 주 DB(primary)로 보낸다.
+ * 복제 지연이 허용치를 넘었거나 복제본 연결에 실패하면 주 DB로 대체하고,
+ * 관리자가 쓰기 트랜잭션을 커밋한 직후 일정 시간은 그 관리자의 읽기도 주 DB로 보낸다(read-your-writes).
+ * <p>
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 연결을 고르도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+    private static final int STICKY_PURGE_THRESHOLD = 10_000;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyWindowMillis;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, Duration stickyWindow) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String client = currentClientKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWrite(client);
+            return PRIMARY;
+        }
+        if (!lagMonitor.isReplicaAvailable() || isSticky(client)) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    /**
+     * 복제본 연결을 얻지 못하면 복제본을 사용 불가로 표시하고 주 DB 연결을 반환한다.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!REPLICA.equals(determineCurrentLookupKey())) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 해당 관리자를 일정 시간 주 DB에 고정한다.
+     */
+    private void rememberWrite(String client) {
+        if (client == null || stickyWindowMillis <= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stick(client);
+                }
+            });
+        } else {
+            stick(client);
+        }
+    }
+
+    private void stick(String client) {
+        long now = System.currentTimeMillis();
+        if (stickyUntil.size() > STICKY_PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until < now);
+        }
+        stickyUntil.put(client, now + stickyWindowMillis);
+    }
+
+    private boolean isSticky(String client) {
+        if (client == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntil.remove(client, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 요청의 식별 키를 반환한다.
+     * <p>
+     * 인증된 관리자는 사용자명, 인증 전 요청은 클라이언트 IP를 사용한다.
+     */
+    private static String currentClientKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal())) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.debate.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 통계 (실행 횟수, 조회/변경 행 수, 실행 시간).
+ * <p>
+ * {@link QueryMetricsFilter}가 요청 시작 시 현재 스레드에 연결하고 끝나면 해제한다.
+ * 요청 밖(스케줄러, 기동 시 초기화, 비동기 내보내기 스레드)에서 실행된 SQL은 집계하지 않는다.
+ * <br>
+ * 배치 실행은 DB 왕복 기준으로 한 번으로 센다.
+ */
+public class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+    private long queryStartNanos;
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * datasource-proxy 리스너.
+     * <p>
+     * SQL 실행 전후로 시간을 재고, ResultSet.next()가 true를 반환할 때마다 조회 행 수를 더한다.
+     */
+    static class Listener implements QueryExecutionListener, MethodExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestQueryStats stats = CURRENT.get();
+            if (stats != null) {
+                stats.queryStartNanos = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestQueryStats stats = CURRENT.get();
+            if (stats == null) {
+                return;
+            }
+            stats.statements++;
+            stats.elapsedNanos += System.nanoTime() - stats.queryStartNanos;
+            Object result = execInfo.getResult();
+            if (result instanceof Integer updated && updated > 0) {
+                stats.rows += updated;
+            } else if (result instanceof int[] batch) {
+                for (int updated : batch) {
+                    if (updated > 0) {
+                        stats.rows += updated;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                RequestQueryStats stats = CURRENT.get();
+                if (stats != null) {
+                    stats.rows++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.debate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄러 지연 측정 컴포넌트.
+ * <p>
+ * 짧은 주기의 탐침 작업이 예정 시각보다 얼마나 늦게 시작되는지를 scheduler.lag 타이머로 기록한다.
+ * <br>
+ * {@code @Scheduled} 작업은 기본적으로 스레드 하나를 공유하므로, 복제 지연 확인 같은 다른 작업이
+ * 스케줄러를 얼마나 붙잡고 있는지 보여준다. 고정 지연 방식이므로 예정 시각은 직전 실행 종료 시각 + 주기이다.
+ */
+@Component
+public class SchedulerLagMonitor {
+    private final Timer lagTimer;
+    private final long intervalNanos;
+    private long nextExpectedNanos = -1;
+
+    public SchedulerLagMonitor(MeterRegistry registry,
+                               @Value("${metrics.scheduler-lag.interval:PT1S}") Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.lagTimer = Timer.builder("scheduler.lag")
+                .description("@Scheduled 작업의 예정 시각 대비 시작 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.scheduler-lag.interval:PT1S}")
+    public void probe() {
+        long now = System.nanoTime();
+        if (nextExpectedNanos >= 0) {
+            lagTimer.record(Math.max(0, now - nextExpectedNanos), TimeUnit.NANOSECONDS);
+        }
+        nextExpectedNanos = System.nanoTime() + intervalNanos;
+    }
+}
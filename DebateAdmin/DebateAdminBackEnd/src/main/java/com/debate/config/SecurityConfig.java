@@ -1,6 +1,7 @@
 package com.debate.config;
 
 import com.debate.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -82,13 +83,15 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 스트리밍 응답(내보내기)의 비동기 재디스패치 허용 (최초 요청에서 인증됨)
                         .requestMatchers("/api/admin/auth/**").permitAll()
                         .requestMatchers("/api/admin/admins").permitAll()  // 초기 관리자 생성용 (POST만 허용 권장, 프로덕션에서는 제거)
                         .requestMatchers("/api/upload/**").authenticated()  // 이미지 업로드 API는 인증 필요
                         .requestMatchers("/files/**").permitAll()  // 업로드된 파일 접근 허용
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/api-docs/**", "/v3/api-docs/**").permitAll()
-                        .requestMatchers("/actuator/health", "/actuator/info", "/actuator/loggers/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/info", "/actuator/loggers/**", "/actuator/metrics/**").permitAll()
+                        .requestMatchers("/actuator/prometheus").permitAll()  // Prometheus 수집 (관리 포트에서만 제공, 방화벽으로 내부망에만 공개)
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -1,7 +1,9 @@
 package com.debate.controller;
 
+import com.debate.dto.request.BulkCommentRequest;
+import com.debate.dto.response.AdminCommentResponse;
 import com.debate.dto.response.ApiResponse;
-import com.debate.entity.Comment;
+import com.debate.dto.response.BulkModerationResponse;
 import com.debate.service.AdminCommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,13 +37,13 @@ public class AdminCommentController {
      */
     @Operation(summary = "댓글 목록 조회", description = "검색 조건에 따라 댓글 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<Comment>>> getComments(
+    public ResponseEntity<ApiResponse<Page<AdminCommentResponse>>> getComments(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Boolean isHidden,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Comment> comments = adminCommentService.searchComments(keyword, isHidden, pageable);
+        Page<AdminCommentResponse> comments = adminCommentService.searchComments(keyword, isHidden, pageable);
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
@@ -49,12 +51,12 @@ public class AdminCommentController {
      * 특정 댓글을 조회한다.
      *
      * @param id 댓글 ID
-     * @return 댓글 엔티티 wrapped ApiResponse
+     * @return 댓글 DTO wrapped ApiResponse
      */
     @Operation(summary = "댓글 상세 조회", description = "댓글의 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Comment>> getCommentDetail(@PathVariable Long id) {
-        Comment comment = adminCommentService.getCommentById(id);
+    public ResponseEntity<ApiResponse<AdminCommentResponse>> getCommentDetail(@PathVariable Long id) {
+        AdminCommentResponse comment = adminCommentService.getCommentById(id);
         return ResponseEntity.ok(ApiResponse.success(comment));
     }
 
@@ -66,8 +68,8 @@ public class AdminCommentController {
      */
     @Operation(summary = "댓글 숨김 처리", description = "댓글의 숨김 상태를 토글합니다.")
     @PutMapping("/{id}/toggle-hidden")
-    public ResponseEntity<ApiResponse<Comment>> toggleCommentHidden(@PathVariable Long id) {
-        Comment comment = adminCommentService.toggleCommentHidden(id);
+    public ResponseEntity<ApiResponse<AdminCommentResponse>> toggleCommentHidden(@PathVariable Long id) {
+        AdminCommentResponse comment = adminCommentService.toggleCommentHidden(id);
         return ResponseEntity.ok(ApiResponse.success("댓글 숨김 상태가 변경되었습니다", comment));
     }
 
@@ -83,5 +85,33 @@ public class AdminCommentController {
         adminCommentService.deleteComment(id);
         return ResponseEntity.ok(ApiResponse.success("댓글이 삭제되었습니다", null));
     }
-}
 
+    /**
+     * 여러 댓글의 숨김 여부를 일괄 설정한다.
+     *
+     * @param hidden  설정할 숨김 여부 (true: 숨김, false: 숨김 해제)
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @return 일괄 처리 결과 wrapped ApiResponse
+     */
+    @Operation(summary = "댓글 일괄 숨김 처리", description = "ID 목록 또는 검색 조건에 해당하는 댓글의 숨김 상태를 일괄 변경합니다.")
+    @PutMapping("/bulk/hidden")
+    public ResponseEntity<ApiResponse<BulkModerationResponse>> bulkUpdateHidden(
+            @RequestParam boolean hidden,
+            @RequestBody BulkCommentRequest request) {
+        BulkModerationResponse result = adminCommentService.bulkUpdateHidden(request, hidden);
+        return ResponseEntity.ok(ApiResponse.success("댓글 숨김 상태가 일괄 변경되었습니다", result));
+    }
+
+    /**
+     * 여러 댓글을 대댓글과 함께 일괄 삭제한다.
+     *
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @return 일괄 처리 결과 wrapped ApiResponse
+     */
+    @Operation(summary = "댓글 일괄 삭제", description = "ID 목록 또는 검색 조건에 해당하는 댓글을 대댓글과 함께 일괄 삭제합니다.")
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<BulkModerationResponse>> bulkDelete(@RequestBody BulkCommentRequest request) {
+        BulkModerationResponse result = adminCommentService.bulkDelete(request);
+        return ResponseEntity.ok(ApiResponse.success("댓글이 일괄 삭제되었습니다", result));
+    }
+}
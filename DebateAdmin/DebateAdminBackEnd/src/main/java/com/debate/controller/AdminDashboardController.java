@@ -1,9 +1,9 @@
 package com.debate.controller;
 
+import com.debate.dto.response.AdminDebateResponse;
+import com.debate.dto.response.AdminReportResponse;
 import com.debate.dto.response.ApiResponse;
 import com.debate.dto.response.DashboardStatsResponse;
-import com.debate.entity.Debate;
-import com.debate.entity.Report;
 import com.debate.entity.User;
 import com.debate.service.AdminDashboardService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -60,9 +60,9 @@ public class AdminDashboardController {
      */
     @Operation(summary = "인기 토론 조회", description = "조회수가 높은 토론 목록을 조회합니다.")
     @GetMapping("/top-debates")
-    public ResponseEntity<ApiResponse<List<Debate>>> getTopDebates(
+    public ResponseEntity<ApiResponse<List<AdminDebateResponse>>> getTopDebates(
             @RequestParam(defaultValue = "5") int limit) {
-        List<Debate> debates = adminDashboardService.getTopDebates(limit);
+        List<AdminDebateResponse> debates = adminDashboardService.getTopDebates(limit);
         return ResponseEntity.ok(ApiResponse.success(debates));
     }
 
@@ -74,9 +74,9 @@ public class AdminDashboardController {
      */
     @Operation(summary = "미처리 신고 조회", description = "처리 대기 중인 신고 목록을 조회합니다.")
     @GetMapping("/pending-reports")
-    public ResponseEntity<ApiResponse<List<Report>>> getPendingReports(
+    public ResponseEntity<ApiResponse<List<AdminReportResponse>>> getPendingReports(
             @RequestParam(defaultValue = "10") int limit) {
-        List<Report> reports = adminDashboardService.getPendingReports(limit);
+        List<AdminReportResponse> reports = adminDashboardService.getPendingReports(limit);
         return ResponseEntity.ok(ApiResponse.success(reports));
     }
 }
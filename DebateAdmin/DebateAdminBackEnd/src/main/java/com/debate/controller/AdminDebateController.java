@@ -1,6 +1,9 @@
 package com.debate.controller;
 
+import com.debate.dto.request.BulkDebateRequest;
+import com.debate.dto.response.AdminDebateResponse;
 import com.debate.dto.response.ApiResponse;
+import com.debate.dto.response.BulkModerationResponse;
 import com.debate.entity.Debate;
 import com.debate.service.AdminDebateService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,14 +42,14 @@ public class AdminDebateController {
      */
     @Operation(summary = "토론 목록 조회", description = "검색 조건에 따라 토론 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<Debate>>> getDebates(
+    public ResponseEntity<ApiResponse<Page<AdminDebateResponse>>> getDebates(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Debate.DebateStatus status,
             @RequestParam(required = false) Boolean isHidden,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Debate> debates = adminDebateService.searchDebates(keyword, status, isHidden, pageable);
+        Page<AdminDebateResponse> debates = adminDebateService.searchDebates(keyword, status, isHidden, pageable);
         return ResponseEntity.ok(ApiResponse.success(debates));
     }
 
@@ -54,12 +57,12 @@ public class AdminDebateController {
      * 특정 토론의 상세 정보를 조회한다.
      *
      * @param id 토론 ID
-     * @return 토론 엔티티 wrapped ApiResponse
+     * @return 토론 DTO wrapped ApiResponse
      */
     @Operation(summary = "토론 상세 조회", description = "토론의 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Debate>> getDebateDetail(@PathVariable Long id) {
-        Debate debate = adminDebateService.getDebateById(id);
+    public ResponseEntity<ApiResponse<AdminDebateResponse>> getDebateDetail(@PathVariable Long id) {
+        AdminDebateResponse debate = adminDebateService.getDebateById(id);
         return ResponseEntity.ok(ApiResponse.success(debate));
     }
 
@@ -71,17 +74,17 @@ public class AdminDebateController {
      * @param content   변경할 본문
      * @param startDate 변경할 시작 시각
      * @param endDate   변경할 종료 시각
-     * @return 수정된 토론 엔티티 wrapped ApiResponse
+     * @return 수정된 토론 DTO wrapped ApiResponse
      */
     @Operation(summary = "토론 수정", description = "토론 정보를 수정합니다.")
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Debate>> updateDebate(
+    public ResponseEntity<ApiResponse<AdminDebateResponse>> updateDebate(
             @PathVariable Long id,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String content,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-        Debate debate = adminDebateService.updateDebate(id, title, content, startDate, endDate);
+        AdminDebateResponse debate = adminDebateService.updateDebate(id, title, content, startDate, endDate);
         return ResponseEntity.ok(ApiResponse.success("토론이 수정되었습니다", debate));
     }
 
@@ -90,14 +93,14 @@ public class AdminDebateController {
      *
      * @param id     토론 ID
      * @param status 설정할 상태 값
-     * @return 변경된 토론 엔티티 wrapped ApiResponse
+     * @return 변경된 토론 DTO wrapped ApiResponse
      */
     @Operation(summary = "토론 상태 변경", description = "토론의 상태를 변경합니다.")
     @PutMapping("/{id}/status")
-    public ResponseEntity<ApiResponse<Debate>> updateDebateStatus(
+    public ResponseEntity<ApiResponse<AdminDebateResponse>> updateDebateStatus(
             @PathVariable Long id,
             @RequestParam Debate.DebateStatus status) {
-        Debate debate = adminDebateService.updateDebateStatus(id, status);
+        AdminDebateResponse debate = adminDebateService.updateDebateStatus(id, status);
         return ResponseEntity.ok(ApiResponse.success("토론 상태가 변경되었습니다", debate));
     }
 
@@ -105,12 +108,12 @@ public class AdminDebateController {
      * 토론의 숨김 플래그를 토글한다.
      *
      * @param id 토론 ID
-     * @return 토글된 토론 엔티티 wrapped ApiResponse
+     * @return 토글된 토론 DTO wrapped ApiResponse
      */
     @Operation(summary = "토론 숨김 처리", description = "토론의 숨김 상태를 토글합니다.")
     @PutMapping("/{id}/toggle-hidden")
-    public ResponseEntity<ApiResponse<Debate>> toggleDebateHidden(@PathVariable Long id) {
-        Debate debate = adminDebateService.toggleDebateHidden(id);
+    public ResponseEntity<ApiResponse<AdminDebateResponse>> toggleDebateHidden(@PathVariable Long id) {
+        AdminDebateResponse debate = adminDebateService.toggleDebateHidden(id);
         return ResponseEntity.ok(ApiResponse.success("토론 숨김 상태가 변경되었습니다", debate));
     }
 
@@ -126,5 +129,36 @@ public class AdminDebateController {
         adminDebateService.deleteDebate(id);
         return ResponseEntity.ok(ApiResponse.success("토론이 삭제되었습니다", null));
     }
-}
 
+    /**
+     * 여러 토론의 숨김 여부를 일괄 설정한다.
+     *
+     * @param hidden  설정할 숨김 여부 (true: 숨김, false: 숨김 해제)
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @return 일괄 처리 결과 wrapped ApiResponse
+     */
+    @Operation(summary = "토론 일괄 숨김 처리", description = "ID 목록 또는 검색 조건에 해당하는 토론의 숨김 상태를 일괄 변경합니다.")
+    @PutMapping("/bulk/hidden")
+    public ResponseEntity<ApiResponse<BulkModerationResponse>> bulkUpdateHidden(
+            @RequestParam boolean hidden,
+            @RequestBody BulkDebateRequest request) {
+        BulkModerationResponse result = adminDebateService.bulkUpdateHidden(request, hidden);
+        return ResponseEntity.ok(ApiResponse.success("토론 숨김 상태가 일괄 변경되었습니다", result));
+    }
+
+    /**
+     * 여러 토론의 상태를 일괄 변경한다.
+     *
+     * @param status  설정할 상태 값
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @return 일괄 처리 결과 wrapped ApiResponse
+     */
+    @Operation(summary = "토론 상태 일괄 변경", description = "ID 목록 또는 검색 조건에 해당하는 토론의 상태를 일괄 변경합니다.")
+    @PutMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkModerationResponse>> bulkUpdateStatus(
+            @RequestParam Debate.DebateStatus status,
+            @RequestBody BulkDebateRequest request) {
+        BulkModerationResponse result = adminDebateService.bulkUpdateStatus(request, status);
+        return ResponseEntity.ok(ApiResponse.success("토론 상태가 일괄 변경되었습니다", result));
+    }
+}
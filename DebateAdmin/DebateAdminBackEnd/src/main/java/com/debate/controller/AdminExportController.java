@@ -0,0 +1,129 @@
+package com.debate.controller;
+
+import com.debate.entity.Debate;
+import com.debate.entity.Report;
+import com.debate.entity.User;
+import com.debate.service.AdminExportService;
+import com.debate.service.AdminExportService.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 데이터 내보내기 컨트롤러.
+ * <p>
+ * 회원/토론/댓글/신고 데이터를 검색 API와 같은 조건으로 CSV 또는 NDJSON 파일로 내려준다.
+ * 응답은 행 단위로 스트리밍되므로 대용량 내보내기도 서버 메모리를 늘리지 않는다.
+ */
+@Tag(name = "관리자 데이터 내보내기 API", description = "회원, 토론, 댓글, 신고 데이터 CSV/NDJSON 내보내기 API")
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class AdminExportController {
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final AdminExportService adminExportService;
+
+    /**
+     * 회원 목록을 내보낸다.
+     *
+     * @param keyword 이메일/닉네임 검색 키워드
+     * @param status  회원 상태 필터
+     * @param format  파일 형식 (csv, ndjson)
+     * @return 스트리밍 파일 응답
+     */
+    @Operation(summary = "회원 내보내기", description = "검색 조건에 맞는 회원 목록을 CSV 또는 NDJSON으로 내보냅니다.")
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) User.UserStatus status,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return download("users", exportFormat, () -> adminExportService.exportUsers(keyword, status, exportFormat));
+    }
+
+    /**
+     * 토론 목록을 내보낸다.
+     *
+     * @param keyword  제목/내용 검색 키워드
+     * @param status   토론 상태 필터
+     * @param isHidden 숨김 여부 필터
+     * @param format   파일 형식 (csv, ndjson)
+     * @return 스트리밍 파일 응답
+     */
+    @Operation(summary = "토론 내보내기", description = "검색 조건에 맞는 토론 목록을 CSV 또는 NDJSON으로 내보냅니다.")
+    @GetMapping("/debates")
+    public ResponseEntity<StreamingResponseBody> exportDebates(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Debate.DebateStatus status,
+            @RequestParam(required = false) Boolean isHidden,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return download("debates", exportFormat,
+                () -> adminExportService.exportDebates(keyword, status, isHidden, exportFormat));
+    }
+
+    /**
+     * 댓글 목록을 내보낸다.
+     *
+     * @param keyword  댓글 내용 검색 키워드
+     * @param isHidden 숨김 여부 필터
+     * @param format   파일 형식 (csv, ndjson)
+     * @return 스트리밍 파일 응답
+     */
+    @Operation(summary = "댓글 내보내기", description = "검색 조건에 맞는 댓글 목록을 CSV 또는 NDJSON으로 내보냅니다.")
+    @GetMapping("/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Boolean isHidden,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return download("comments", exportFormat,
+                () -> adminExportService.exportComments(keyword, isHidden, exportFormat));
+    }
+
+    /**
+     * 신고 목록을 내보낸다.
+     *
+     * @param status 신고 처리 상태 필터
+     * @param format 파일 형식 (csv, ndjson)
+     * @return 스트리밍 파일 응답
+     */
+    @Operation(summary = "신고 내보내기", description = "처리 상태에 맞는 신고 목록을 CSV 또는 NDJSON으로 내보냅니다.")
+    @GetMapping("/reports")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam(required = false) Report.ReportStatus status,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return download("reports", exportFormat, () -> adminExportService.exportReports(status, exportFormat));
+    }
+
+    /**
+     * 첨부 파일 다운로드 헤더를 붙여 스트리밍 응답을 만든다.
+     * <p>
+     * 본문은 헤더를 모두 만든 뒤 마지막에 만든다. 본문을 만들 때 확보한 동시 실행 허가는 비동기 처리가
+     * 시작되어야 반납되므로, 그 사이에 예외가 날 수 있는 작업을 두지 않는다.
+     */
+    private ResponseEntity<StreamingResponseBody> download(String name, ExportFormat format,
+                                                           Supplier<StreamingResponseBody> body) {
+        String filename = name + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store");
+        return response.body(body.get());
+    }
+}
@@ -1,5 +1,6 @@
 package com.debate.controller;
 
+import com.debate.dto.response.AdminReportResponse;
 import com.debate.dto.response.ApiResponse;
 import com.debate.entity.Report;
 import com.debate.service.AdminReportService;
@@ -34,12 +35,12 @@ public class AdminReportController {
      */
     @Operation(summary = "신고 목록 조회", description = "처리 상태에 따라 신고 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<Report>>> getReports(
+    public ResponseEntity<ApiResponse<Page<AdminReportResponse>>> getReports(
             @RequestParam(required = false) Report.ReportStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Report> reports = adminReportService.getReports(status, pageable);
+        Page<AdminReportResponse> reports = adminReportService.getReports(status, pageable);
         return ResponseEntity.ok(ApiResponse.success(reports));
     }
 
@@ -47,12 +48,12 @@ public class AdminReportController {
      * 단일 신고 정보를 조회한다.
      *
      * @param id 신고 ID
-     * @return 신고 엔티티 wrapped ApiResponse
+     * @return 신고 DTO wrapped ApiResponse
      */
     @Operation(summary = "신고 상세 조회", description = "신고의 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Report>> getReportDetail(@PathVariable Long id) {
-        Report report = adminReportService.getReportById(id);
+    public ResponseEntity<ApiResponse<AdminReportResponse>> getReportDetail(@PathVariable Long id) {
+        AdminReportResponse report = adminReportService.getReportById(id);
         return ResponseEntity.ok(ApiResponse.success(report));
     }
 
@@ -65,10 +66,10 @@ public class AdminReportController {
      */
     @Operation(summary = "신고 처리", description = "신고를 승인 또는 반려 처리합니다.")
     @PutMapping("/{id}/process")
-    public ResponseEntity<ApiResponse<Report>> processReport(
+    public ResponseEntity<ApiResponse<AdminReportResponse>> processReport(
             @PathVariable Long id,
             @RequestParam Report.ReportStatus status) {
-        Report report = adminReportService.processReport(id, status);
+        AdminReportResponse report = adminReportService.processReport(id, status);
         return ResponseEntity.ok(ApiResponse.success("신고가 처리되었습니다", report));
     }
 }
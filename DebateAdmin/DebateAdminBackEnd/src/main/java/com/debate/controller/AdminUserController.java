@@ -1,6 +1,8 @@
 package com.debate.controller;
 
+import com.debate.dto.request.BulkUserRequest;
 import com.debate.dto.response.ApiResponse;
+import com.debate.dto.response.BulkModerationResponse;
 import com.debate.dto.response.UserDetailResponse;
 import com.debate.entity.User;
 import com.debate.service.AdminUserService;
@@ -87,5 +89,20 @@ public class AdminUserController {
         adminUserService.deleteUser(id);
         return ResponseEntity.ok(ApiResponse.success("회원이 삭제되었습니다", null));
     }
-}
 
+    /**
+     * 여러 회원의 상태를 일괄 변경한다.
+     *
+     * @param status  설정할 상태
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @return 일괄 처리 결과 wrapped ApiResponse
+     */
+    @Operation(summary = "회원 상태 일괄 변경", description = "ID 목록 또는 검색 조건에 해당하는 회원의 상태를 일괄 변경합니다 (ACTIVE, SUSPENDED, DELETED).")
+    @PutMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkModerationResponse>> bulkUpdateStatus(
+            @RequestParam User.UserStatus status,
+            @RequestBody BulkUserRequest request) {
+        BulkModerationResponse result = adminUserService.bulkUpdateStatus(request, status);
+        return ResponseEntity.ok(ApiResponse.success("회원 상태가 일괄 변경되었습니다", result));
+    }
+}
@@ -1,24 +1,21 @@
 package com.debate.controller;
 
 import com.debate.dto.response.ApiResponse;
+import com.debate.service.FileStorageService;
+import com.debate.service.ImageVariantService;
 import com.debate.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.io.InputStream;
 
 /**
  * 파일 업로드 관련 REST API 컨트롤러
@@ -31,12 +28,8 @@ import java.util.UUID;
 @Slf4j
 public class FileUploadController {
     private final SecurityUtil securityUtil;
-
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
-
-    @Value("${file.upload-url-prefix:/uploads}")
-    private String uploadUrlPrefix;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
 
     /**
      * 이미지 파일 업로드
@@ -72,29 +65,16 @@ public class FileUploadController {
                     .body(ApiResponse.error("파일 크기는 10MB 이하여야 합니다"));
         }
 
-        try {
-            // 업로드 디렉토리 생성 (절대 경로로 변환)
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // 고유한 파일명 생성 (UUID + 원본 파일명)
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String filename = UUID.randomUUID().toString() + extension;
-
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream inputStream = file.getInputStream()) {
+            // 내용 해시 기반으로 저장 (같은 내용이면 기존 URL 재사용)
+            FileStorageService.StoredFile stored = fileStorageService.store(inputStream, file.getOriginalFilename());
+            String imageUrl = stored.url();
 
-            // 이미지 URL 생성
-            String imageUrl = uploadUrlPrefix + "/" + filename;
+            // 축소본/재압축본은 백그라운드에서 생성 (이미 생성된 경우 건너뜀)
+            imageVariantService.generateAsync(stored.path());
 
-            log.info("이미지 업로드 성공: adminId={}, filename={}, url={}", adminId, filename, imageUrl);
+            log.info("이미지 업로드 성공: adminId={}, hash={}, duplicate={}, url={}",
+                    adminId, stored.hash(), stored.duplicate(), imageUrl);
 
             return ResponseEntity.ok(ApiResponse.success("이미지가 업로드되었습니다", imageUrl));
 
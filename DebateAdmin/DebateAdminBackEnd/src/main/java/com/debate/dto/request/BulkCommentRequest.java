@@ -0,0 +1,41 @@
+package com.debate.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 댓글 일괄 운영(숨김/삭제) 대상 지정 DTO.
+ * <p>
+ * {@code ids}가 있으면 해당 ID만 처리하고, 없으면 댓글 검색 API와 동일한 조건(keyword/isHidden)에
+ * 일치하는 댓글 전체를 처리한다. 두 방식 모두 지정하지 않으면 요청이 거부된다.
+ */
+@Data
+public class BulkCommentRequest {
+    /** 처리할 댓글 ID 목록 */
+    private List<Long> ids;
+
+    /** 댓글 내용 검색 키워드 */
+    private String keyword;
+
+    /** 숨김 여부 필터 */
+    private Boolean isHidden;
+
+    /**
+     * ID 목록이 지정되었는지 확인한다.
+     *
+     * @return ID 목록 지정 여부
+     */
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * 검색 조건이 하나 이상 지정되었는지 확인한다.
+     *
+     * @return 검색 조건 지정 여부
+     */
+    public boolean hasFilter() {
+        return (keyword != null && !keyword.isBlank()) || isHidden != null;
+    }
+}
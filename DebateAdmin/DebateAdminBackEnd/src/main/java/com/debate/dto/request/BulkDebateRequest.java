@@ -0,0 +1,45 @@
+package com.debate.dto.request;
+
+import com.debate.entity.Debate;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 토론 일괄 운영(숨김/상태 변경) 대상 지정 DTO.
+ * <p>
+ * {@code ids}가 있으면 해당 ID만 처리하고, 없으면 토론 검색 API와 동일한 조건(keyword/status/isHidden)에
+ * 일치하는 토론 전체를 처리한다. 두 방식 모두 지정하지 않으면 요청이 거부된다.
+ */
+@Data
+public class BulkDebateRequest {
+    /** 처리할 토론 ID 목록 */
+    private List<Long> ids;
+
+    /** 제목/내용 검색 키워드 */
+    private String keyword;
+
+    /** 토론 상태 필터 */
+    private Debate.DebateStatus status;
+
+    /** 숨김 여부 필터 */
+    private Boolean isHidden;
+
+    /**
+     * ID 목록이 지정되었는지 확인한다.
+     *
+     * @return ID 목록 지정 여부
+     */
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * 검색 조건이 하나 이상 지정되었는지 확인한다.
+     *
+     * @return 검색 조건 지정 여부
+     */
+    public boolean hasFilter() {
+        return (keyword != null && !keyword.isBlank()) || status != null || isHidden != null;
+    }
+}
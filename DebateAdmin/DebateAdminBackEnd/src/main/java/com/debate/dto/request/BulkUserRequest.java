@@ -0,0 +1,42 @@
+package com.debate.dto.request;
+
+import com.debate.entity.User;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 회원 일괄 상태 변경 대상 지정 DTO.
+ * <p>
+ * {@code ids}가 있으면 해당 ID만 처리하고, 없으면 회원 검색 API와 동일한 조건(keyword/status)에
+ * 일치하는 회원 전체를 처리한다. 두 방식 모두 지정하지 않으면 요청이 거부된다.
+ */
+@Data
+public class BulkUserRequest {
+    /** 처리할 회원 ID 목록 */
+    private List<Long> ids;
+
+    /** 이메일/닉네임 검색 키워드 */
+    private String keyword;
+
+    /** 회원 상태 필터 */
+    private User.UserStatus status;
+
+    /**
+     * ID 목록이 지정되었는지 확인한다.
+     *
+     * @return ID 목록 지정 여부
+     */
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * 검색 조건이 하나 이상 지정되었는지 확인한다.
+     *
+     * @return 검색 조건 지정 여부
+     */
+    public boolean hasFilter() {
+        return (keyword != null && !keyword.isBlank()) || status != null;
+    }
+}
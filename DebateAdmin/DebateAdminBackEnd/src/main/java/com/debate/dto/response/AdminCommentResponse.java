@@ -0,0 +1,50 @@
+package com.debate.dto.response;
+
+import com.debate.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 화면의 댓글 목록/상세 DTO.
+ * <p>
+ * 토론과 부모 댓글은 ID만 담는다 (외래 키 값이라 추가 조회가 없다).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminCommentResponse {
+    private Long id;
+    private Long userId;
+    private UserSummaryResponse user;
+    private Long debateId;
+    private Long parentId;
+    private String content;
+    private Boolean isHidden;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 댓글 엔티티를 DTO로 변환한다.
+     *
+     * @param comment 댓글 엔티티 (작성자를 함께 읽어 둔 상태)
+     * @return 댓글 DTO
+     */
+    public static AdminCommentResponse from(Comment comment) {
+        return AdminCommentResponse.builder()
+                .id(comment.getId())
+                .userId(comment.getUser().getId())
+                .user(UserSummaryResponse.from(comment.getUser()))
+                .debateId(comment.getDebate().getId())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .content(comment.getContent())
+                .isHidden(comment.getIsHidden())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+}
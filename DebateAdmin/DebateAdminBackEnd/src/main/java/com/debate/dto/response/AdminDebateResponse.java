@@ -0,0 +1,60 @@
+package com.debate.dto.response;
+
+import com.debate.entity.Debate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 화면의 토론 목록/상세 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminDebateResponse {
+    private Long id;
+    private Long userId;
+    private UserSummaryResponse user;
+    private Long categoryId;
+    private String categoryName;
+    private String title;
+    private String content;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Debate.DebateStatus status;
+    private Boolean isHidden;
+    private Integer viewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 토론 엔티티를 DTO로 변환한다.
+     * <p>
+     * 작성자와 카테고리는 조회 시 {@code @EntityGraph}로 함께 읽어 둔 상태여야 한다.
+     *
+     * @param debate 토론 엔티티
+     * @return 토론 DTO
+     */
+    public static AdminDebateResponse from(Debate debate) {
+        return AdminDebateResponse.builder()
+                .id(debate.getId())
+                .userId(debate.getUser().getId())
+                .user(UserSummaryResponse.from(debate.getUser()))
+                .categoryId(debate.getCategory().getId())
+                .categoryName(debate.getCategory().getName())
+                .title(debate.getTitle())
+                .content(debate.getContent())
+                .startDate(debate.getStartDate())
+                .endDate(debate.getEndDate())
+                .status(debate.getStatus())
+                .isHidden(debate.getIsHidden())
+                .viewCount(debate.getViewCount())
+                .createdAt(debate.getCreatedAt())
+                .updatedAt(debate.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.debate.dto.response;
+
+import com.debate.entity.Report;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 화면의 신고 목록/상세 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminReportResponse {
+    private Long id;
+    private Long reporterId;
+    private UserSummaryResponse reporter;
+    private Report.TargetType targetType;
+    private Long targetId;
+    private String reason;
+    private String description;
+    private Report.ReportStatus status;
+    private Long processedBy;
+    private LocalDateTime processedAt;
+    private LocalDateTime createdAt;
+
+    /**
+     * 신고 엔티티를 DTO로 변환한다.
+     *
+     * @param report 신고 엔티티 (신고자를 함께 읽어 둔 상태)
+     * @return 신고 DTO
+     */
+    public static AdminReportResponse from(Report report) {
+        return AdminReportResponse.builder()
+                .id(report.getId())
+                .reporterId(report.getReporter().getId())
+                .reporter(UserSummaryResponse.from(report.getReporter()))
+                .targetType(report.getTargetType())
+                .targetId(report.getTargetId())
+                .reason(report.getReason())
+                .description(report.getDescription())
+                .status(report.getStatus())
+                .processedBy(report.getProcessedBy())
+                .processedAt(report.getProcessedAt())
+                .createdAt(report.getCreatedAt())
+                .build();
+    }
+}
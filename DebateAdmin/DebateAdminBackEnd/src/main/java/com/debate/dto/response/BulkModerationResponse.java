@@ -0,0 +1,41 @@
+package com.debate.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 운영 작업 결과 DTO.
+ * <p>
+ * 처리 대상 수, 실제로 반영된 ID 목록, 존재하지 않아 건너뛴 ID 목록, 처리한 청크 수를 담는다.
+ * 검색 조건 모드에서 최대 처리 건수에 도달하면 {@code hasMore}가 true가 되어 재요청이 필요함을 알린다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkModerationResponse {
+    /** 작업 종류 (예: DEBATE_HIDE, COMMENT_DELETE) */
+    private String action;
+
+    /** 처리 대상으로 선택된 건수 */
+    private int requested;
+
+    /** 실제로 반영된 건수 */
+    private int affected;
+
+    /** 실제로 반영된 ID 목록 */
+    private List<Long> affectedIds;
+
+    /** 존재하지 않아 건너뛴 ID 목록 (ID 지정 모드에서만 채워짐) */
+    private List<Long> notFoundIds;
+
+    /** 처리한 청크(트랜잭션) 수 */
+    private int chunks;
+
+    /** 최대 처리 건수 제한으로 남은 대상이 있는지 여부 */
+    private boolean hasMore;
+}
@@ -0,0 +1,34 @@
+package com.debate.dto.response;
+
+import com.debate.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토론/댓글/신고 응답에 포함되는 작성자(신고자) 요약 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+    private Long id;
+    private String email;
+    private String nickname;
+
+    /**
+     * 회원 엔티티를 요약 DTO로 변환한다.
+     *
+     * @param user 회원 엔티티 (조회 시 함께 읽어 둔 상태여야 한다)
+     * @return 회원 요약 DTO
+     */
+    public static UserSummaryResponse from(User user) {
+        return UserSummaryResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 로그를 저장하는 엔티티.
+ * <p>
+ * 관리자/사용자 백엔드가 공유 데이터를 수정한 트랜잭션 안에서 기록하고, 모든 인스턴스가 ID 순서로 읽어 자기 캐시를 비운다.
+ * 행 기록과 조회는 {@link com.debate.service.CacheInvalidationBus}가 JDBC로 처리하며, 엔티티는 스키마 정의용이다.
+ * <br>
+ * 사용자 백엔드의 같은 엔티티와 테이블 정의가 같아야 한다.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+    @Index(name = "idx_created_at", columnList = "created_at")
+})
+@Comment("캐시 무효화 로그 테이블")
+@Getter
+@NoArgsConstructor
+public class CacheInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("무효화 로그 ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    @Comment("대상 타입 (DEBATE: 토론, COMMENT: 댓글, USER: 사용자, CATEGORY: 카테고리)")
+    private TargetType targetType;
+
+    @Column(name = "target_id")
+    @Comment("대상 ID (NULL: 타입 전체)")
+    private Long targetId;
+
+    @Column(name = "category_id")
+    @Comment("대상 토론의 카테고리 ID (NULL: 없음)")
+    private Long categoryId;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    /**
+     * 무효화 대상 타입.
+     */
+    public enum TargetType {
+        DEBATE,   // 토론
+        COMMENT,  // 댓글
+        USER,     // 사용자
+        CATEGORY  // 카테고리
+    }
+}
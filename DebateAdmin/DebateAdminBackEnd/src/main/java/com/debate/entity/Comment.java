@@ -30,7 +30,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comments_id")
+    @TableGenerator(name = "comments_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "comments", allocationSize = IdSequences.ALLOCATION_SIZE)
     @org.hibernate.annotations.Comment("댓글 ID")
     private Long id;
 
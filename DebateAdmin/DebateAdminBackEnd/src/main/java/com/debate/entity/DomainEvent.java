@@ -0,0 +1,91 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 저장하는 엔티티(트랜잭셔널 아웃박스).
+ * <p>
+ * 관리자 운영 작업(숨김, 상태 변경, 삭제, 신고 처리)이 원래 테이블을 수정한 트랜잭션 안에서 한 행씩 기록하며,
+ * 사용자 백엔드의 전달기가 이벤트를 읽어 파생 데이터(집계, 통계, 검색 색인, 알림 등)를 갱신한다.
+ * 행 기록은 {@link com.debate.service.DomainEventPublisher}가 JDBC로 처리한다.
+ * <br>
+ * 사용자 백엔드의 같은 엔티티와 테이블 정의, 이벤트 타입이 같아야 한다.
+ */
+@Entity
+@Table(name = "domain_events", indexes = {
+    @Index(name = "idx_created_at", columnList = "created_at")
+})
+@Comment("도메인 이벤트 테이블 (트랜잭셔널 아웃박스)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DomainEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("이벤트 ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    @Comment("이벤트 타입")
+    private EventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    @Comment("대상 타입 (DEBATE: 토론, COMMENT: 댓글, USER: 사용자, REPORT: 신고)")
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    @Comment("대상 ID")
+    private Long aggregateId;
+
+    @Column(name = "actor_id")
+    @Comment("작업한 사용자 ID (관리자 작업은 NULL)")
+    private Long actorId;
+
+    @Column(length = 1000)
+    @Comment("부가 정보 (JSON)")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    /**
+     * 이벤트 대상 타입.
+     */
+    public enum AggregateType {
+        DEBATE,   // 토론
+        COMMENT,  // 댓글
+        USER,     // 사용자
+        REPORT    // 신고
+    }
+
+    /**
+     * 이벤트 타입(대상 타입과 부가 정보 키).
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum EventType {
+        LIKE_ADDED(AggregateType.DEBATE),              // 좋아요
+        LIKE_REMOVED(AggregateType.DEBATE),            // 좋아요 취소
+        OPINION_CREATED(AggregateType.DEBATE),         // 입장 선택 {opinionId, side}
+        DEBATE_UPDATED(AggregateType.DEBATE),          // 관리자 토론 수정
+        DEBATE_STATUS_CHANGED(AggregateType.DEBATE),   // 관리자 상태 변경 {status}
+        DEBATE_HIDDEN_CHANGED(AggregateType.DEBATE),   // 관리자 숨김 변경 {hidden}
+        DEBATE_DELETED(AggregateType.DEBATE),          // 관리자 토론 삭제
+        COMMENT_CREATED(AggregateType.COMMENT),        // 댓글 작성 {debateId, parentId}
+        COMMENT_DELETED(AggregateType.COMMENT),        // 댓글 삭제 {debateId} (관리자 삭제는 부가 정보 없음)
+        COMMENT_HIDDEN_CHANGED(AggregateType.COMMENT), // 관리자 숨김 변경 {hidden}
+        USER_STATUS_CHANGED(AggregateType.USER),       // 관리자 회원 상태 변경 {status}
+        REPORT_CREATED(AggregateType.REPORT),          // 신고 {targetType, targetId}
+        REPORT_PROCESSED(AggregateType.REPORT);        // 관리자 신고 처리 {status}
+
+        private final AggregateType aggregateType;
+    }
+}
@@ -0,0 +1,20 @@
+package com.debate.entity;
+
+/**
+ * 테이블 기반 ID 생성기 설정.
+ * <p>
+ * 대량으로 쌓이는 테이블(좋아요, 댓글, 신고)은 IDENTITY 대신 id_sequences 테이블에서
+ * ID를 한 번에 {@link #ALLOCATION_SIZE}개씩 받아 사용한다(pooled 최적화).
+ * IDENTITY는 INSERT 직후 생성된 키를 받아야 해서 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * <br>
+ * 사용자 백엔드의 같은 테이블 엔티티와 반드시 같은 값을 사용해야 한다(ID 중복 방지).
+ */
+public final class IdSequences {
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdSequences() {
+    }
+}
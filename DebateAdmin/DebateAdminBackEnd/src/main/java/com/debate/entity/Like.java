@@ -30,7 +30,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Like {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "likes_id")
+    @TableGenerator(name = "likes_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "likes", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Comment("좋아요 ID")
     private Long id;
 
@@ -2,6 +2,8 @@ package com.debate.exception;
 
 import com.debate.dto.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LazyInitializationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -62,6 +64,22 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    /**
+     * 동시 처리 한도를 넘었을 때 429 Too Many Requests 응답을 생성한다.
+     * <p>
+     * 정상적인 제한 동작이므로 경고 수준으로만 기록하고, Retry-After 헤더로 재시도 시점을 알린다.
+     *
+     * @param e {@link TooManyRequestsException}
+     * @return 429 응답과 에러 메시지를 담은 ApiResponse
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("Too many requests: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * 요청 본문 검증이 실패했을 때 400 응답을 생성한다.
      * <p>
@@ -84,6 +102,21 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("유효성 검증 실패"));
     }
 
+    /**
+     * 트랜잭션 밖에서 지연 로딩을 시도했을 때 500 응답을 생성한다.
+     * <p>
+     * 서비스 조회에서 필요한 연관을 {@code @EntityGraph}로 함께 읽지 않았다는 뜻이므로 별도로 로그를 남긴다.
+     *
+     * @param e {@link LazyInitializationException}
+     * @return 500 응답과 기본 오류 메시지를 담은 ApiResponse
+     */
+    @ExceptionHandler(LazyInitializationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleLazyInitializationException(LazyInitializationException e) {
+        log.error("[ADMIN-DB] 트랜잭션 밖 지연 로딩 시도 - fetch plan 누락: {}", e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다"));
+    }
+
     /**
      * 기타 예상하지 못한 예외를 처리한다.
      * <p>
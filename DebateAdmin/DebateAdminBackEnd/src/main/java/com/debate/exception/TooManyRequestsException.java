@@ -0,0 +1,23 @@
+package com.debate.exception;
+
+/**
+ * 서버의 동시 처리 한도를 넘었을 때 던지는 예외.
+ * <p>
+ * 요청 자체는 올바르지만 지금은 처리할 수 없는 상황(동시 내보내기 한도 초과 등)을 나타내며
+ * {@link GlobalExceptionHandler}가 429 Too Many Requests와 Retry-After 헤더로 변환한다.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 다시 시도할 수 있을 때까지의 시간(초, Retry-After 헤더 값).
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,7 +1,10 @@
 package com.debate.repository;
 
 import com.debate.entity.Admin;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,6 +20,10 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
      * @param adminId 관리자 로그인 아이디
      * @return 관리자 Optional
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "query.admin")
+    })
     Optional<Admin> findByAdminId(String adminId);
 
     /**
@@ -5,18 +5,26 @@ import com.debate.entity.Comment;
 import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 댓글 리포지토리.
  */
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    /** 작성자를 함께 읽어 단건 조회 (관리자 상세/수정 응답용) */
+    @EntityGraph(attributePaths = "user")
+    Optional<Comment> findDetailById(Long id);
+
     /** 특정 토론의 최상위 댓글을 공개 상태로 페이지 조회 */
     Page<Comment> findByDebateAndIsHiddenFalseAndParentIsNull(Debate debate, Pageable pageable);
 
@@ -29,6 +37,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /** 토론별 공개 댓글 수 */
     long countByDebateAndIsHiddenFalse(Debate debate);
     
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT c FROM Comment c WHERE " +
            "(:keyword IS NULL OR :keyword = '' OR c.content LIKE %:keyword%) " +
            "AND (:isHidden IS NULL OR c.isHidden = :isHidden)")
@@ -36,5 +45,39 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> searchComments(@Param("keyword") String keyword,
                                 @Param("isHidden") Boolean isHidden,
                                 Pageable pageable);
-}
 
+    /** 주어진 ID 중 실제로 존재하는 댓글 ID를 오름차순으로 조회 (일괄 작업 용도) */
+    @Query("SELECT c.id FROM Comment c WHERE c.id IN :ids ORDER BY c.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /** 주어진 부모 댓글들의 직계 대댓글 ID 조회 */
+    @Query("SELECT c.id FROM Comment c WHERE c.parent.id IN :parentIds")
+    List<Long> findIdsByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+
+    /**
+     * 검색 조건에 맞는 댓글 ID를 {@code afterId} 이후부터 오름차순으로 조회한다 (일괄 작업 키셋 페이징).
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.id > :afterId " +
+           "AND (:keyword IS NULL OR :keyword = '' OR c.content LIKE %:keyword%) " +
+           "AND (:isHidden IS NULL OR c.isHidden = :isHidden) " +
+           "ORDER BY c.id")
+    List<Long> findIdsForBulk(@Param("afterId") Long afterId,
+                              @Param("keyword") String keyword,
+                              @Param("isHidden") Boolean isHidden,
+                              Pageable pageable);
+
+    /** 여러 댓글의 숨김 여부를 한 번에 변경 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.isHidden = :hidden, c.updatedAt = LOCAL DATETIME WHERE c.id IN :ids")
+    int updateHiddenByIds(@Param("ids") Collection<Long> ids, @Param("hidden") Boolean hidden);
+
+    /** 주어진 댓글 중 대댓글이 없는 댓글 ID 조회 */
+    @Query("SELECT c.id FROM Comment c WHERE c.id IN :ids " +
+           "AND NOT EXISTS (SELECT r.id FROM Comment r WHERE r.parent.id = c.id)")
+    List<Long> findLeafIds(@Param("ids") Collection<Long> ids);
+
+    /** 여러 댓글을 한 번에 삭제 (대댓글이 먼저 삭제되어 있어야 한다) */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
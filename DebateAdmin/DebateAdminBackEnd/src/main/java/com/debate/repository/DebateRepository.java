@@ -6,13 +6,17 @@ import com.debate.entity.Category;
 import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 토론(Debate) 엔티티용 리포지토리.
@@ -21,6 +25,10 @@ import java.util.List;
  */
 @Repository
 public interface DebateRepository extends JpaRepository<Debate, Long> {
+    /** 작성자와 카테고리를 함께 읽어 단건 조회 (관리자 상세/수정 응답용) */
+    @EntityGraph(attributePaths = {"user", "category"})
+    Optional<Debate> findDetailById(Long id);
+
     /** 숨겨지지 않은 토론을 페이지 조회 */
     Page<Debate> findByIsHiddenFalse(Pageable pageable);
 
@@ -33,6 +41,7 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
     /** 상태별 공개 토론을 페이지 조회 */
     Page<Debate> findByStatusAndIsHiddenFalse(DebateStatus status, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT d FROM Debate d WHERE " +
            "(:keyword IS NULL OR :keyword = '' OR " +
            "d.title LIKE %:keyword% OR d.content LIKE %:keyword%) " +
@@ -52,6 +61,7 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
     /** 종료일 기준으로 상태를 가진 토론 조회 (스케줄러 용도) */
     List<Debate> findByStatusAndEndDateLessThanEqual(DebateStatus status, LocalDateTime now);
     
+    @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT d FROM Debate d WHERE d.isHidden = false ORDER BY d.viewCount DESC")
     /**
      * 조회수가 높은 공개 토론을 상위 N개 반환.
@@ -63,5 +73,33 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
 
     /** 숨김되지 않은 토론 수 카운트 */
     long countByIsHiddenFalse();
-}
 
+    /** 주어진 ID 중 실제로 존재하는 토론 ID를 오름차순으로 조회 (일괄 작업 용도) */
+    @Query("SELECT d.id FROM Debate d WHERE d.id IN :ids ORDER BY d.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 조건에 맞는 토론 ID를 {@code afterId} 이후부터 오름차순으로 조회한다 (일괄 작업 키셋 페이징).
+     */
+    @Query("SELECT d.id FROM Debate d WHERE d.id > :afterId " +
+           "AND (:keyword IS NULL OR :keyword = '' OR " +
+           "d.title LIKE %:keyword% OR d.content LIKE %:keyword%) " +
+           "AND (:status IS NULL OR d.status = :status) " +
+           "AND (:isHidden IS NULL OR d.isHidden = :isHidden) " +
+           "ORDER BY d.id")
+    List<Long> findIdsForBulk(@Param("afterId") Long afterId,
+                              @Param("keyword") String keyword,
+                              @Param("status") DebateStatus status,
+                              @Param("isHidden") Boolean isHidden,
+                              Pageable pageable);
+
+    /** 여러 토론의 숨김 여부를 한 번에 변경 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Debate d SET d.isHidden = :hidden, d.updatedAt = LOCAL DATETIME WHERE d.id IN :ids")
+    int updateHiddenByIds(@Param("ids") Collection<Long> ids, @Param("hidden") Boolean hidden);
+
+    /** 여러 토론의 상태를 한 번에 변경 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Debate d SET d.status = :status, d.updatedAt = LOCAL DATETIME WHERE d.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") DebateStatus status);
+}
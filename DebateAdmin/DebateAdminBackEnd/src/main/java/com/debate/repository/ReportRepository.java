@@ -6,6 +6,7 @@ import com.debate.entity.Report.TargetType;
 import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,7 +18,16 @@ import java.util.Optional;
  */
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
+    /** 신고자를 함께 읽어 단건 조회 (관리자 상세/처리 응답용) */
+    @EntityGraph(attributePaths = "reporter")
+    Optional<Report> findDetailById(Long id);
+
+    /** 신고자를 함께 읽어 전체 신고 목록 페이지 조회 */
+    @EntityGraph(attributePaths = "reporter")
+    Page<Report> findAllBy(Pageable pageable);
+
     /** 상태별 신고 목록 페이지 조회 */
+    @EntityGraph(attributePaths = "reporter")
     Page<Report> findByStatus(ReportStatus status, Pageable pageable);
 
     /** 신고 대상 유형과 ID로 신고 내역 조회 */
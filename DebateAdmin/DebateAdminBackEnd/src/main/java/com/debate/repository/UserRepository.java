@@ -4,10 +4,13 @@ import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,5 +32,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> searchUsers(@Param("keyword") String keyword, 
                           @Param("status") User.UserStatus status, 
                           Pageable pageable);
-}
 
+    /** 주어진 ID 중 실제로 존재하는 회원 ID를 오름차순으로 조회 (일괄 작업 용도) */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 조건에 맞는 회원 ID를 {@code afterId} 이후부터 오름차순으로 조회한다 (일괄 작업 키셋 페이징).
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId " +
+           "AND (:keyword IS NULL OR :keyword = '' OR " +
+           "u.email LIKE %:keyword% OR u.nickname LIKE %:keyword%) " +
+           "AND (:status IS NULL OR u.status = :status) " +
+           "ORDER BY u.id")
+    List<Long> findIdsForBulk(@Param("afterId") Long afterId,
+                              @Param("keyword") String keyword,
+                              @Param("status") User.UserStatus status,
+                              Pageable pageable);
+
+    /** 여러 회원의 상태를 한 번에 변경 */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.updatedAt = LOCAL DATETIME WHERE u.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") User.UserStatus status);
+}
@@ -23,6 +23,7 @@ public class AdminAuthService {
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final AdminMetrics adminMetrics;
 
     /**
      * 관리자 로그인 요청을 처리한다.
@@ -37,21 +38,25 @@ public class AdminAuthService {
         Admin admin = adminRepository.findByAdminId(request.getAdminId())
                 .orElseThrow(() -> {
                     log.warn("[ADMIN-AUTH] 로그인 실패 - 존재하지 않는 관리자 adminId={}", request.getAdminId());
+                    adminMetrics.loginFailed("bad_credentials");
                     return new UnauthorizedException("관리자 아이디 또는 비밀번호가 올바르지 않습니다");
                 });
 
         if (!passwordEncoder.matches(request.getPassword(), admin.getPassword())) {
             log.warn("[ADMIN-AUTH] 로그인 실패 - 비밀번호 불일치 adminId={}", request.getAdminId());
+            adminMetrics.loginFailed("bad_credentials");
             throw new UnauthorizedException("관리자 아이디 또는 비밀번호가 올바르지 않습니다");
         }
 
         if (admin.getStatus() != Admin.AdminStatus.ACTIVE) {
             log.warn("[ADMIN-AUTH] 로그인 실패 - 비활성 계정 adminId={}, status={}", request.getAdminId(), admin.getStatus());
+            adminMetrics.loginFailed("inactive");
             throw new UnauthorizedException("비활성화된 관리자 계정입니다");
         }
 
         String token = jwtUtil.generateToken(admin.getId(), admin.getAdminId());
 
+        adminMetrics.loginSucceeded();
         log.info("[ADMIN-AUTH] 로그인 성공 - adminId={}, role={}", admin.getAdminId(), admin.getRole());
 
         return AdminAuthResponse.builder()
@@ -1,5 +1,6 @@
 package com.debate.service;
 
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.Category;
 import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
@@ -19,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminCategoryService {
     private final CategoryRepository categoryRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     /**
      * 카테고리를 정렬 순서 기준으로 전체 조회한다.
@@ -60,7 +63,10 @@ public class AdminCategoryService {
                 .description(description)
                 .orderNum(orderNum != null ? orderNum : 0)
                 .build();
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        entityCacheEvictor.evictAll(Category.class, EntityCacheEvictor.CATEGORY_QUERY_REGION);
+        cacheInvalidationBus.publishAll(CacheInvalidation.TargetType.CATEGORY);
+        return saved;
     }
 
     /**
@@ -84,7 +90,10 @@ public class AdminCategoryService {
         }
         if (description != null) category.setDescription(description);
         if (orderNum != null) category.setOrderNum(orderNum);
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        entityCacheEvictor.evictAll(Category.class, EntityCacheEvictor.CATEGORY_QUERY_REGION);
+        cacheInvalidationBus.publishAll(CacheInvalidation.TargetType.CATEGORY);
+        return saved;
     }
 
     /**
@@ -96,6 +105,8 @@ public class AdminCategoryService {
     public void deleteCategory(Long categoryId) {
         Category category = getCategoryById(categoryId);
         categoryRepository.delete(category);
+        entityCacheEvictor.evictAll(Category.class, EntityCacheEvictor.CATEGORY_QUERY_REGION);
+        cacheInvalidationBus.publishAll(CacheInvalidation.TargetType.CATEGORY);
     }
 }
 
@@ -1,23 +1,41 @@
 package com.debate.service;
 
+import com.debate.dto.request.BulkCommentRequest;
+import com.debate.dto.response.AdminCommentResponse;
+import com.debate.dto.response.BulkModerationResponse;
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.Comment;
+import com.debate.entity.DomainEvent;
+import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * 관리자 댓글 운영 로직을 담당하는 서비스.
  * <p>
  * 댓글 검색, 단일 조회, 숨김 토글, 삭제 기능을 제공한다.
+ * 변경한 댓글은 같은 트랜잭션에서 캐시 무효화 로그와 도메인 이벤트로 남겨 사용자 백엔드 인스턴스의 캐시와 파생 데이터에 반영한다.
  */
 @Service
 @RequiredArgsConstructor
 public class AdminCommentService {
     private final CommentRepository commentRepository;
+    private final BulkModerationExecutor bulkModerationExecutor;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 조건에 맞는 댓글을 페이지 조회한다.
@@ -27,19 +45,31 @@ public class AdminCommentService {
      * @param pageable 페이지 정보
      * @return 댓글 페이지 결과
      */
-    public Page<Comment> searchComments(String keyword, Boolean isHidden, Pageable pageable) {
-        return commentRepository.searchComments(keyword, isHidden, pageable);
+    @Transactional(readOnly = true)
+    public Page<AdminCommentResponse> searchComments(String keyword, Boolean isHidden, Pageable pageable) {
+        return commentRepository.searchComments(keyword, isHidden, pageable)
+                .map(AdminCommentResponse::from);
     }
 
     /**
      * 댓글 ID로 단일 댓글을 조회한다.
      *
      * @param commentId 댓글 ID
-     * @return 댓글 엔티티
+     * @return 댓글 DTO
+     * @throws ResourceNotFoundException 댓글이 없을 때
+     */
+    @Transactional(readOnly = true)
+    public AdminCommentResponse getCommentById(Long commentId) {
+        return AdminCommentResponse.from(findComment(commentId));
+    }
+
+    /**
+     * 작성자를 함께 읽어 댓글 엔티티를 조회한다.
+     *
      * @throws ResourceNotFoundException 댓글이 없을 때
      */
-    public Comment getCommentById(Long commentId) {
-        return commentRepository.findById(commentId)
+    private Comment findComment(Long commentId) {
+        return commentRepository.findDetailById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다"));
     }
 
@@ -50,10 +80,13 @@ public class AdminCommentService {
      * @return 숨김 상태가 변경된 댓글
      */
     @Transactional
-    public Comment toggleCommentHidden(Long commentId) {
-        Comment comment = getCommentById(commentId);
+    public AdminCommentResponse toggleCommentHidden(Long commentId) {
+        Comment comment = findComment(commentId);
         comment.setIsHidden(!comment.getIsHidden());
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.COMMENT, commentId);
+        domainEventPublisher.publish(DomainEvent.EventType.COMMENT_HIDDEN_CHANGED, commentId, null, Map.of("hidden", saved.getIsHidden()));
+        return AdminCommentResponse.from(saved);
     }
 
     /**
@@ -63,8 +96,96 @@ public class AdminCommentService {
      */
     @Transactional
     public void deleteComment(Long commentId) {
-        Comment comment = getCommentById(commentId);
+        Comment comment = findComment(commentId);
         commentRepository.delete(comment);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.COMMENT, commentId);
+        domainEventPublisher.publish(DomainEvent.EventType.COMMENT_DELETED, commentId, null, Map.of());
     }
-}
 
+    /**
+     * 여러 댓글의 숨김 여부를 일괄 설정한다.
+     * <p>
+     * 청크마다 집합 기반 UPDATE 한 번으로 처리하며, 트랜잭션은 청크 단위로 커밋된다.
+     *
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @param hidden  설정할 숨김 여부
+     * @return 일괄 처리 결과
+     */
+    public BulkModerationResponse bulkUpdateHidden(BulkCommentRequest request, boolean hidden) {
+        return runBulk(hidden ? "COMMENT_HIDE" : "COMMENT_UNHIDE", request, ids -> {
+            commentRepository.updateHiddenByIds(ids, hidden);
+            cacheInvalidationBus.publish(CacheInvalidation.TargetType.COMMENT, ids);
+            domainEventPublisher.publishAll(DomainEvent.EventType.COMMENT_HIDDEN_CHANGED, ids, null, Map.of("hidden", hidden));
+            return ids;
+        });
+    }
+
+    /**
+     * 여러 댓글을 일괄 삭제한다.
+     * <p>
+     * 대상 댓글에 달린 대댓글도 함께 삭제하며, 외래 키 제약을 지키기 위해 가장 깊은 댓글부터 지운다.
+     * 함께 삭제된 대댓글 ID도 결과의 영향받은 ID에 포함된다.
+     *
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @return 일괄 처리 결과
+     */
+    public BulkModerationResponse bulkDelete(BulkCommentRequest request) {
+        return runBulk("COMMENT_DELETE", request, this::deleteWithReplies);
+    }
+
+    /**
+     * 댓글과 그 하위 대댓글 전체를 삭제한다.
+     * <p>
+     * 먼저 하위 대댓글을 모두 수집한 뒤, 자식이 남아 있지 않은 댓글(리프)부터 반복해서 지운다.
+     * 삭제 라운드 수는 댓글 트리의 깊이와 같다.
+     *
+     * @param ids 삭제할 댓글 ID
+     * @return 실제로 삭제된 댓글 ID (하위 대댓글 포함)
+     */
+    private List<Long> deleteWithReplies(List<Long> ids) {
+        Set<Long> targets = new LinkedHashSet<>(ids);
+        List<Long> frontier = ids;
+        while (!frontier.isEmpty()) {
+            frontier = commentRepository.findIdsByParentIdIn(frontier).stream()
+                    .filter(targets::add)
+                    .toList();
+        }
+
+        Set<Long> remaining = new LinkedHashSet<>(targets);
+        while (!remaining.isEmpty()) {
+            List<Long> leaves = commentRepository.findLeafIds(remaining);
+            if (leaves.isEmpty()) {
+                // 처리 중 새 대댓글이 달린 경우: 남은 댓글은 건너뛴다
+                break;
+            }
+            commentRepository.deleteByIds(leaves);
+            leaves.forEach(remaining::remove);
+        }
+
+        List<Long> deleted = new ArrayList<>(targets);
+        deleted.removeAll(remaining);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.COMMENT, deleted);
+        domainEventPublisher.publishAll(DomainEvent.EventType.COMMENT_DELETED, deleted, null, Map.of());
+        return deleted;
+    }
+
+    /**
+     * 요청 방식(ID 목록/검색 조건)에 따라 일괄 작업을 실행한다.
+     *
+     * @throws BadRequestException 대상이 지정되지 않았을 때
+     */
+    private BulkModerationResponse runBulk(String action, BulkCommentRequest request,
+                                           Function<List<Long>, List<Long>> chunkAction) {
+        if (request.hasIds()) {
+            return bulkModerationExecutor.executeByIds(action, request.getIds(),
+                    commentRepository::findExistingIds, chunkAction);
+        }
+        if (request.hasFilter()) {
+            return bulkModerationExecutor.executeByFilter(action,
+                    (afterId, limit) -> commentRepository.findIdsForBulk(afterId, request.getKeyword(),
+                            request.getIsHidden(), PageRequest.of(0, limit)),
+                    chunkAction);
+        }
+        throw new BadRequestException("대상 ID 목록 또는 검색 조건을 지정해야 합니다");
+    }
+}
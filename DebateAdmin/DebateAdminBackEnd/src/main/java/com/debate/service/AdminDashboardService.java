@@ -1,5 +1,7 @@
 package com.debate.service;
 
+import com.debate.dto.response.AdminDebateResponse;
+import com.debate.dto.response.AdminReportResponse;
 import com.debate.dto.response.DashboardStatsResponse;
 import com.debate.entity.Debate;
 import com.debate.entity.Report;
@@ -11,10 +13,12 @@ import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 관리자 대시보드를 위한 통계 및 하이라이트 데이터를 제공하는 서비스.
@@ -23,6 +27,7 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AdminDashboardService {
     private final UserRepository userRepository;
     private final DebateRepository debateRepository;
@@ -88,8 +93,10 @@ public class AdminDashboardService {
      * @param limit 조회 상위 개수
      * @return 인기 토론 목록
      */
-    public List<Debate> getTopDebates(int limit) {
-        return debateRepository.findTopByOrderByViewCountDesc(PageRequest.of(0, limit));
+    public List<AdminDebateResponse> getTopDebates(int limit) {
+        return debateRepository.findTopByOrderByViewCountDesc(PageRequest.of(0, limit)).stream()
+                .map(AdminDebateResponse::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -98,8 +105,9 @@ public class AdminDashboardService {
      * @param limit 조회할 신고 수
      * @return 미처리 신고 목록
      */
-    public List<Report> getPendingReports(int limit) {
+    public List<AdminReportResponse> getPendingReports(int limit) {
         return reportRepository.findByStatus(Report.ReportStatus.PENDING, PageRequest.of(0, limit))
+                .map(AdminReportResponse::from)
                 .getContent();
     }
 }
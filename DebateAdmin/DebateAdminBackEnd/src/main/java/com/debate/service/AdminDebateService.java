@@ -1,27 +1,41 @@
 package com.debate.service;
 
+import com.debate.dto.request.BulkDebateRequest;
+import com.debate.dto.response.AdminDebateResponse;
+import com.debate.dto.response.BulkModerationResponse;
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.Debate;
+import com.debate.entity.DomainEvent;
+import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 관리자 토론(Debate) 운영 로직을 담당하는 서비스.
  * <p>
  * 검색, 상세 조회, 정보 수정, 상태 변경, 숨김 토글, 삭제 등의 CRUD 액션을 제공한다.
+ * 변경한 토론은 같은 트랜잭션에서 캐시 무효화 로그와 도메인 이벤트로 남겨 사용자 백엔드 인스턴스의 캐시와 파생 데이터에 반영한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminDebateService {
     private final DebateRepository debateRepository;
+    private final BulkModerationExecutor bulkModerationExecutor;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 조건에 맞는 토론을 페이지 조회한다.
@@ -32,21 +46,33 @@ public class AdminDebateService {
      * @param pageable 페이지 정보
      * @return 토론 페이지 결과
      */
-    public Page<Debate> searchDebates(String keyword, Debate.DebateStatus status, Boolean isHidden, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<AdminDebateResponse> searchDebates(String keyword, Debate.DebateStatus status, Boolean isHidden, Pageable pageable) {
         log.debug("[ADMIN-DEBATE] 토론 검색 - keyword={}, status={}, isHidden={} page={} size={}",
                 keyword, status, isHidden, pageable.getPageNumber(), pageable.getPageSize());
-        return debateRepository.searchDebates(keyword, status, isHidden, pageable);
+        return debateRepository.searchDebates(keyword, status, isHidden, pageable)
+                .map(AdminDebateResponse::from);
     }
 
     /**
-     * 토론 ID로 엔티티를 조회한다.
+     * 토론 상세 정보를 조회한다.
      *
      * @param debateId 토론 ID
-     * @return 존재하는 토론 엔티티
+     * @return 토론 DTO
      * @throws ResourceNotFoundException 토론이 없을 때
      */
-    public Debate getDebateById(Long debateId) {
-        return debateRepository.findById(debateId)
+    @Transactional(readOnly = true)
+    public AdminDebateResponse getDebateById(Long debateId) {
+        return AdminDebateResponse.from(findDebate(debateId));
+    }
+
+    /**
+     * 작성자와 카테고리를 함께 읽어 토론 엔티티를 조회한다.
+     *
+     * @throws ResourceNotFoundException 토론이 없을 때
+     */
+    private Debate findDebate(Long debateId) {
+        return debateRepository.findDetailById(debateId)
                 .orElseThrow(() -> {
                     log.warn("[ADMIN-DEBATE] 토론 조회 실패 - 존재하지 않음 debateId={}", debateId);
                     return new ResourceNotFoundException("토론을 찾을 수 없습니다");
@@ -61,18 +87,20 @@ public class AdminDebateService {
      * @param content   변경할 내용
      * @param startDate 변경할 시작일
      * @param endDate   변경할 종료일
-     * @return 수정된 토론 엔티티
+     * @return 수정된 토론
      */
     @Transactional
-    public Debate updateDebate(Long debateId, String title, String content, LocalDateTime startDate, LocalDateTime endDate) {
-        Debate debate = getDebateById(debateId);
+    public AdminDebateResponse updateDebate(Long debateId, String title, String content, LocalDateTime startDate, LocalDateTime endDate) {
+        Debate debate = findDebate(debateId);
         if (title != null) debate.setTitle(title);
         if (content != null) debate.setContent(content);
         if (startDate != null) debate.setStartDate(startDate);
         if (endDate != null) debate.setEndDate(endDate);
         Debate updated = debateRepository.save(debate);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateId);
+        domainEventPublisher.publish(DomainEvent.EventType.DEBATE_UPDATED, debateId, null, Map.of());
         log.info("[ADMIN-DEBATE] 토론 수정 - debateId={}, title={}", updated.getId(), updated.getTitle());
-        return updated;
+        return AdminDebateResponse.from(updated);
     }
 
     /**
@@ -83,12 +111,14 @@ public class AdminDebateService {
      * @return 상태가 변경된 토론
      */
     @Transactional
-    public Debate updateDebateStatus(Long debateId, Debate.DebateStatus status) {
-        Debate debate = getDebateById(debateId);
+    public AdminDebateResponse updateDebateStatus(Long debateId, Debate.DebateStatus status) {
+        Debate debate = findDebate(debateId);
         debate.setStatus(status);
         Debate updated = debateRepository.save(debate);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateId);
+        domainEventPublisher.publish(DomainEvent.EventType.DEBATE_STATUS_CHANGED, debateId, null, Map.of("status", status.name()));
         log.info("[ADMIN-DEBATE] 토론 상태 변경 - debateId={}, status={}", updated.getId(), updated.getStatus());
-        return updated;
+        return AdminDebateResponse.from(updated);
     }
 
     /**
@@ -98,12 +128,14 @@ public class AdminDebateService {
      * @return 숨김 상태가 토글된 토론
      */
     @Transactional
-    public Debate toggleDebateHidden(Long debateId) {
-        Debate debate = getDebateById(debateId);
+    public AdminDebateResponse toggleDebateHidden(Long debateId) {
+        Debate debate = findDebate(debateId);
         debate.setIsHidden(!debate.getIsHidden());
         Debate updated = debateRepository.save(debate);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateId);
+        domainEventPublisher.publish(DomainEvent.EventType.DEBATE_HIDDEN_CHANGED, debateId, null, Map.of("hidden", updated.getIsHidden()));
         log.info("[ADMIN-DEBATE] 토론 숨김 토글 - debateId={}, hidden={}", updated.getId(), updated.getIsHidden());
-        return updated;
+        return AdminDebateResponse.from(updated);
     }
 
     /**
@@ -113,9 +145,68 @@ public class AdminDebateService {
      */
     @Transactional
     public void deleteDebate(Long debateId) {
-        Debate debate = getDebateById(debateId);
+        Debate debate = findDebate(debateId);
         debateRepository.delete(debate);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateId);
+        domainEventPublisher.publish(DomainEvent.EventType.DEBATE_DELETED, debateId, null, Map.of());
         log.info("[ADMIN-DEBATE] 토론 삭제 - debateId={}", debateId);
     }
-}
 
+    /**
+     * 여러 토론의 숨김 여부를 일괄 설정한다.
+     * <p>
+     * 청크마다 집합 기반 UPDATE 한 번으로 처리하며, 트랜잭션은 청크 단위로 커밋된다.
+     *
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @param hidden  설정할 숨김 여부
+     * @return 일괄 처리 결과
+     */
+    public BulkModerationResponse bulkUpdateHidden(BulkDebateRequest request, boolean hidden) {
+        return runBulk(hidden ? "DEBATE_HIDE" : "DEBATE_UNHIDE", request, ids -> {
+            debateRepository.updateHiddenByIds(ids, hidden);
+            cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, ids);
+            domainEventPublisher.publishAll(DomainEvent.EventType.DEBATE_HIDDEN_CHANGED, ids, null, Map.of("hidden", hidden));
+            return ids;
+        });
+    }
+
+    /**
+     * 여러 토론의 상태를 일괄 변경한다.
+     *
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @param status  설정할 상태
+     * @return 일괄 처리 결과
+     */
+    public BulkModerationResponse bulkUpdateStatus(BulkDebateRequest request, Debate.DebateStatus status) {
+        return runBulk("DEBATE_STATUS_" + status, request, ids -> {
+            debateRepository.updateStatusByIds(ids, status);
+            cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, ids);
+            domainEventPublisher.publishAll(DomainEvent.EventType.DEBATE_STATUS_CHANGED, ids, null, Map.of("status", status.name()));
+            return ids;
+        });
+    }
+
+    /**
+     * 요청 방식(ID 목록/검색 조건)에 따라 일괄 작업을 실행한다.
+     *
+     * @throws BadRequestException 대상이 지정되지 않았을 때
+     */
+    private BulkModerationResponse runBulk(String action, BulkDebateRequest request,
+                                           Function<List<Long>, List<Long>> chunkAction) {
+        BulkModerationResponse result;
+        if (request.hasIds()) {
+            result = bulkModerationExecutor.executeByIds(action, request.getIds(),
+                    debateRepository::findExistingIds, chunkAction);
+        } else if (request.hasFilter()) {
+            result = bulkModerationExecutor.executeByFilter(action,
+                    (afterId, limit) -> debateRepository.findIdsForBulk(afterId, request.getKeyword(),
+                            request.getStatus(), request.getIsHidden(), PageRequest.of(0, limit)),
+                    chunkAction);
+        } else {
+            throw new BadRequestException("대상 ID 목록 또는 검색 조건을 지정해야 합니다");
+        }
+        log.info("[ADMIN-DEBATE] 토론 일괄 처리 - action={}, requested={}, affected={}, notFound={}, hasMore={}",
+                action, result.getRequested(), result.getAffected(), result.getNotFoundIds().size(), result.isHasMore());
+        return result;
+    }
+}
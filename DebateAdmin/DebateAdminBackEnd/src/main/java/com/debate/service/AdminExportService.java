@@ -0,0 +1,517 @@
+package com.debate.service;
+
+import com.debate.entity.Debate;
+import com.debate.entity.Report;
+import com.debate.entity.User;
+import com.debate.exception.BadRequestException;
+import com.debate.exception.TooManyRequestsException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자 데이터 내보내기(CSV/NDJSON) 서비스.
+ * <p>
+ * JPA 엔티티를 거치지 않고 전방 전용(forward-only) JDBC 커서로 행을 하나씩 읽어
+ * 곧바로 응답 스트림에 기록한다. 결과를 리스트로 모으지 않으므로 행 수와 관계없이 힙 사용량이 일정하다.
+ * <p>
+ * MySQL Connector/J는 fetch size가 {@link Integer#MIN_VALUE}일 때 행 단위 스트리밍 모드로 동작하며,
+ * 스트리밍 중에는 커넥션을 계속 점유하므로 동시 내보내기 수를 {@code admin.export.max-concurrent}로 제한한다.
+ * 한도를 넘으면 429와 Retry-After({@code admin.export.retry-after})로 응답한다.
+ */
+@Slf4j
+@Service
+public class AdminExportService {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final Semaphore exportPermits;
+    private final long retryAfterSeconds;
+
+    public AdminExportService(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${admin.export.fetch-size:-2147483648}") int fetchSize,
+                              @Value("${admin.export.max-concurrent:2}") int maxConcurrent,
+                              @Value("${admin.export.retry-after:10s}") Duration retryAfter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.exportPermits = new Semaphore(maxConcurrent);
+        this.retryAfterSeconds = retryAfter.toSeconds();
+    }
+
+    /**
+     * 내보내기 파일 형식.
+     */
+    public enum ExportFormat {
+        CSV("csv", "text/csv; charset=UTF-8"),
+        NDJSON("ndjson", "application/x-ndjson; charset=UTF-8");
+
+        private final String extension;
+        private final String contentType;
+
+        ExportFormat(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 요청 파라미터 문자열을 형식으로 변환한다.
+         *
+         * @param value 형식 문자열 (csv, ndjson)
+         * @return 내보내기 형식
+         * @throws BadRequestException 지원하지 않는 형식일 때
+         */
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 회원 목록을 내보낸다. 조건은 회원 검색 API와 같다.
+     *
+     * @param keyword 이메일/닉네임 검색 키워드
+     * @param status  회원 상태 필터
+     * @param format  내보내기 형식
+     * @return 응답 스트림에 기록하는 본문
+     */
+    public StreamingResponseBody exportUsers(String keyword, User.UserStatus status, ExportFormat format) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT u.id, u.email, u.nickname, u.status, u.email_verified, u.created_at, u.updated_at " +
+                "FROM users u WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (hasText(keyword)) {
+            sql.append(" AND (u.email LIKE ? OR u.nickname LIKE ?)");
+            params.add(like(keyword));
+            params.add(like(keyword));
+        }
+        if (status != null) {
+            sql.append(" AND u.status = ?");
+            params.add(status.name());
+        }
+        sql.append(" ORDER BY u.id");
+        return stream("users", sql.toString(), params, format);
+    }
+
+    /**
+     * 토론 목록을 내보낸다. 조건은 토론 검색 API와 같다.
+     *
+     * @param keyword  제목/내용 검색 키워드
+     * @param status   토론 상태 필터
+     * @param isHidden 숨김 여부 필터
+     * @param format   내보내기 형식
+     * @return 응답 스트림에 기록하는 본문
+     */
+    public StreamingResponseBody exportDebates(String keyword, Debate.DebateStatus status, Boolean isHidden,
+                                               ExportFormat format) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT d.id, d.title, c.name AS category, d.user_id, u.nickname AS author, d.status, " +
+                "d.is_hidden, d.view_count, d.start_date, d.end_date, d.created_at, d.updated_at " +
+                "FROM debate d " +
+                "JOIN categories c ON c.id = d.category_id " +
+                "JOIN users u ON u.id = d.user_id WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (hasText(keyword)) {
+            sql.append(" AND (d.title LIKE ? OR d.content LIKE ?)");
+            params.add(like(keyword));
+            params.add(like(keyword));
+        }
+        if (status != null) {
+            sql.append(" AND d.status = ?");
+            params.add(status.name());
+        }
+        if (isHidden != null) {
+            sql.append(" AND d.is_hidden = ?");
+            params.add(isHidden);
+        }
+        sql.append(" ORDER BY d.id");
+        return stream("debates", sql.toString(), params, format);
+    }
+
+    /**
+     * 댓글 목록을 내보낸다. 조건은 댓글 검색 API와 같다.
+     *
+     * @param keyword  댓글 내용 검색 키워드
+     * @param isHidden 숨김 여부 필터
+     * @param format   내보내기 형식
+     * @return 응답 스트림에 기록하는 본문
+     */
+    public StreamingResponseBody exportComments(String keyword, Boolean isHidden, ExportFormat format) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT c.id, c.debate_id, c.parent_id, c.user_id, u.nickname AS author, c.content, " +
+                "c.is_hidden, c.created_at, c.updated_at " +
+                "FROM comments c " +
+                "JOIN users u ON u.id = c.user_id WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (hasText(keyword)) {
+            sql.append(" AND c.content LIKE ?");
+            params.add(like(keyword));
+        }
+        if (isHidden != null) {
+            sql.append(" AND c.is_hidden = ?");
+            params.add(isHidden);
+        }
+        sql.append(" ORDER BY c.id");
+        return stream("comments", sql.toString(), params, format);
+    }
+
+    /**
+     * 신고 목록을 내보낸다. 조건은 신고 목록 API와 같다.
+     *
+     * @param status 신고 처리 상태 필터
+     * @param format 내보내기 형식
+     * @return 응답 스트림에 기록하는 본문
+     */
+    public StreamingResponseBody exportReports(Report.ReportStatus status, ExportFormat format) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.id, r.reporter_id, u.email AS reporter_email, u.nickname AS reporter_nickname, " +
+                "r.target_type, r.target_id, r.reason, r.description, r.status, " +
+                "r.processed_by, r.processed_at, r.created_at " +
+                "FROM reports r " +
+                "JOIN users u ON u.id = r.reporter_id WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND r.status = ?");
+            params.add(status.name());
+        }
+        sql.append(" ORDER BY r.id");
+        return stream("reports", sql.toString(), params, format);
+    }
+
+    /**
+     * 쿼리 결과를 지정 형식으로 스트리밍하는 응답 본문을 만든다.
+     * <p>
+     * 동시 실행 허가는 호출 시점(요청 스레드)에 확보해 한도 초과를 429로 바로 응답하고, 스트리밍이 끝나면 반납한다.
+     * 본문이 실행되지 못한 채 비동기 요청이 끝나면(시간 초과, 실행 거부, 연결 끊김) 완료 콜백에서 반납하며,
+     * 그 뒤에 본문이 실행되더라도 아무것도 쓰지 않는다.
+     *
+     * @throws TooManyRequestsException 동시 내보내기 한도를 넘었을 때
+     */
+    private StreamingResponseBody stream(String name, String sql, List<Object> params, ExportFormat format) {
+        if (!exportPermits.tryAcquire()) {
+            log.warn("[ADMIN-EXPORT] 동시 내보내기 한도 초과 - target={}", name);
+            throw new TooManyRequestsException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요", retryAfterSeconds);
+        }
+        ExportPermit permit = new ExportPermit();
+        try {
+            releaseOnAsyncCompletion(permit);
+        } catch (RuntimeException e) {
+            permit.abandon();
+            throw e;
+        }
+
+        return out -> {
+            if (!permit.start()) {
+                log.warn("[ADMIN-EXPORT] 요청이 먼저 종료되어 내보내기 생략 - target={}", name);
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            try {
+                long rows = jdbcTemplate.query(forwardOnly(sql, params), writeRows(out, format));
+                log.info("[ADMIN-EXPORT] 내보내기 완료 - target={}, format={}, rows={}, elapsedMs={}",
+                        name, format, rows, System.currentTimeMillis() - startedAt);
+            } catch (UncheckedIOException e) {
+                // 다운로드 중 클라이언트 연결이 끊긴 경우
+                log.warn("[ADMIN-EXPORT] 내보내기 중단 - target={}, format={}, reason={}",
+                        name, format, e.getCause().getMessage());
+            } finally {
+                permit.release();
+            }
+        };
+    }
+
+    /**
+     * 현재 요청의 비동기 처리가 끝나면(정상 완료, 시간 초과, 오류) 본문이 시작되지 않은 허가를 반납하도록 등록한다.
+     */
+    private void releaseOnAsyncCompletion(ExportPermit permit) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest()).registerCallableInterceptor(permit,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            permit.abandon();
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 내보내기 한 건의 동시 실행 허가.
+     * <p>
+     * 본문 실행이 끝날 때와 요청이 본문 시작 전에 끝날 때 중 먼저 일어난 쪽이 한 번만 반납한다.
+     */
+    private final class ExportPermit {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int RELEASED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        /**
+         * 본문 실행을 시작한다. 이미 반납된 허가면 false를 반환한다.
+         */
+        private boolean start() {
+            return state.compareAndSet(PENDING, RUNNING);
+        }
+
+        /**
+         * 본문 실행이 끝나 허가를 반납한다.
+         */
+        private void release() {
+            if (state.getAndSet(RELEASED) != RELEASED) {
+                exportPermits.release();
+            }
+        }
+
+        /**
+         * 본문이 시작되지 않았으면 허가를 반납한다. 실행 중이면 본문이 끝날 때 반납한다.
+         */
+        private void abandon() {
+            if (state.compareAndSet(PENDING, RELEASED)) {
+                exportPermits.release();
+            }
+        }
+    }
+
+    /**
+     * 전방 전용·읽기 전용 커서로 실행하는 PreparedStatement를 만든다.
+     */
+    private PreparedStatementCreator forwardOnly(String sql, List<Object> params) {
+        return connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        };
+    }
+
+    /**
+     * 결과 집합을 한 행씩 읽어 응답 스트림에 기록하고, 기록한 행 수를 반환한다.
+     */
+    private ResultSetExtractor<Long> writeRows(OutputStream out, ExportFormat format) {
+        return rs -> {
+            try (RowWriter writer = format == ExportFormat.CSV
+                    ? new CsvRowWriter(out)
+                    : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8))) {
+                ResultSetMetaData meta = rs.getMetaData();
+                writer.writeHeader(meta);
+                long rows = 0;
+                while (rs.next()) {
+                    writer.writeRow(rs, meta.getColumnCount());
+                    rows++;
+                }
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String like(String keyword) {
+        return "%" + keyword + "%";
+    }
+
+    /**
+     * 결과 행을 특정 형식으로 기록하는 작성기.
+     */
+    private interface RowWriter extends AutoCloseable {
+        void writeHeader(ResultSetMetaData meta) throws SQLException, IOException;
+
+        void writeRow(ResultSet rs, int columnCount) throws SQLException, IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * RFC 4180 형식의 CSV 작성기.
+     * <p>
+     * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 기록하고,
+     * 수식으로 해석될 수 있는 문자열(=, +, -, @로 시작)은 앞에 작은따옴표를 붙인다.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        }
+
+        @Override
+        public void writeHeader(ResultSetMetaData meta) throws SQLException, IOException {
+            writer.write('\uFEFF');
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                if (i > 1) writer.write(',');
+                writeField(meta.getColumnLabel(i));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(ResultSet rs, int columnCount) throws SQLException, IOException {
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) writer.write(',');
+                Object value = rs.getObject(i);
+                if (value == null) continue;
+                if (value instanceof Number || value instanceof Boolean) {
+                    writer.write(value.toString());
+                } else {
+                    writeField(formatValue(value));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나를 기록하는 NDJSON 작성기.
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private String[] fieldNames;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 객체 사이 구분자는 writeRow에서 줄바꿈으로 직접 기록한다
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader(ResultSetMetaData meta) throws SQLException {
+            fieldNames = new String[meta.getColumnCount()];
+            for (int i = 1; i <= fieldNames.length; i++) {
+                fieldNames[i - 1] = toCamelCase(meta.getColumnLabel(i));
+            }
+        }
+
+        @Override
+        public void writeRow(ResultSet rs, int columnCount) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 1; i <= columnCount; i++) {
+                generator.writeFieldName(fieldNames[i - 1]);
+                Object value = rs.getObject(i);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString(formatValue(value));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private static String toCamelCase(String label) {
+            StringBuilder sb = new StringBuilder(label.length());
+            boolean upper = false;
+            for (char ch : label.toLowerCase(Locale.ROOT).toCharArray()) {
+                if (ch == '_') {
+                    upper = true;
+                } else {
+                    sb.append(upper ? Character.toUpperCase(ch) : ch);
+                    upper = false;
+                }
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+            generator.close();
+        }
+    }
+
+    /**
+     * 날짜/시간 값을 ISO-8601 문자열로, 그 외 값은 문자열로 변환한다.
+     */
+    private static String formatValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,58 @@
+package com.debate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리 작업 지표(Micrometer 카운터) 컴포넌트.
+ * <p>
+ * 관리자 로그인과 파일 업로드 건수를 집계해 /actuator/prometheus로 내보낸다.
+ * <br>
+ * Prometheus에서는 이름의 점이 밑줄로 바뀌고 카운터에 _total이 붙는다 (예: admin_logins_total).
+ * 자주 쓰는 태그 조합은 기동 시 0으로 미리 등록해 rate() 계산이 처음부터 가능하도록 한다.
+ */
+@Component
+public class AdminMetrics {
+    private final MeterRegistry registry;
+    private final Counter uploadStored;
+    private final Counter uploadDuplicate;
+    private final DistributionSummary uploadBytes;
+    private final Counter loginSuccess;
+
+    public AdminMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.uploadStored = registry.counter("admin.uploads", "duplicate", "false");
+        this.uploadDuplicate = registry.counter("admin.uploads", "duplicate", "true");
+        this.uploadBytes = DistributionSummary.builder("admin.uploads.size")
+                .baseUnit("bytes")
+                .description("업로드 파일 크기")
+                .register(registry);
+        this.loginSuccess = registry.counter("admin.logins", "result", "success", "reason", "none");
+    }
+
+    /**
+     * 파일 업로드를 기록한다.
+     *
+     * @param size      파일 크기 (바이트)
+     * @param duplicate 같은 내용의 기존 파일을 재사용했는지 여부
+     */
+    public void fileUploaded(long size, boolean duplicate) {
+        (duplicate ? uploadDuplicate : uploadStored).increment();
+        uploadBytes.record(size);
+    }
+
+    public void loginSucceeded() {
+        loginSuccess.increment();
+    }
+
+    /**
+     * 로그인 실패를 기록한다.
+     *
+     * @param reason 실패 사유 (bad_credentials, inactive)
+     */
+    public void loginFailed(String reason) {
+        registry.counter("admin.logins", "result", "failure", "reason", reason).increment();
+    }
+}
@@ -1,5 +1,7 @@
 package com.debate.service;
 
+import com.debate.dto.response.AdminReportResponse;
+import com.debate.entity.DomainEvent;
 import com.debate.entity.Report;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.ReportRepository;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 신고 내역 조회 및 처리 로직을 담당하는 서비스.
@@ -22,6 +25,7 @@ import java.time.LocalDateTime;
 public class AdminReportService {
     private final ReportRepository reportRepository;
     private final SecurityUtil securityUtil;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 신고 목록을 상태 조건에 따라 페이지 조회한다.
@@ -30,24 +34,35 @@ public class AdminReportService {
      * @param pageable 페이지 정보
      * @return 신고 페이지
      */
-    public Page<Report> getReports(Report.ReportStatus status, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<AdminReportResponse> getReports(Report.ReportStatus status, Pageable pageable) {
         if (status != null) {
             log.debug("[ADMIN-REPORT] 신고 목록 조회 - status={}", status);
-            return reportRepository.findByStatus(status, pageable);
+            return reportRepository.findByStatus(status, pageable).map(AdminReportResponse::from);
         }
         log.debug("[ADMIN-REPORT] 신고 목록 조회 - 전체");
-        return reportRepository.findAll(pageable);
+        return reportRepository.findAllBy(pageable).map(AdminReportResponse::from);
     }
 
     /**
      * 신고 ID로 단일 신고를 조회한다.
      *
      * @param reportId 신고 ID
-     * @return 신고 엔티티
+     * @return 신고 DTO
      * @throws ResourceNotFoundException 없을 때
      */
-    public Report getReportById(Long reportId) {
-        return reportRepository.findById(reportId)
+    @Transactional(readOnly = true)
+    public AdminReportResponse getReportById(Long reportId) {
+        return AdminReportResponse.from(findReport(reportId));
+    }
+
+    /**
+     * 신고자를 함께 읽어 신고 엔티티를 조회한다.
+     *
+     * @throws ResourceNotFoundException 없을 때
+     */
+    private Report findReport(Long reportId) {
+        return reportRepository.findDetailById(reportId)
                 .orElseThrow(() -> {
                     log.warn("[ADMIN-REPORT] 신고 조회 실패 - 존재하지 않음 reportId={}", reportId);
                     return new ResourceNotFoundException("신고를 찾을 수 없습니다");
@@ -62,14 +77,15 @@ public class AdminReportService {
      * @return 처리 완료된 신고
      */
     @Transactional
-    public Report processReport(Long reportId, Report.ReportStatus status) {
-        Report report = getReportById(reportId);
+    public AdminReportResponse processReport(Long reportId, Report.ReportStatus status) {
+        Report report = findReport(reportId);
         report.setStatus(status);
         report.setProcessedBy(securityUtil.getCurrentAdminId());
         report.setProcessedAt(LocalDateTime.now());
         Report processed = reportRepository.save(report);
+        domainEventPublisher.publish(DomainEvent.EventType.REPORT_PROCESSED, reportId, null, Map.of("status", status.name()));
         log.info("[ADMIN-REPORT] 신고 처리 - reportId={}, status={}, processedBy={}", processed.getId(), processed.getStatus(), processed.getProcessedBy());
-        return processed;
+        return AdminReportResponse.from(processed);
     }
 }
 
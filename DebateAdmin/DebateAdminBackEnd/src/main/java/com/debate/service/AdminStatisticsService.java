@@ -6,6 +6,7 @@ import com.debate.repository.DebateRepository;
 import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +21,7 @@ import java.util.Map;
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AdminStatisticsService {
     private final UserRepository userRepository;
     private final DebateRepository debateRepository;
@@ -1,7 +1,12 @@
 package com.debate.service;
 
+import com.debate.dto.request.BulkUserRequest;
+import com.debate.dto.response.BulkModerationResponse;
 import com.debate.dto.response.UserDetailResponse;
+import com.debate.entity.CacheInvalidation;
+import com.debate.entity.DomainEvent;
 import com.debate.entity.User;
+import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CommentRepository;
@@ -9,10 +14,15 @@ import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * 관리자 회원 운영 로직을 담당하는 서비스.
  */
@@ -23,6 +33,10 @@ public class AdminUserService {
     private final UserRepository userRepository;
     private final DebateRepository debateRepository;
     private final CommentRepository commentRepository;
+    private final BulkModerationExecutor bulkModerationExecutor;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 조건에 맞는 회원을 페이지 조회한다.
@@ -77,6 +91,9 @@ public class AdminUserService {
                 });
         user.setStatus(status);
         User updated = userRepository.save(user);
+        entityCacheEvictor.evict(User.class, userId, null);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.USER, userId);
+        domainEventPublisher.publish(DomainEvent.EventType.USER_STATUS_CHANGED, userId, null, Map.of("status", status.name()));
         log.info("[ADMIN-USER] 회원 상태 변경 - userId={}, status={}", updated.getId(), updated.getStatus());
         return updated;
     }
@@ -95,7 +112,46 @@ public class AdminUserService {
                 });
         user.setStatus(User.UserStatus.DELETED);
         userRepository.save(user);
+        entityCacheEvictor.evict(User.class, userId, null);
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.USER, userId);
+        domainEventPublisher.publish(DomainEvent.EventType.USER_STATUS_CHANGED, userId, null, Map.of("status", User.UserStatus.DELETED.name()));
         log.info("[ADMIN-USER] 회원 삭제 처리 - userId={}", userId);
     }
-}
 
+    /**
+     * 여러 회원의 상태를 일괄 변경한다.
+     * <p>
+     * ID 목록이 있으면 해당 회원만, 없으면 검색 조건(keyword/status)에 맞는 회원 전체를 대상으로 하며
+     * 청크마다 집합 기반 UPDATE 한 번으로 처리한다.
+     *
+     * @param request 대상 ID 목록 또는 검색 조건
+     * @param status  설정할 상태
+     * @return 일괄 처리 결과
+     * @throws BadRequestException 대상이 지정되지 않았을 때
+     */
+    public BulkModerationResponse bulkUpdateStatus(BulkUserRequest request, User.UserStatus status) {
+        String action = "USER_STATUS_" + status;
+        Function<List<Long>, List<Long>> chunkAction = ids -> {
+            userRepository.updateStatusByIds(ids, status);
+            cacheInvalidationBus.publish(CacheInvalidation.TargetType.USER, ids);
+            domainEventPublisher.publishAll(DomainEvent.EventType.USER_STATUS_CHANGED, ids, null, Map.of("status", status.name()));
+            return ids;
+        };
+
+        BulkModerationResponse result;
+        if (request.hasIds()) {
+            result = bulkModerationExecutor.executeByIds(action, request.getIds(),
+                    userRepository::findExistingIds, chunkAction);
+        } else if (request.hasFilter()) {
+            result = bulkModerationExecutor.executeByFilter(action,
+                    (afterId, limit) -> userRepository.findIdsForBulk(afterId, request.getKeyword(),
+                            request.getStatus(), PageRequest.of(0, limit)),
+                    chunkAction);
+        } else {
+            throw new BadRequestException("대상 ID 목록 또는 검색 조건을 지정해야 합니다");
+        }
+        log.info("[ADMIN-USER] 회원 상태 일괄 변경 - status={}, requested={}, affected={}, notFound={}, hasMore={}",
+                status, result.getRequested(), result.getAffected(), result.getNotFoundIds().size(), result.isHasMore());
+        return result;
+    }
+}
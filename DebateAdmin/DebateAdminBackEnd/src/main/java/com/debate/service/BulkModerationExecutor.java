@@ -0,0 +1,160 @@
+package com.debate.service;
+
+import com.debate.dto.response.BulkModerationResponse;
+import com.debate.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 일괄 운영 작업을 청크 단위 트랜잭션으로 실행하는 실행기.
+ * <p>
+ * 대상 ID를 {@code admin.bulk.chunk-size} 크기로 나누고, 청크마다 새 트랜잭션에서
+ * 집합 기반 UPDATE/DELETE를 한 번 실행한다. 하나의 거대한 트랜잭션으로 잠금을 오래 잡지 않으며,
+ * 중간에 실패하더라도 이미 커밋된 청크는 유지된다. 청크마다 진행 상황을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class BulkModerationExecutor {
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    /**
+     * @param transactionManager 청크 트랜잭션을 열기 위한 트랜잭션 매니저
+     * @param chunkSize          청크 하나에 포함할 최대 ID 수
+     * @param maxItems           요청 하나에서 처리할 최대 건수
+     */
+    public BulkModerationExecutor(PlatformTransactionManager transactionManager,
+                                  @Value("${admin.bulk.chunk-size:500}") int chunkSize,
+                                  @Value("${admin.bulk.max-items:50000}") int maxItems) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 지정된 ID 목록을 청크 단위로 처리한다.
+     *
+     * @param action         작업 이름(로그/응답용)
+     * @param ids            처리할 ID 목록 (중복은 제거됨)
+     * @param existingFinder 청크 중 실제로 존재하는 ID를 반환하는 함수
+     * @param chunkAction    존재하는 ID 청크에 UPDATE/DELETE를 적용하고 영향받은 ID를 반환하는 함수
+     * @return 처리 결과
+     * @throws BadRequestException 요청 건수가 최대 처리 건수를 넘을 때
+     */
+    public BulkModerationResponse executeByIds(String action,
+                                               List<Long> ids,
+                                               Function<List<Long>, List<Long>> existingFinder,
+                                               Function<List<Long>, List<Long>> chunkAction) {
+        List<Long> targets = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (targets.size() > maxItems) {
+            throw new BadRequestException("한 번에 처리할 수 있는 최대 건수는 " + maxItems + "건입니다");
+        }
+
+        List<Long> affectedIds = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        int chunks = 0;
+
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<Long> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            List<Long> affected = transactionTemplate.execute(status -> {
+                List<Long> existing = existingFinder.apply(chunk);
+                Set<Long> existingSet = new HashSet<>(existing);
+                chunk.stream().filter(id -> !existingSet.contains(id)).forEach(notFoundIds::add);
+                return existing.isEmpty() ? List.<Long>of() : chunkAction.apply(existing);
+            });
+            affectedIds.addAll(affected);
+            chunks++;
+            log.info("[ADMIN-BULK] {} 진행 - chunk={}, processed={}/{}, affected={}",
+                    action, chunks, Math.min(from + chunkSize, targets.size()), targets.size(), affectedIds.size());
+        }
+
+        return BulkModerationResponse.builder()
+                .action(action)
+                .requested(targets.size())
+                .affected(affectedIds.size())
+                .affectedIds(affectedIds)
+                .notFoundIds(notFoundIds)
+                .chunks(chunks)
+                .hasMore(false)
+                .build();
+    }
+
+    /**
+     * 검색 조건에 일치하는 대상을 ID 오름차순 키셋 페이징으로 읽으며 청크 단위로 처리한다.
+     * <p>
+     * 처리 도중 대상이 조건에서 빠지더라도(예: 숨김 처리) 마지막으로 처리한 ID 이후부터 읽으므로
+     * 같은 행을 두 번 처리하거나 건너뛰지 않는다.
+     *
+     * @param action      작업 이름(로그/응답용)
+     * @param nextIds     (마지막 처리 ID, 최대 개수)를 받아 다음 대상 ID를 오름차순으로 반환하는 함수
+     * @param chunkAction ID 청크에 UPDATE/DELETE를 적용하고 영향받은 ID를 반환하는 함수
+     * @return 처리 결과
+     */
+    public BulkModerationResponse executeByFilter(String action,
+                                                  BiFunction<Long, Integer, List<Long>> nextIds,
+                                                  Function<List<Long>, List<Long>> chunkAction) {
+        List<Long> affectedIds = new ArrayList<>();
+        int requested = 0;
+        int chunks = 0;
+        long lastId = 0L;
+        boolean hasMore = false;
+
+        while (true) {
+            if (requested >= maxItems) {
+                hasMore = !nextIds.apply(lastId, 1).isEmpty();
+                break;
+            }
+            final long afterId = lastId;
+            final int limit = Math.min(chunkSize, maxItems - requested);
+            ChunkResult result = transactionTemplate.execute(status -> {
+                List<Long> chunk = nextIds.apply(afterId, limit);
+                if (chunk.isEmpty()) {
+                    return new ChunkResult(chunk, List.of());
+                }
+                return new ChunkResult(chunk, chunkAction.apply(chunk));
+            });
+            if (result.targets().isEmpty()) {
+                break;
+            }
+            requested += result.targets().size();
+            affectedIds.addAll(result.affected());
+            lastId = result.targets().get(result.targets().size() - 1);
+            chunks++;
+            log.info("[ADMIN-BULK] {} 진행 - chunk={}, processed={}, affected={}, lastId={}",
+                    action, chunks, requested, affectedIds.size(), lastId);
+        }
+
+        return BulkModerationResponse.builder()
+                .action(action)
+                .requested(requested)
+                .affected(affectedIds.size())
+                .affectedIds(affectedIds)
+                .notFoundIds(List.of())
+                .chunks(chunks)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 청크 하나의 처리 결과.
+     *
+     * @param targets  청크에 포함된 대상 ID
+     * @param affected 실제로 반영된 ID
+     */
+    private record ChunkResult(List<Long> targets, List<Long> affected) {
+    }
+}
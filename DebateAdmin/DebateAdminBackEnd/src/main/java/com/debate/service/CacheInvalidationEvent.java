@@ -0,0 +1,21 @@
+package com.debate.service;
+
+import com.debate.entity.CacheInvalidation;
+
+/**
+ * 캐시 무효화 이벤트.
+ * <p>
+ * {@link CacheInvalidationBus}가 무효화 로그 한 행을 읽을 때마다 발행한다(이 인스턴스가 기록한 로그 포함).
+ *
+ * @param targetType 대상 타입
+ * @param targetId   대상 ID (null이면 해당 타입 전체)
+ */
+public record CacheInvalidationEvent(CacheInvalidation.TargetType targetType, Long targetId) {
+
+    /**
+     * 해당 타입 전체를 비워야 하는지 반환한다.
+     */
+    public boolean isAll() {
+        return targetId == null;
+    }
+}
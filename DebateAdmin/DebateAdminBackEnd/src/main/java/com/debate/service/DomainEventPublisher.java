@@ -0,0 +1,76 @@
+package com.debate.service;
+
+import com.debate.entity.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트 기록 서비스(트랜잭셔널 아웃박스).
+ * <p>
+ * 원래 테이블을 수정한 트랜잭션 안에서 domain_events에 이벤트를 추가한다.
+ * 수정이 롤백되면 이벤트도 함께 롤백되고, 커밋되면 사용자 백엔드의 전달기가 소비자에게 전달한다.
+ * <br>
+ * 반드시 쓰기 트랜잭션 안에서 호출해야 한다(트랜잭션이 없으면 예외).
+ */
+@Service
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+    private static final String INSERT_SQL = "INSERT INTO domain_events"
+            + " (event_type, aggregate_type, aggregate_id, actor_id, payload, created_at) VALUES (?, ?, ?, ?, ?, NOW())";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 하나를 기록한다.
+     *
+     * @param eventType   이벤트 타입
+     * @param aggregateId 대상 ID
+     * @param actorId     작업한 사용자 ID (관리자 작업은 null)
+     * @param payload     부가 정보 (없으면 빈 Map)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent.EventType eventType, Long aggregateId, Long actorId, Map<String, ?> payload) {
+        jdbcTemplate.update(INSERT_SQL, eventType.name(), eventType.getAggregateType().name(), aggregateId, actorId, toJson(payload));
+    }
+
+    /**
+     * 같은 타입의 이벤트를 여러 대상에 대해 배치로 기록한다.
+     *
+     * @param eventType    이벤트 타입
+     * @param aggregateIds 대상 ID 목록
+     * @param actorId      작업한 사용자 ID (관리자 작업은 null)
+     * @param payload      모든 대상에 공통인 부가 정보 (없으면 빈 Map)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(DomainEvent.EventType eventType, Collection<Long> aggregateIds, Long actorId, Map<String, ?> payload) {
+        String json = toJson(payload);
+        jdbcTemplate.batchUpdate(INSERT_SQL, aggregateIds, BATCH_SIZE, (ps, aggregateId) -> {
+            ps.setString(1, eventType.name());
+            ps.setString(2, eventType.getAggregateType().name());
+            ps.setLong(3, aggregateId);
+            ps.setObject(4, actorId);
+            ps.setString(5, json);
+        });
+    }
+
+    private String toJson(Map<String, ?> payload) {
+        if (payload.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 부가 정보를 JSON으로 변환할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.debate.service;
+
+import com.debate.entity.Category;
+import com.debate.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Hibernate 2차 캐시 무효화 서비스.
+ * <p>
+ * 참조 엔티티(카테고리, 회원, 관리자)를 수정한 뒤 해당 캐시 항목과 조회 결과 캐시를 비운다.
+ * 트랜잭션 안에서 호출하면 커밋 이후에 비워 커밋 전 값이 다시 캐시에 올라가지 않게 한다.
+ * <br>
+ * 다른 인스턴스(사용자 백엔드 포함)가 수정한 내용은 {@link CacheInvalidationBus}의 무효화 이벤트로 비우며,
+ * 전달되지 못한 경우에도 ehcache.xml의 만료 시간으로 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+    public static final String CATEGORY_QUERY_REGION = "query.category";
+    public static final String ADMIN_QUERY_REGION = "query.admin";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 엔티티 하나와 관련 조회 결과 캐시를 비운다.
+     *
+     * @param entityClass 엔티티 클래스
+     * @param id          엔티티 ID
+     * @param queryRegion 함께 비울 조회 결과 캐시 영역 (없으면 null)
+     */
+    public void evict(Class<?> entityClass, Object id, String queryRegion) {
+        afterCommit(cache -> {
+            cache.evictEntityData(entityClass, id);
+            if (queryRegion != null) {
+                cache.evictQueryRegion(queryRegion);
+            }
+        });
+    }
+
+    /**
+     * 엔티티 전체와 관련 조회 결과 캐시를 비운다.
+     *
+     * @param entityClass 엔티티 클래스
+     * @param queryRegion 함께 비울 조회 결과 캐시 영역 (없으면 null)
+     */
+    public void evictAll(Class<?> entityClass, String queryRegion) {
+        afterCommit(cache -> {
+            cache.evictEntityData(entityClass);
+            if (queryRegion != null) {
+                cache.evictQueryRegion(queryRegion);
+            }
+        });
+    }
+
+    /**
+     * 무효화 로그에 따라 회원/카테고리 캐시를 비운다. 토론과 댓글은 2차 캐시 대상이 아니므로 무시한다.
+     *
+     * @param event 캐시 무효화 이벤트
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        switch (event.targetType()) {
+            case USER -> {
+                if (event.isAll()) {
+                    evictAll(User.class, null);
+                } else {
+                    evict(User.class, event.targetId(), null);
+                }
+            }
+            case CATEGORY -> evictAll(Category.class, CATEGORY_QUERY_REGION);
+            default -> {
+            }
+        }
+    }
+
+    private void afterCommit(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.accept(cache);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.accept(cache);
+            }
+        });
+    }
+}
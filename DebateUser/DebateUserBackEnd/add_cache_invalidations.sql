@@ -0,0 +1,22 @@
+-- 캐시 무효화 로그(cache_invalidations) 추가 스크립트
+-- 관리자/사용자 백엔드가 공유 데이터(토론, 댓글, 회원, 카테고리)를 수정할 때 기록하고,
+-- 모든 인스턴스가 ID 순서로 읽어 자기 캐시를 비웁니다.
+-- 프로덕션(ddl-auto: validate)에서는 배포 전에 실행해야 합니다.
+-- 개발 환경(ddl-auto: update)은 테이블이 자동 생성됩니다.
+
+USE debate_db;
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '무효화 로그 ID',
+    target_type VARCHAR(20) NOT NULL COMMENT '대상 타입 (DEBATE: 토론, COMMENT: 댓글, USER: 사용자, CATEGORY: 카테고리)',
+    target_id BIGINT COMMENT '대상 ID (NULL: 타입 전체)',
+    category_id BIGINT COMMENT '대상 토론의 카테고리 ID (NULL: 없음)',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 일시',
+    PRIMARY KEY (id),
+    INDEX idx_created_at (created_at)
+) COMMENT = '캐시 무효화 로그 테이블';
+
+-- 이미 테이블을 만든 경우에는 아래 쿼리로 카테고리 ID 컬럼만 추가합니다
+-- (토론/댓글 로그에 카테고리를 함께 남겨 목록 캐시가 카테고리를 다시 조회하지 않도록 함):
+-- ALTER TABLE cache_invalidations
+--     ADD COLUMN category_id BIGINT COMMENT '대상 토론의 카테고리 ID (NULL: 없음)' AFTER target_id;
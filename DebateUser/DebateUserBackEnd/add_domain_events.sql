@@ -0,0 +1,28 @@
+-- 도메인 이벤트 아웃박스(domain_events)와 소비자 체크포인트(domain_event_checkpoints) 추가 스크립트
+-- 좋아요/댓글/입장/신고와 관리자 운영 작업이 같은 트랜잭션에서 이벤트를 기록하고,
+-- 사용자 백엔드의 전달기가 소비자별 체크포인트 이후의 이벤트를 순서대로 전달합니다.
+-- 프로덕션(ddl-auto: validate)에서는 배포 전에 실행해야 합니다.
+-- 개발 환경(ddl-auto: update)은 테이블이 자동 생성됩니다.
+
+USE debate_db;
+
+-- 1. 도메인 이벤트
+CREATE TABLE IF NOT EXISTS domain_events (
+    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '이벤트 ID',
+    event_type VARCHAR(40) NOT NULL COMMENT '이벤트 타입',
+    aggregate_type VARCHAR(20) NOT NULL COMMENT '대상 타입 (DEBATE: 토론, COMMENT: 댓글, USER: 사용자, REPORT: 신고)',
+    aggregate_id BIGINT NOT NULL COMMENT '대상 ID',
+    actor_id BIGINT COMMENT '작업한 사용자 ID (관리자 작업은 NULL)',
+    payload VARCHAR(1000) COMMENT '부가 정보 (JSON)',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 일시',
+    PRIMARY KEY (id),
+    INDEX idx_created_at (created_at)
+) COMMENT = '도메인 이벤트 테이블 (트랜잭셔널 아웃박스)';
+
+-- 2. 소비자 체크포인트
+CREATE TABLE IF NOT EXISTS domain_event_checkpoints (
+    consumer_name VARCHAR(100) NOT NULL COMMENT '소비자 이름',
+    last_event_id BIGINT NOT NULL COMMENT '마지막으로 처리한 이벤트 ID',
+    updated_at DATETIME(6) NOT NULL COMMENT '수정 일시',
+    PRIMARY KEY (consumer_name)
+) COMMENT = '도메인 이벤트 소비자 체크포인트 테이블';
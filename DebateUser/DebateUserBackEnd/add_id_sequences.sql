@@ -0,0 +1,24 @@
+-- 테이블 기반 ID 생성기(id_sequences) 추가 스크립트
+-- 좋아요/댓글/의견/채팅/신고 테이블의 ID를 IDENTITY 대신 id_sequences에서 100개씩 할당받아 사용
+-- (IDENTITY는 INSERT 배치를 막으므로 변경)
+-- 프로덕션(ddl-auto: validate)에서는 배포 전에 실행해야 합니다.
+-- 개발 환경(ddl-auto: update)은 테이블이 자동 생성되고, 행은 애플리케이션 기동 시 자동으로 맞춰집니다.
+
+USE debate_db;
+
+-- 1. ID 생성기 테이블 생성
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL COMMENT '대상 테이블명',
+    next_val BIGINT COMMENT '다음 할당 구간의 끝 값',
+    PRIMARY KEY (sequence_name)
+) COMMENT = '테이블 기반 ID 생성기';
+
+-- 2. 기존 데이터와 겹치지 않도록 각 테이블의 최대 ID + 할당 크기(100)로 초기화
+INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT 'likes', COALESCE(MAX(id), 0) + 100 FROM likes;
+INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 100 FROM comments;
+INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT 'debate_opinion', COALESCE(MAX(id), 0) + 100 FROM debate_opinion;
+INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT 'chat_messages', COALESCE(MAX(id), 0) + 100 FROM chat_messages;
+INSERT IGNORE INTO id_sequences (sequence_name, next_val) SELECT 'reports', COALESCE(MAX(id), 0) + 100 FROM reports;
+
+-- 3. 확인
+SELECT * FROM id_sequences;
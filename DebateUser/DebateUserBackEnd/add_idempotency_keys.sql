@@ -0,0 +1,18 @@
+-- 멱등 키(idempotency_keys) 추가 스크립트
+-- Idempotency-Key 헤더가 붙은 생성 요청(토론, 댓글, 입장 의견, 신고)의 처리 상태와 첫 응답을 저장합니다.
+-- 프로덕션(ddl-auto: validate)에서는 배포 전에 실행해야 합니다.
+-- 개발 환경(ddl-auto: update)은 테이블이 자동 생성됩니다.
+
+USE debate_db;
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    key_hash VARCHAR(64) NOT NULL COMMENT '키 해시 (클라이언트 + 엔드포인트 + Idempotency-Key의 SHA-256)',
+    request_hash VARCHAR(64) NOT NULL COMMENT '요청 본문 해시 (SHA-256)',
+    status_code INT NOT NULL COMMENT '응답 상태 코드 (0: 처리 중)',
+    content_type VARCHAR(100) COMMENT '응답 Content-Type',
+    response_body TEXT COMMENT '응답 본문',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 일시',
+    expires_at DATETIME(6) NOT NULL COMMENT '만료 일시 (처리 중: 처리 제한 시간, 완료: 보관 기간)',
+    PRIMARY KEY (key_hash),
+    INDEX idx_expires_at (expires_at)
+) COMMENT = '멱등 키 테이블';
@@ -0,0 +1,58 @@
+package com.debate.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * 토론별 하위 행(댓글, 좋아요 등) 개수와 ID 시작 위치
+ * 개수를 먼저 정하고 누적 합으로 ID 구간을 나눠 두므로 여러 스레드가 서로 조율하지 않고 ID를 발급합니다.
+ *
+ * - 개수는 꼬리가 긴 분포(파레토형)를 따라 소수의 인기 토론에 몰립니다
+ * - 상한(cap)은 (토론, 회원) 유일 제약이 있는 테이블에서 회원 수를 넘지 않도록 합니다
+ */
+final class ChildPlan {
+    private static final double TAIL = 0.6;          // 클수록 인기 토론 쏠림이 심해짐
+    private static final double TAIL_MEAN = 1 / (1 - TAIL);
+
+    private final int[] counts;
+    private final long[] offsets;
+
+    private ChildPlan(int[] counts, long[] offsets) {
+        this.counts = counts;
+        this.offsets = offsets;
+    }
+
+    /**
+     * @param seed    시드
+     * @param stream  테이블 이름 (난수 스트림 구분)
+     * @param debates 토론 수
+     * @param total   목표 전체 행 수 (상한 때문에 실제 행 수는 조금 적을 수 있음)
+     * @param cap     토론 하나의 최대 행 수
+     */
+    static ChildPlan of(long seed, String stream, int debates, long total, int cap) {
+        SplittableRandom random = Seeds.random(seed, stream + ".counts", 0);
+        double mean = total / (double) debates;
+        int[] counts = new int[debates + 1];
+        long[] offsets = new long[debates + 2];
+        for (int debateId = 1; debateId <= debates; debateId++) {
+            double weight = Math.pow(1 - random.nextDouble(), -TAIL) / TAIL_MEAN;
+            counts[debateId] = (int) Math.min(cap, Math.round(mean * weight));
+            offsets[debateId + 1] = offsets[debateId] + counts[debateId];
+        }
+        return new ChildPlan(counts, offsets);
+    }
+
+    int count(int debateId) {
+        return counts[debateId];
+    }
+
+    /**
+     * 토론의 첫 행 ID - 1
+     */
+    long offset(int debateId) {
+        return offsets[debateId];
+    }
+
+    long total() {
+        return offsets[offsets.length - 1];
+    }
+}
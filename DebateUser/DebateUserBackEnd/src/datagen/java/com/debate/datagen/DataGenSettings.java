@@ -0,0 +1,65 @@
+package com.debate.datagen;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * 데이터 생성기 설정
+ * 시스템 속성(datagen.*)에서 읽으며, Gradle에서는 -Pdatagen.*로 전달합니다.
+ *
+ * - 접속 정보를 지정하지 않으면 application.yml의 spring.datasource 값을 사용합니다
+ * - 기준 시각(datagen.now)을 고정하므로 같은 시드로 생성한 데이터는 실행 시점과 관계없이 같습니다
+ */
+public record DataGenSettings(
+        String url,
+        String username,
+        String password,
+        long seed,
+        int threads,
+        boolean truncate,
+        LocalDateTime now,
+        int users,
+        int debates,
+        long comments,
+        long likes,
+        long opinions,
+        long reports,
+        long chatMessages) {
+
+    public static DataGenSettings fromSystemProperties() {
+        Properties application = applicationProperties();
+        return new DataGenSettings(
+                System.getProperty("datagen.url", application.getProperty("spring.datasource.url")),
+                System.getProperty("datagen.username", application.getProperty("spring.datasource.username")),
+                System.getProperty("datagen.password", application.getProperty("spring.datasource.password", "")),
+                Long.parseLong(System.getProperty("datagen.seed", "42")),
+                intProperty("datagen.threads", Runtime.getRuntime().availableProcessors()),
+                Boolean.parseBoolean(System.getProperty("datagen.truncate", "false")),
+                LocalDateTime.parse(System.getProperty("datagen.now", "2025-01-01T00:00:00")),
+                intProperty("datagen.users", 100_000),
+                intProperty("datagen.debates", 100_000),
+                longProperty("datagen.comments", 2_000_000),
+                longProperty("datagen.likes", 5_000_000),
+                longProperty("datagen.opinions", 1_000_000),
+                longProperty("datagen.reports", 20_000),
+                longProperty("datagen.chat-messages", 2_000_000));
+    }
+
+    private static Properties applicationProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        Properties properties = yaml.getObject();
+        return properties != null ? properties : new Properties();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)).replace("_", ""));
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty(name, String.valueOf(defaultValue)).replace("_", ""));
+    }
+}
@@ -0,0 +1,417 @@
+package com.debate.datagen;
+
+import com.debate.entity.IdSequences;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 데이터 생성기 (./gradlew generateData)
+ * 회원, 카테고리, 토론(HTML 본문), 댓글(대댓글 트리), 좋아요, 입장 의견, 신고, 채팅 메시지를 운영 규모로 채웁니다.
+ *
+ * - 다중 행 INSERT를 여러 작성 스레드가 나눠 보내며, 작성 연결은 외래 키/유일 키 검사를 끄고 적재합니다
+ * - 작업은 토론/회원 10,000개 단위 구간으로 나누고 구간마다 독립된 난수 스트림을 쓰므로 스레드 수와 관계없이 결과가 같습니다
+ * - 스키마는 애플리케이션(ddl-auto)이 만든 것을 사용합니다. 대상 테이블이 비어 있어야 하며, datagen.truncate=true면 먼저 비웁니다
+ * - 적재 후 테이블 기반 ID 생성기(id_sequences)를 최대 ID 이후로 맞추고 ANALYZE TABLE로 통계를 갱신합니다
+ */
+public class DataGenerator {
+    public static final String PASSWORD = "datagen1234";
+    private static final int CHUNK = 10_000;
+    private static final int ROWS_PER_STATEMENT = 1_000;
+    private static final int DEBATE_ROWS_PER_STATEMENT = 100;   // 본문이 커서 문장 크기(max_allowed_packet)를 고려
+    private static final Duration HISTORY = Duration.ofDays(3 * 365);
+    private static final String[][] CATEGORIES = {
+            {"정치", "정치, 선거, 정책 등 정치 관련 토론 주제"},
+            {"경제", "경제, 금융, 부동산 등 경제 관련 토론 주제"},
+            {"사회", "사회 이슈, 복지, 인권 등 사회 관련 토론 주제"},
+            {"문화", "문화, 예술, 엔터테인먼트 등 문화 관련 토론 주제"},
+            {"과학기술", "과학, 기술, IT 등 과학기술 관련 토론 주제"},
+            {"교육", "교육 정책, 교육 시스템 등 교육 관련 토론 주제"},
+            {"환경", "환경 보호, 기후 변화 등 환경 관련 토론 주제"},
+            {"스포츠", "스포츠, 운동, 건강 등 스포츠 관련 토론 주제"},
+            {"일상생활", "일상 생활, 취미, 관심사 등 일상 관련 토론 주제"},
+            {"기타", "기타 다양한 주제의 토론"}};
+    private static final String[] REPORT_REASONS = {"욕설/비방", "스팸/광고", "음란물", "개인정보 노출", "허위 사실", "기타"};
+    private static final String[] SIDES = {"FOR", "AGAINST", "NEUTRAL"};
+    private static final String[] TABLES = {
+            "categories", "users", "debate", "comments", "likes", "debate_opinion", "reports", "chat_messages", "bookmarks"};
+    private static final String[] SEQUENCE_TABLES = {"comments", "likes", "debate_opinion", "reports", "chat_messages"};
+
+    private final DataGenSettings settings;
+    private final LocalDateTime begin;
+    private final Map<String, AtomicLong> written = new LinkedHashMap<>();
+    private ChildPlan commentPlan;
+    private String passwordHash;
+
+    DataGenerator(DataGenSettings settings) {
+        this.settings = settings;
+        this.begin = settings.now().minus(HISTORY);
+        for (String table : TABLES) {
+            written.put(table, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DataGenerator(DataGenSettings.fromSystemProperties()).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("데이터 생성: %s (threads=%d, seed=%d)%n", settings.url(), settings.threads(), settings.seed());
+        try (Connection connection = connect()) {
+            verifySchema(connection);
+            prepareTables(connection);
+        }
+
+        long started = System.nanoTime();
+        passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        ChildPlan likePlan = ChildPlan.of(settings.seed(), "likes", settings.debates(), settings.likes(), settings.users());
+        ChildPlan opinionPlan = ChildPlan.of(settings.seed(), "debate_opinion", settings.debates(), settings.opinions(), settings.users());
+        ChildPlan chatPlan = ChildPlan.of(settings.seed(), "chat_messages", settings.debates(), settings.chatMessages(), 100_000);
+        commentPlan = ChildPlan.of(settings.seed(), "comments", settings.debates(), settings.comments(), 50_000);
+
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(this::writeCategories);
+        forEachChunk(settings.users(), (from, to) -> tasks.add(() -> writeUsers(from, to)));
+        forEachChunk(settings.debates(), (from, to) -> {
+            tasks.add(() -> writeDebates(from, to));
+            tasks.add(() -> writeComments(from, to));
+            tasks.add(() -> writeLikes(likePlan, from, to));
+            tasks.add(() -> writeOpinions(opinionPlan, from, to));
+            tasks.add(() -> writeChatMessages(chatPlan, from, to));
+        });
+        for (long start = 1; start <= settings.reports(); start += CHUNK * 10L) {
+            long from = start;
+            long to = Math.min(settings.reports() + 1, start + CHUNK * 10L);
+            tasks.add(() -> writeReports(from, to));
+        }
+        execute(tasks);
+
+        try (Connection connection = connect()) {
+            alignSequences(connection);
+            analyze(connection);
+        }
+        System.out.printf("완료 (%ds)%n", (System.nanoTime() - started) / 1_000_000_000L);
+        written.forEach((table, rows) -> System.out.printf("  %-15s %,d%n", table, rows.get()));
+    }
+
+    private void writeCategories() throws SQLException {
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "categories", ROWS_PER_STATEMENT,
+                     "id", "name", "description", "order_num", "created_at", "updated_at")) {
+            Timestamp time = timestamp(begin);
+            for (int i = 0; i < CATEGORIES.length; i++) {
+                writer.add(i + 1, CATEGORIES[i][0], CATEGORIES[i][1], i + 1, time, time);
+            }
+        }
+    }
+
+    private void writeUsers(int from, int to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "users", from / CHUNK);
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "users", ROWS_PER_STATEMENT,
+                     "id", "email", "password", "nickname", "bio", "status", "email_verified", "created_at", "updated_at")) {
+            for (int id = from; id < to; id++) {
+                Timestamp createdAt = timestamp(timeOf(id, settings.users()));
+                String status = random.nextInt(200) == 0 ? "SUSPENDED" : "ACTIVE";
+                String bio = random.nextInt(3) == 0 ? HtmlContent.sentence(random, 5 + random.nextInt(15), true) : null;
+                writer.add(id, "user" + id + "@datagen.debate", passwordHash, "사용자" + id, bio, status,
+                        random.nextBoolean(), createdAt, createdAt);
+            }
+        }
+    }
+
+    private void writeDebates(int from, int to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "debate", from / CHUNK);
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "debate", DEBATE_ROWS_PER_STATEMENT,
+                     "id", "user_id", "category_id", "title", "content", "start_date", "end_date", "status",
+                     "is_hidden", "view_count", "created_at", "updated_at")) {
+            for (int id = from; id < to; id++) {
+                LocalDateTime createdAt = debateTime(id);
+                LocalDateTime startDate = createdAt.plusHours(random.nextInt(72));
+                LocalDateTime endDate = startDate.plusDays(1 + random.nextInt(30));
+                String status = startDate.isAfter(settings.now()) ? "SCHEDULED"
+                        : endDate.isBefore(settings.now()) ? "ENDED" : "ACTIVE";
+                // 작성자는 일부 회원에게 몰리도록 (u² 분포)
+                double u = random.nextDouble();
+                int userId = 1 + (int) (settings.users() * u * u);
+                long viewCount = (long) Math.exp(4 + 1.5 * random.nextGaussian());
+                writer.add(id, userId, 1 + random.nextInt(CATEGORIES.length), HtmlContent.title(random),
+                        HtmlContent.debate(random), timestamp(startDate), timestamp(endDate), status,
+                        random.nextInt(200) == 0, (int) Math.min(Integer.MAX_VALUE, viewCount),
+                        timestamp(createdAt), timestamp(createdAt.plusMinutes(random.nextInt(60))));
+            }
+        }
+    }
+
+    /**
+     * 댓글과 대댓글 트리 (같은 토론의 앞선 댓글에 답글, 깊이 3까지)
+     */
+    private void writeComments(int from, int to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "comments", from / CHUNK);
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "comments", ROWS_PER_STATEMENT,
+                     "id", "user_id", "debate_id", "parent_id", "content", "is_hidden", "created_at", "updated_at")) {
+            int[] depth = new int[0];
+            for (int debateId = from; debateId < to; debateId++) {
+                int count = commentPlan.count(debateId);
+                long base = commentPlan.offset(debateId);
+                if (depth.length < count) {
+                    depth = new int[count];
+                }
+                LocalDateTime time = debateTime(debateId);
+                for (int i = 0; i < count; i++) {
+                    Long parentId = null;
+                    depth[i] = 0;
+                    if (i > 0 && random.nextInt(100) < 35) {
+                        int parent = random.nextInt(i);
+                        if (depth[parent] < 2) {
+                            parentId = base + parent + 1;
+                            depth[i] = depth[parent] + 1;
+                        }
+                    }
+                    time = time.plusSeconds(1 + random.nextInt(600));
+                    writer.add(base + i + 1, randomUser(random), debateId, parentId,
+                            HtmlContent.sentence(random, 3 + random.nextInt(30), true),
+                            random.nextInt(100) == 0, timestamp(time), timestamp(time));
+                }
+            }
+        }
+    }
+
+    /**
+     * 좋아요 ((토론, 회원) 유일 제약을 지키도록 임의 시작점부터 연속된 회원 번호를 사용)
+     */
+    private void writeLikes(ChildPlan plan, int from, int to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "likes", from / CHUNK);
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "likes", ROWS_PER_STATEMENT, "id", "debate_id", "user_id", "created_at")) {
+            for (int debateId = from; debateId < to; debateId++) {
+                int offset = random.nextInt(settings.users());
+                LocalDateTime time = debateTime(debateId);
+                long base = plan.offset(debateId);
+                for (int i = 0; i < plan.count(debateId); i++) {
+                    time = time.plusSeconds(1 + random.nextInt(120));
+                    writer.add(base + i + 1, debateId, 1 + (offset + i) % settings.users(), timestamp(time));
+                }
+            }
+        }
+    }
+
+    private void writeOpinions(ChildPlan plan, int from, int to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "debate_opinion", from / CHUNK);
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "debate_opinion", ROWS_PER_STATEMENT,
+                     "id", "debate_id", "user_id", "side", "content", "created_at", "updated_at")) {
+            for (int debateId = from; debateId < to; debateId++) {
+                int offset = random.nextInt(settings.users());
+                // 토론마다 찬반 비율이 다르도록
+                double forRatio = random.nextDouble();
+                LocalDateTime time = debateTime(debateId);
+                long base = plan.offset(debateId);
+                for (int i = 0; i < plan.count(debateId); i++) {
+                    double u = random.nextDouble();
+                    String side = u < 0.1 ? SIDES[2] : u < 0.1 + 0.9 * forRatio ? SIDES[0] : SIDES[1];
+                    String content = random.nextInt(3) == 0 ? null : HtmlContent.sentence(random, 5 + random.nextInt(40), true);
+                    time = time.plusSeconds(1 + random.nextInt(300));
+                    writer.add(base + i + 1, debateId, 1 + (offset + i) % settings.users(), side, content,
+                            timestamp(time), timestamp(time));
+                }
+            }
+        }
+    }
+
+    private void writeChatMessages(ChildPlan plan, int from, int to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "chat_messages", from / CHUNK);
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "chat_messages", ROWS_PER_STATEMENT,
+                     "id", "debate_id", "user_id", "message", "created_at")) {
+            for (int debateId = from; debateId < to; debateId++) {
+                LocalDateTime time = debateTime(debateId);
+                long base = plan.offset(debateId);
+                for (int i = 0; i < plan.count(debateId); i++) {
+                    time = time.plusSeconds(1 + random.nextInt(30));
+                    writer.add(base + i + 1, debateId, randomUser(random),
+                            HtmlContent.sentence(random, 1 + random.nextInt(12), random.nextBoolean()), timestamp(time));
+                }
+            }
+        }
+    }
+
+    private void writeReports(long from, long to) throws SQLException {
+        SplittableRandom random = Seeds.random(settings.seed(), "reports", from / (CHUNK * 10L));
+        try (Connection connection = connect();
+             RowWriter writer = writer(connection, "reports", ROWS_PER_STATEMENT,
+                     "id", "reporter_id", "target_type", "target_id", "reason", "description", "status",
+                     "processed_by", "processed_at", "created_at")) {
+            for (long id = from; id < to; id++) {
+                boolean comment = commentPlan.total() > 0 && random.nextInt(100) < 40;
+                long targetId = comment ? 1 + random.nextLong(commentPlan.total()) : 1 + random.nextInt(settings.debates());
+                LocalDateTime createdAt = timeOf(id, settings.reports());
+                int state = random.nextInt(10);
+                String status = state < 7 ? "PENDING" : state < 9 ? "APPROVED" : "REJECTED";
+                boolean processed = !"PENDING".equals(status);
+                writer.add(id, randomUser(random), comment ? "COMMENT" : "DEBATE", targetId,
+                        REPORT_REASONS[random.nextInt(REPORT_REASONS.length)],
+                        random.nextBoolean() ? HtmlContent.sentence(random, 5 + random.nextInt(20), true) : null,
+                        status, processed ? 1L : null,
+                        processed ? timestamp(createdAt.plusHours(1 + random.nextInt(72))) : null, timestamp(createdAt));
+            }
+        }
+    }
+
+    private void execute(List<Task> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(this::printProgress, 10, 10, TimeUnit.SECONDS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Task task : tasks) {
+                futures.add(executor.submit(() -> {
+                    task.run();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            progress.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private void printProgress() {
+        StringBuilder line = new StringBuilder("진행:");
+        written.forEach((table, rows) -> {
+            if (rows.get() > 0) {
+                line.append(String.format(" %s=%,d", table, rows.get()));
+            }
+        });
+        System.out.println(line);
+    }
+
+    private void verifySchema(Connection connection) throws SQLException {
+        List<String> missing = new ArrayList<>(List.of(TABLES));
+        missing.add(IdSequences.TABLE);
+        try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                missing.remove(tables.getString("TABLE_NAME"));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("테이블이 없습니다: " + missing
+                    + " (애플리케이션을 한 번 기동해 스키마를 만든 뒤 실행하세요)");
+        }
+    }
+
+    private void prepareTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (settings.truncate()) {
+                statement.execute("SET foreign_key_checks = 0");
+                for (String table : TABLES) {
+                    statement.execute("TRUNCATE TABLE " + table);
+                }
+                statement.execute("DELETE FROM " + IdSequences.TABLE + " WHERE " + IdSequences.NAME_COLUMN
+                        + " IN ('" + String.join("', '", SEQUENCE_TABLES) + "')");
+                statement.execute("SET foreign_key_checks = 1");
+                return;
+            }
+            for (String table : TABLES) {
+                try (ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM " + table + ")")) {
+                    rs.next();
+                    if (rs.getBoolean(1)) {
+                        throw new IllegalStateException(table + " 테이블이 비어 있지 않습니다 (-Pdatagen.truncate=true로 비운 뒤 생성)");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * IdSequenceInitializer와 같은 방식으로 id_sequences를 최대 ID + 할당 크기 이상으로 맞춥니다.
+     */
+    private void alignSequences(Connection connection) throws SQLException {
+        for (String table : SEQUENCE_TABLES) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT IGNORE INTO " + IdSequences.TABLE
+                    + " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, 0)");
+                 PreparedStatement update = connection.prepareStatement("UPDATE " + IdSequences.TABLE + " SET "
+                         + IdSequences.VALUE_COLUMN + " = GREATEST(" + IdSequences.VALUE_COLUMN
+                         + ", (SELECT COALESCE(MAX(id), 0) + ? FROM " + table + ")) WHERE " + IdSequences.NAME_COLUMN + " = ?")) {
+                insert.setString(1, table);
+                insert.executeUpdate();
+                update.setInt(1, IdSequences.ALLOCATION_SIZE);
+                update.setString(2, table);
+                update.executeUpdate();
+            }
+        }
+    }
+
+    private void analyze(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + String.join(", ", TABLES));
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(settings.url(), settings.username(), settings.password());
+    }
+
+    private RowWriter writer(Connection connection, String table, int rowsPerStatement, String... columns) throws SQLException {
+        return new RowWriter(connection, table, columns, rowsPerStatement, written.get(table));
+    }
+
+    private int randomUser(SplittableRandom random) {
+        return 1 + random.nextInt(settings.users());
+    }
+
+    /**
+     * 토론 작성 시각 (ID 순서대로 기간 전체에 고르게 분포)
+     */
+    private LocalDateTime debateTime(int debateId) {
+        return timeOf(debateId, settings.debates());
+    }
+
+    private LocalDateTime timeOf(long index, long total) {
+        return begin.plusSeconds(HISTORY.toSeconds() * index / Math.max(1, total));
+    }
+
+    private static void forEachChunk(int total, ChunkConsumer consumer) {
+        for (int from = 1; from <= total; from += CHUNK) {
+            consumer.accept(from, Math.min(total + 1, from + CHUNK));
+        }
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(int from, int to);
+    }
+}
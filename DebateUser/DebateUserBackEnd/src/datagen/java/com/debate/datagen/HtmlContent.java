@@ -0,0 +1,94 @@
+package com.debate.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * 토론 본문 HTML 생성
+ * 에디터가 저장하는 형태(문단, 소제목, 목록, 굵은 글씨, 본문 이미지)로 만들며 크기는 로그 정규 분포를 따릅니다.
+ *
+ * - 중앙값 약 2KB, 상위 1%는 20KB 이상으로 긴 글이 섞이도록 합니다
+ * - TEXT 컬럼 한도(65,535바이트)를 넘지 않도록 60KB에서 자릅니다 (한글은 UTF-8에서 3바이트)
+ */
+final class HtmlContent {
+    private static final int MAX_BYTES = 60_000;
+    private static final String[] WORDS = {
+            "토론", "주제", "의견", "근거", "사회", "경제", "정책", "환경", "교육", "기술", "인공지능", "청년", "일자리",
+            "복지", "세금", "부동산", "기후", "에너지", "안전", "자유", "책임", "공정", "미래", "세대", "지역", "문화",
+            "데이터", "플랫폼", "규제", "시장", "국가", "시민", "참여", "변화", "문제", "해결", "비용", "효과", "가능성"};
+    private static final String[] ENDINGS = {
+            "라고 생각합니다.", "는 점을 고려해야 합니다.", "에 대한 논의가 필요합니다.", "는 분명한 사실입니다.",
+            "를 다시 검토해야 합니다.", "가 가장 중요한 문제입니다."};
+
+    private HtmlContent() {
+    }
+
+    static String debate(SplittableRandom random) {
+        int targetBytes = (int) Math.min(MAX_BYTES, Math.exp(7.6 + random.nextGaussian()));
+        StringBuilder html = new StringBuilder(targetBytes / 2);
+        int bytes = 0;
+        while (bytes < targetBytes) {
+            int start = html.length();
+            int block = random.nextInt(20);
+            if (block == 0) {
+                html.append("<h2>").append(sentence(random, 3, false)).append("</h2>");
+            } else if (block == 1) {
+                html.append("<ul>");
+                for (int i = 1 + random.nextInt(4); i > 0; i--) {
+                    html.append("<li>").append(sentence(random, 6, true)).append("</li>");
+                }
+                html.append("</ul>");
+            } else if (block == 2) {
+                html.append("<p><img src=\"/files/editor/images/").append(hex(random, 2)).append('/').append(hex(random, 2))
+                        .append('/').append(hex(random, 64)).append(".webp\" alt=\"\"></p>");
+            } else {
+                html.append("<p>");
+                for (int i = 1 + random.nextInt(4); i > 0; i--) {
+                    if (random.nextInt(8) == 0) {
+                        html.append("<strong>").append(sentence(random, 4, true)).append("</strong> ");
+                    } else {
+                        html.append(sentence(random, 8 + random.nextInt(10), true)).append(' ');
+                    }
+                }
+                html.setLength(html.length() - 1);
+                html.append("</p>");
+            }
+            bytes += utf8Length(html, start);
+        }
+        return html.toString();
+    }
+
+    static String sentence(SplittableRandom random, int words, boolean ending) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (ending) {
+            text.append(ENDINGS[random.nextInt(ENDINGS.length)]);
+        }
+        return text.toString();
+    }
+
+    static String title(SplittableRandom random) {
+        return sentence(random, 2 + random.nextInt(4), false) + "에 찬성하십니까?";
+    }
+
+    private static String hex(SplittableRandom random, int length) {
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            hex.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return hex.toString();
+    }
+
+    private static int utf8Length(CharSequence text, int from) {
+        int bytes = 0;
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+        }
+        return bytes;
+    }
+}
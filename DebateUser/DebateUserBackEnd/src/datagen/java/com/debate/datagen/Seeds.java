@@ -0,0 +1,28 @@
+package com.debate.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * 결정적 난수 스트림
+ * (시드, 스트림 이름, 구간 번호)마다 독립된 난수 생성기를 만들어 스레드 수나 실행 순서와 관계없이 같은 값을 얻습니다.
+ */
+final class Seeds {
+    private Seeds() {
+    }
+
+    static SplittableRandom random(long seed, String stream, long index) {
+        long value = seed;
+        value = mix(value ^ stream.hashCode());
+        value = mix(value + index);
+        return new SplittableRandom(value);
+    }
+
+    /**
+     * SplitMix64 마무리 함수 (인접한 입력도 고르게 흩어지도록)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
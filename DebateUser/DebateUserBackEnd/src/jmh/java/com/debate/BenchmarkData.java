@@ -0,0 +1,133 @@
+package com.debate;
+
+import com.debate.config.JwtProperties;
+import com.debate.dto.response.DebateResponse;
+import com.debate.entity.Category;
+import com.debate.entity.Comment;
+import com.debate.entity.Debate;
+import com.debate.entity.User;
+import com.debate.util.ResponseFields;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+
+/**
+ * 벤치마크용 고정 데이터
+ * 같은 시드로 만들므로 커밋 간 결과를 비교할 때 입력이 동일합니다.
+ *
+ * - 엔티티는 DB 없이 빌더로 만들며, 연관(작성자, 카테고리)은 실제 조회 결과처럼 채워 둡니다
+ * - 본문 길이는 실제 목록 응답과 비슷하도록 수백 자로 맞춥니다
+ */
+public final class BenchmarkData {
+    public static final long SEED = 20240101L;
+    public static final String JWT_SECRET = "benchmark-secret-key-for-hmac-sha-256-signing-0123456789";
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String CONTENT = "토론 본문입니다. ".repeat(40);
+
+    private BenchmarkData() {
+    }
+
+    public static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(User.builder()
+                    .id((long) i)
+                    .email("user" + i + "@debate.com")
+                    .password("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm")
+                    .nickname("사용자" + i)
+                    .createdAt(BASE_TIME)
+                    .build());
+        }
+        return users;
+    }
+
+    public static List<Category> categories() {
+        List<Category> categories = new ArrayList<>();
+        String[] names = {"정치", "경제", "사회", "문화", "과학", "스포츠"};
+        for (int i = 0; i < names.length; i++) {
+            categories.add(Category.builder().id((long) i + 1).name(names[i]).orderNum(i).build());
+        }
+        return categories;
+    }
+
+    public static List<Debate> debates(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<User> users = users(100);
+        List<Category> categories = categories();
+        List<Debate> debates = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(random.nextInt(525_600));
+            debates.add(Debate.builder()
+                    .id((long) i)
+                    .user(users.get(random.nextInt(users.size())))
+                    .category(categories.get(random.nextInt(categories.size())))
+                    .title("토론 주제 " + i)
+                    .content(CONTENT)
+                    .startDate(createdAt.plusDays(1))
+                    .endDate(createdAt.plusDays(8))
+                    .status(Debate.DebateStatus.values()[random.nextInt(Debate.DebateStatus.values().length)])
+                    .isHidden(false)
+                    .viewCount(random.nextInt(10_000))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return debates;
+    }
+
+    /**
+     * 좋아요 수/댓글 수는 소수의 인기 토론에 몰리도록 치우친 분포로 만듭니다 (동점 비교가 자주 일어나도록).
+     */
+    public static List<DebateResponse> debateResponses(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        List<DebateResponse> responses = new ArrayList<>(count);
+        for (Debate debate : debates(count)) {
+            long likeCount = (long) (Math.pow(random.nextDouble(), 4) * 500);
+            long commentCount = (long) (Math.pow(random.nextDouble(), 4) * 200);
+            responses.add(DebateResponse.from(debate, likeCount, commentCount));
+        }
+        return responses;
+    }
+
+    public static List<Comment> comments(Debate debate, int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        List<User> users = users(100);
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            comments.add(Comment.builder()
+                    .id((long) i)
+                    .user(users.get(random.nextInt(users.size())))
+                    .debate(debate)
+                    .content("댓글 내용 " + i)
+                    .isHidden(false)
+                    .createdAt(BASE_TIME.plusSeconds(i))
+                    .updatedAt(BASE_TIME.plusSeconds(i))
+                    .build());
+        }
+        return comments;
+    }
+
+    public static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(JWT_SECRET);
+        properties.setExpiration(86_400_000L);
+        return properties;
+    }
+
+    /**
+     * 애플리케이션과 같은 설정의 ObjectMapper (application.yml의 spring.jackson 설정, JacksonConfig의 기본 필터와 동일)
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .filters(ResponseFields.serializeAll())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.debate.dto.response;
+
+import com.debate.BenchmarkData;
+import com.debate.entity.Comment;
+import com.debate.entity.Debate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 변환과 JSON 직렬화 벤치마크
+ * 목록 API 한 번에 해당하는 페이지 크기만큼 엔티티를 DTO로 바꾸고 ApiResponse로 감싸 직렬화합니다.
+ *
+ * - pageSize는 기본 페이지 크기(20)와 큰 페이지(100)를 비교합니다
+ * - 직렬화는 컨트롤러와 같은 형태인 ApiResponse&lt;Page&lt;DebateResponse&gt;&gt;를 byte[]로 씁니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Debate> debates;
+    private List<Comment> comments;
+    private ApiResponse<Page<DebateResponse>> debatePageResponse;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        debates = BenchmarkData.debates(pageSize);
+        comments = BenchmarkData.comments(debates.get(0), pageSize);
+        List<DebateResponse> content = BenchmarkData.debateResponses(pageSize);
+        debatePageResponse = ApiResponse.success(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        writer = objectMapper.writer();
+    }
+
+    @Benchmark
+    public List<DebateResponse> debateFrom() {
+        List<DebateResponse> responses = new ArrayList<>(debates.size());
+        for (Debate debate : debates) {
+            responses.add(DebateResponse.from(debate, 12L, 34L));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentFrom() {
+        List<CommentResponse> responses = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            responses.add(CommentResponse.from(comment));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public byte[] serializeDebatePage() throws Exception {
+        return writer.writeValueAsBytes(debatePageResponse);
+    }
+
+    /**
+     * 변환부터 직렬화까지 (목록 API의 DB 조회 이후 CPU 구간 전체)
+     */
+    @Benchmark
+    public void mapAndSerializeDebatePage(Blackhole blackhole) throws Exception {
+        Page<DebateResponse> page = new PageImpl<>(debateFrom(), PageRequest.of(0, pageSize), 10_000);
+        blackhole.consume(writer.writeValueAsBytes(ApiResponse.success(page)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.debate.security;
+
+import com.debate.BenchmarkData;
+import com.debate.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 벤치마크
+ * Authorization 헤더가 있는 요청 하나가 필터를 통과해 SecurityContext에 인증 정보가 설정되기까지를 측정합니다.
+ *
+ * - 사용자 조회는 DB 대신 고정된 UserDetails를 반환하므로 필터 자체의 CPU 비용(토큰 파싱, 인증 객체 생성)만 측정됩니다
+ * - 토큰이 없는 요청(비로그인 목록 조회)도 함께 측정해 비교합니다
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(BenchmarkData.jwtProperties());
+        UserDetails user = User.withUsername("user1@debate.com")
+                .password("password")
+                .roles("USER")
+                .build();
+        UserDetailsService userDetailsService = username -> user;
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        authorization = "Bearer " + jwtUtil.generateToken(1L, "user1@debate.com");
+    }
+
+    @Benchmark
+    public Authentication authenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/debates");
+        request.addHeader("Authorization", authorization);
+        return doFilter(request);
+    }
+
+    @Benchmark
+    public Authentication anonymous() throws Exception {
+        return doFilter(new MockHttpServletRequest("GET", "/api/debates"));
+    }
+
+    private Authentication doFilter(MockHttpServletRequest request) throws Exception {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
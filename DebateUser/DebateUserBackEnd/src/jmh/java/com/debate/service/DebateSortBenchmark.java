@@ -0,0 +1,52 @@
+package com.debate.service;
+
+import com.debate.BenchmarkData;
+import com.debate.dto.response.DebateResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기순/댓글순 메모리 정렬 벤치마크
+ * DebateService가 popular, comments 정렬일 때 전체 목록을 읽은 뒤 메모리에서 정렬하는 구간을 측정합니다.
+ *
+ * - 서비스와 같은 비교기({@link DebateService#POPULAR_ORDER}, {@link DebateService#COMMENTS_ORDER})를 사용합니다
+ * - 서비스는 매 요청 새 목록을 정렬하므로, 측정에도 목록 복사를 포함해 정렬된 입력을 다시 정렬하지 않도록 합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DebateSortBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int debateCount;
+
+    private List<DebateResponse> debates;
+
+    @Setup
+    public void setUp() {
+        debates = BenchmarkData.debateResponses(debateCount);
+    }
+
+    @Benchmark
+    public List<DebateResponse> popular() {
+        List<DebateResponse> sorted = new ArrayList<>(debates);
+        sorted.sort(DebateService.POPULAR_ORDER);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<DebateResponse> comments() {
+        List<DebateResponse> sorted = new ArrayList<>(debates);
+        sorted.sort(DebateService.COMMENTS_ORDER);
+        return sorted;
+    }
+}
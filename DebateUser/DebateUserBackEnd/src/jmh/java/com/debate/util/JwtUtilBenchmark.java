@@ -0,0 +1,48 @@
+package com.debate.util;
+
+import com.debate.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 벤치마크
+ * 로그인 시 발급과, 인증이 필요한 모든 요청에서 일어나는 검증 및 클레임 추출을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(BenchmarkData.jwtProperties());
+        token = jwtUtil.generateToken(1L, "user1@debate.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(1L, "user1@debate.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    /**
+     * 인증 필터가 요청마다 하는 작업 (검증 후 이메일 추출, 토큰을 두 번 파싱)
+     */
+    @Benchmark
+    public String validateAndGetEmail() {
+        return jwtUtil.validateToken(token) ? jwtUtil.getEmailFromToken(token) : null;
+    }
+}
@@ -0,0 +1,192 @@
+package com.debate.loadtest;
+
+import com.debate.config.IdSequenceInitializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 데이터 생성
+ * 회원, 카테고리, 토론, 댓글(대댓글 포함), 좋아요, 입장 의견을 JDBC 배치로 채웁니다.
+ *
+ * - 좋아요/댓글 수는 소수의 인기 토론에 몰리도록 치우치게 분포시킵니다 (평균은 설정값)
+ * - 모든 회원의 비밀번호는 {@link #PASSWORD}이며 해시는 애플리케이션의 PasswordEncoder로 한 번만 계산합니다
+ * - 토론 100개 중 하나는 숨김 처리되어 목록에서 빠집니다
+ * - 명시적 ID로 넣은 뒤 테이블 기반 ID 생성기를 다시 맞춰 이후 애플리케이션의 INSERT와 겹치지 않게 합니다
+ */
+@Slf4j
+public class DatasetSeeder {
+    public static final String PASSWORD = "loadtest1234";
+    public static final String[] KEYWORDS = {"환경", "교육", "경제", "기술", "정책", "인공지능", "복지", "부동산", "선거", "노동"};
+    private static final String[] CATEGORIES = {"정치", "경제", "사회", "문화", "과학", "스포츠"};
+    private static final int BATCH_SIZE = 1_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdSequenceInitializer idSequenceInitializer;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+
+    public DatasetSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                         IdSequenceInitializer idSequenceInitializer, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.idSequenceInitializer = idSequenceInitializer;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+    }
+
+    public static String email(int userId) {
+        return "loadtest" + userId + "@debate.com";
+    }
+
+    /**
+     * 숨김 토론 여부 (100개 중 하나, 가상 사용자는 상세 조회 대상에서 제외)
+     */
+    public static boolean isHiddenDebate(long debateId) {
+        return debateId % 100 == 0;
+    }
+
+    public void seed() {
+        long started = System.nanoTime();
+        insertCategories();
+        insertUsers();
+        insertDebates();
+        int comments = insertComments();
+        int likes = insertLikes();
+        int opinions = insertOpinions();
+        idSequenceInitializer.alignSequences();
+        log.warn("데이터 생성 완료: users={}, debates={}, comments={}, likes={}, opinions={} ({}ms)",
+                settings.users(), settings.debates(), comments, likes, opinions,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void insertCategories() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            rows.add(new Object[]{i + 1, CATEGORIES[i], CATEGORIES[i] + " 분야 토론", i, timestamp(BASE_TIME), timestamp(BASE_TIME)});
+        }
+        batch("INSERT INTO categories (id, name, description, order_num, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertUsers() {
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<Object[]> rows = new ArrayList<>();
+        for (int id = 1; id <= settings.users(); id++) {
+            Timestamp createdAt = timestamp(BASE_TIME.plusMinutes(id));
+            rows.add(new Object[]{id, email(id), hash, "부하" + id, "ACTIVE", false, createdAt, createdAt});
+        }
+        batch("INSERT INTO users (id, email, password, nickname, status, email_verified, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertDebates() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int id = 1; id <= settings.debates(); id++) {
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(id * 10L);
+            String status = pickStatus();
+            rows.add(new Object[]{id, 1 + random.nextInt(settings.users()), 1 + random.nextInt(CATEGORIES.length),
+                    keyword() + " " + keyword() + " 토론 " + id, sentence(40),
+                    timestamp(createdAt.plusDays(1)), timestamp(createdAt.plusDays(8)), status, isHiddenDebate(id),
+                    random.nextInt(5_000), timestamp(createdAt), timestamp(createdAt)});
+        }
+        batch("INSERT INTO debate (id, user_id, category_id, title, content, start_date, end_date, status, is_hidden,"
+                + " view_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private int insertComments() {
+        List<Object[]> rows = new ArrayList<>();
+        long id = 0;
+        for (int debateId = 1; debateId <= settings.debates(); debateId++) {
+            int count = skewed(settings.commentsPerDebate(), Integer.MAX_VALUE);
+            long firstId = id + 1;
+            for (int i = 0; i < count; i++) {
+                id++;
+                // 다섯 개 중 하나는 같은 토론의 앞선 댓글에 단 대댓글
+                Long parentId = i > 0 && random.nextInt(5) == 0 ? firstId + random.nextInt(i) : null;
+                Timestamp createdAt = timestamp(BASE_TIME.plusMinutes(debateId * 10L + i));
+                rows.add(new Object[]{id, 1 + random.nextInt(settings.users()), debateId, parentId,
+                        sentence(8), random.nextInt(200) == 0, createdAt, createdAt});
+            }
+        }
+        batch("INSERT INTO comments (id, user_id, debate_id, parent_id, content, is_hidden, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private int insertLikes() {
+        List<Object[]> rows = new ArrayList<>();
+        long id = 0;
+        for (int debateId = 1; debateId <= settings.debates(); debateId++) {
+            int count = skewed(settings.likesPerDebate(), settings.users());
+            int offset = random.nextInt(settings.users());
+            for (int i = 0; i < count; i++) {
+                // (토론, 회원) 유일 제약을 지키도록 연속된 회원 번호를 사용
+                int userId = 1 + (offset + i) % settings.users();
+                rows.add(new Object[]{++id, debateId, userId, timestamp(BASE_TIME.plusMinutes(debateId * 10L + i))});
+            }
+        }
+        batch("INSERT INTO likes (id, debate_id, user_id, created_at) VALUES (?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private int insertOpinions() {
+        String[] sides = {"FOR", "AGAINST", "NEUTRAL"};
+        List<Object[]> rows = new ArrayList<>();
+        long id = 0;
+        for (int debateId = 1; debateId <= settings.debates(); debateId++) {
+            int count = Math.min(random.nextInt(settings.opinionsPerDebate() * 2 + 1), settings.users());
+            int offset = random.nextInt(settings.users());
+            for (int i = 0; i < count; i++) {
+                int userId = 1 + (offset + i) % settings.users();
+                Timestamp createdAt = timestamp(BASE_TIME.plusMinutes(debateId * 10L + i));
+                rows.add(new Object[]{++id, debateId, userId, sides[random.nextInt(sides.length)], sentence(6), createdAt, createdAt});
+            }
+        }
+        batch("INSERT INTO debate_opinion (id, debate_id, user_id, side, content, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * 평균이 mean인 치우친 분포 (3u², u는 [0, 1) 균등 분포)
+     */
+    private int skewed(int mean, int max) {
+        double u = random.nextDouble();
+        return Math.min((int) Math.round(mean * 3 * u * u), max);
+    }
+
+    private String pickStatus() {
+        int value = random.nextInt(10);
+        return value == 0 ? "SCHEDULED" : value == 1 ? "ENDED" : "ACTIVE";
+    }
+
+    private String keyword() {
+        return KEYWORDS[random.nextInt(KEYWORDS.length)];
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(keyword()).append(i % 7 == 6 ? "에 대해 생각해 봅시다. " : "과 ");
+        }
+        return builder.toString().trim();
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+}
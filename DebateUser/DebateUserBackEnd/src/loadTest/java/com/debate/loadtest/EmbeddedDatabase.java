@@ -0,0 +1,84 @@
+package com.debate.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Comparator;
+
+/**
+ * 부하 테스트용 임베디드 MariaDB
+ * MariaDB4j가 jar에 포함된 서버 바이너리를 풀어 임의 포트로 띄우므로 별도 설치나 네트워크 없이 실행됩니다.
+ *
+ * - 매 실행마다 빈 데이터 디렉토리로 시작해 같은 데이터셋에서 측정합니다
+ * - 스키마는 애플리케이션의 ddl-auto(update)가 만듭니다
+ * - root 계정으로 실행하는 개발 환경(컨테이너 등)에서는 서버가 기동을 거부하므로 --user=root를 지정합니다
+ */
+public class EmbeddedDatabase implements AutoCloseable {
+    public static final String DATABASE = "debate_db";
+    public static final String USERNAME = "root";
+
+    private final DBConfigurationBuilder configuration;
+    private final DB db;
+
+    private EmbeddedDatabase(DBConfigurationBuilder configuration, DB db) {
+        this.configuration = configuration;
+        this.db = db;
+    }
+
+    public static EmbeddedDatabase start(Path workDir) throws Exception {
+        Path dataDir = workDir.resolve("mariadb-data");
+        deleteRecursively(dataDir);
+        DBConfigurationBuilder configuration = DBConfigurationBuilder.newBuilder();
+        configuration.setPort(0);
+        configuration.setBaseDir(workDir.resolve("mariadb").toString());
+        configuration.setDataDir(dataDir.toString());
+        configuration.addArg("--character-set-server=utf8mb4");
+        configuration.addArg("--max-connections=500");
+        if ("root".equals(System.getProperty("user.name"))) {
+            configuration.addArg("--user=root");
+        }
+        DB db = DB.newEmbeddedDB(configuration.build());
+        db.start();
+        EmbeddedDatabase database = new EmbeddedDatabase(configuration, db);
+        // mariadb 명령행 클라이언트(createDB)는 시스템 라이브러리가 필요할 수 있어 JDBC로 생성
+        try (Connection connection = DriverManager.getConnection(database.serverUrl(), USERNAME, "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + DATABASE + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        }
+        return database;
+    }
+
+    /**
+     * 애플리케이션 설정과 같은 연결 옵션의 JDBC URL
+     */
+    public String jdbcUrl() {
+        return serverUrl() + DATABASE + "?useUnicode=true&characterEncoding=utf8&useSSL=false"
+                + "&serverTimezone=Asia/Seoul&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true";
+    }
+
+    private String serverUrl() {
+        return "jdbc:mysql://localhost:" + configuration.getPort() + "/";
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+
+    private static void deleteRecursively(Path dir) throws Exception {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (var paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.debate.loadtest;
+
+import com.debate.DebateUserApplication;
+import com.debate.config.IdSequenceInitializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ * 임베디드 MariaDB를 띄우고 데이터를 채운 뒤, 같은 JVM에서 애플리케이션을 임의 포트로 기동해 가상 사용자로 요청을 보냅니다.
+ *
+ * - 애플리케이션은 loadtest 프로필(application-loadtest.yml)로 기동합니다 (SQL 로그 끔, 업로드는 작업 디렉토리)
+ * - 요청당 SQL 수는 애플리케이션의 Server-Timing 헤더로 측정하므로 query-metrics.server-timing이 켜져 있어야 합니다
+ * - 오류 응답이 하나라도 있으면 종료 코드 1로 끝나 성능 변경 검증 스크립트에서 실패로 볼 수 있습니다
+ */
+@Slf4j
+public class LoadTestApplication {
+    private static final int IMAGE_VARIANTS = 16;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path workDir = Path.of("").toAbsolutePath();
+        int exitCode;
+        try (EmbeddedDatabase database = EmbeddedDatabase.start(workDir)) {
+            SpringApplication application = new SpringApplication(DebateUserApplication.class);
+            application.setAdditionalProfiles("loadtest");
+            try (ConfigurableApplicationContext context = application.run(
+                    "--spring.datasource.url=" + database.jdbcUrl(),
+                    "--spring.datasource.username=" + EmbeddedDatabase.USERNAME,
+                    "--spring.datasource.password=")) {
+                new DatasetSeeder(context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class),
+                        context.getBean(IdSequenceInitializer.class), settings).seed();
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadTestReport report = run(settings, "http://localhost:" + port, context.getBean(ObjectMapper.class));
+                report.print(System.out);
+                report.writeJson(context.getBean(ObjectMapper.class));
+                System.out.println("결과 파일: " + settings.reportFile().toAbsolutePath());
+                exitCode = report.getTotal().getErrors() > 0 ? 1 : 0;
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static LoadTestReport run(LoadTestSettings settings, String baseUrl, ObjectMapper objectMapper) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<byte[]> images = images(settings.seed());
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < settings.virtualUsers(); i++) {
+            int userId = 1 + i % settings.users();
+            virtualUsers.add(new VirtualUser(userId, client, objectMapper, baseUrl, settings, random.split(),
+                    images, measureFrom, end));
+        }
+        log.warn("부하 시작: vus={}, warmup={}, duration={}", settings.virtualUsers(), settings.warmup(), settings.duration());
+        ExecutorService executor = Executors.newFixedThreadPool(settings.virtualUsers());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (VirtualUser virtualUser : virtualUsers) {
+                futures.add(executor.submit(virtualUser));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        return new LoadTestReport(settings, virtualUsers);
+    }
+
+    /**
+     * 업로드용 PNG 이미지 (일부는 같은 내용이 반복되어 중복 업로드 경로도 함께 측정됩니다)
+     */
+    private static List<byte[]> images(long seed) throws Exception {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < IMAGE_VARIANTS; i++) {
+            BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    image.setRGB(x, y, random.nextInt(0x1000000));
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            images.add(out.toByteArray());
+        }
+        return images;
+    }
+}
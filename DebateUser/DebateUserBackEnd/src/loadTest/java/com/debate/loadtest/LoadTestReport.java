@@ -0,0 +1,123 @@
+package com.debate.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과
+ * 시나리오별/전체 처리량, 지연 시간 백분위수, 요청당 SQL 수를 표로 출력하고 JSON 파일로 저장합니다.
+ *
+ * - 처리량은 측정 구간(워밍업 제외) 길이로 나눈 초당 요청 수입니다
+ * - JSON에는 실행 설정도 함께 남겨 같은 조건의 결과끼리만 비교할 수 있게 합니다
+ */
+public class LoadTestReport {
+    private final LoadTestSettings settings;
+    private final Map<Scenario, ScenarioStats> scenarios = new EnumMap<>(Scenario.class);
+    private final ScenarioStats total = new ScenarioStats();
+
+    public LoadTestReport(LoadTestSettings settings, List<VirtualUser> virtualUsers) {
+        this.settings = settings;
+        for (Scenario scenario : Scenario.values()) {
+            ScenarioStats merged = new ScenarioStats();
+            for (VirtualUser virtualUser : virtualUsers) {
+                merged.merge(virtualUser.getStats().get(scenario));
+            }
+            if (merged.getCount() > 0) {
+                scenarios.put(scenario, merged);
+                total.merge(merged);
+            }
+        }
+    }
+
+    public ScenarioStats getTotal() {
+        return total;
+    }
+
+    public void print(PrintStream out) {
+        String format = "%-14s %8s %7s %9s %9s %9s %9s %9s %8s%n";
+        out.println();
+        out.printf(Locale.ROOT, "부하 테스트 결과: vus=%d, 측정 %ds (워밍업 %ds), 토론 %d건, 회원 %d명%n",
+                settings.virtualUsers(), settings.duration().toSeconds(), settings.warmup().toSeconds(),
+                settings.debates(), settings.users());
+        out.printf(Locale.ROOT, format, "scenario", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "mean(ms)", "sql/req");
+        scenarios.forEach((scenario, stats) -> printRow(out, format, scenario.getKey(), stats));
+        printRow(out, format, "TOTAL", total);
+        out.println();
+    }
+
+    private void printRow(PrintStream out, String format, String name, ScenarioStats stats) {
+        out.printf(Locale.ROOT, format, name, stats.getCount(), stats.getErrors(),
+                String.format(Locale.ROOT, "%.1f", throughput(stats)),
+                String.format(Locale.ROOT, "%.1f", stats.percentileMillis(50)),
+                String.format(Locale.ROOT, "%.1f", stats.percentileMillis(95)),
+                String.format(Locale.ROOT, "%.1f", stats.percentileMillis(99)),
+                String.format(Locale.ROOT, "%.1f", stats.meanMillis()),
+                String.format(Locale.ROOT, "%.1f", stats.sqlPerRequest()));
+    }
+
+    public void writeJson(ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("timestamp", OffsetDateTime.now().toString());
+        root.put("settings", settingsMap());
+        List<Map<String, Object>> rows = new ArrayList<>();
+        scenarios.forEach((scenario, stats) -> rows.add(row(scenario.getKey(), stats)));
+        root.put("scenarios", rows);
+        root.put("total", row("total", total));
+        Files.createDirectories(settings.reportFile().toAbsolutePath().getParent());
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(settings.reportFile().toFile(), root);
+    }
+
+    private Map<String, Object> settingsMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("virtualUsers", settings.virtualUsers());
+        map.put("warmupSeconds", settings.warmup().toSeconds());
+        map.put("durationSeconds", settings.duration().toSeconds());
+        map.put("thinkTimeMillis", settings.thinkTime().toMillis());
+        map.put("seed", settings.seed());
+        map.put("users", settings.users());
+        map.put("debates", settings.debates());
+        map.put("commentsPerDebate", settings.commentsPerDebate());
+        map.put("likesPerDebate", settings.likesPerDebate());
+        map.put("opinionsPerDebate", settings.opinionsPerDebate());
+        map.put("pageSize", settings.pageSize());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.mix().forEach((scenario, weight) -> mix.put(scenario.getKey(), weight));
+        map.put("mix", mix);
+        return map;
+    }
+
+    private Map<String, Object> row(String name, ScenarioStats stats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("scenario", name);
+        map.put("count", stats.getCount());
+        map.put("errors", stats.getErrors());
+        map.put("throughputPerSecond", round(throughput(stats)));
+        map.put("p50Millis", round(stats.percentileMillis(50)));
+        map.put("p95Millis", round(stats.percentileMillis(95)));
+        map.put("p99Millis", round(stats.percentileMillis(99)));
+        map.put("maxMillis", round(stats.percentileMillis(100)));
+        map.put("meanMillis", round(stats.meanMillis()));
+        map.put("sqlPerRequest", round(stats.sqlPerRequest()));
+        map.put("rowsPerRequest", round(stats.rowsPerRequest()));
+        return map;
+    }
+
+    private double throughput(ScenarioStats stats) {
+        return stats.getCount() / (double) Math.max(1, settings.duration().toMillis()) * 1000.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.debate.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * 시스템 속성(loadtest.*)에서 읽으며, Gradle에서는 -Ploadtest.*로 전달합니다.
+ *
+ * - 같은 설정과 시드로 실행하면 데이터와 요청 순서가 같아 커밋 간 결과를 비교할 수 있습니다
+ * - 시간 값은 Spring 형식(10s, 2m)을 사용합니다
+ */
+public record LoadTestSettings(
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        long seed,
+        int users,
+        int debates,
+        int commentsPerDebate,
+        int likesPerDebate,
+        int opinionsPerDebate,
+        int pageSize,
+        Map<Scenario, Integer> mix,
+        Path reportFile) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                intProperty("loadtest.vus", 32),
+                durationProperty("loadtest.warmup", "10s"),
+                durationProperty("loadtest.duration", "60s"),
+                durationProperty("loadtest.think-time", "0ms"),
+                Long.parseLong(System.getProperty("loadtest.seed", "42")),
+                intProperty("loadtest.dataset.users", 1_000),
+                intProperty("loadtest.dataset.debates", 5_000),
+                intProperty("loadtest.dataset.comments-per-debate", 10),
+                intProperty("loadtest.dataset.likes-per-debate", 20),
+                intProperty("loadtest.dataset.opinions-per-debate", 10),
+                intProperty("loadtest.page-size", 20),
+                parseMix(System.getProperty("loadtest.mix", "")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/result.json")));
+    }
+
+    /**
+     * 요청 비율을 읽습니다. 지정하지 않은 시나리오는 기본 가중치를 사용합니다.
+     *
+     * @param value "feed-popular=10,upload=0" 형식 (0이면 해당 시나리오 제외)
+     */
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, scenario.getDefaultWeight());
+        }
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류 (이름=가중치): " + entry);
+            }
+            mix.put(Scenario.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static Duration durationProperty(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(name, defaultValue));
+    }
+}
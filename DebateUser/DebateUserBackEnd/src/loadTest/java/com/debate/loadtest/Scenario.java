@@ -0,0 +1,46 @@
+package com.debate.loadtest;
+
+/**
+ * 부하 테스트 요청 종류와 기본 가중치
+ * 가상 사용자는 매 요청마다 가중치에 비례해 시나리오 하나를 고릅니다.
+ *
+ * - 목록(정렬별), 상세, 댓글 조회가 대부분인 읽기 위주 비율입니다
+ * - 좋아요, 업로드는 가상 사용자 본인 계정으로 인증해 요청합니다
+ */
+public enum Scenario {
+    FEED_LATEST("feed-latest", 18),
+    FEED_POPULAR("feed-popular", 8),
+    FEED_COMMENTS("feed-comments", 4),
+    FEED_VIEWS("feed-views", 4),
+    DETAIL("detail", 22),
+    COMMENTS("comments", 16),
+    LIKE_TOGGLE("like", 8),
+    SEARCH("search", 10),
+    LOGIN("login", 3),
+    UPLOAD("upload", 2);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Scenario(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오: " + key);
+    }
+}
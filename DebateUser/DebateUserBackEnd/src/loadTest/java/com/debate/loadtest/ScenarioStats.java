@@ -0,0 +1,92 @@
+package com.debate.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 시나리오 하나의 측정값
+ * 가상 사용자마다 따로 쌓고 끝난 뒤 합치므로 동기화하지 않습니다.
+ *
+ * - 지연 시간은 모든 표본을 보관해 정확한 백분위수를 계산합니다 (수십만 건 수준이면 충분히 작음)
+ * - SQL 횟수/행 수는 응답의 Server-Timing 헤더(db;desc="N queries, M rows")에서 읽습니다
+ */
+public class ScenarioStats {
+    private long[] latencies = new long[256];
+    private int count;
+    private long errors;
+    private long sqlSamples;
+    private long sqlStatements;
+    private long sqlRows;
+
+    /**
+     * @param latencyNanos 요청 시작부터 응답 본문 수신까지 (나노초)
+     * @param error        2xx가 아니거나 연결 오류
+     * @param statements   요청에서 실행한 SQL 수 (헤더가 없으면 음수)
+     * @param rows         요청에서 읽거나 변경한 행 수
+     */
+    public void record(long latencyNanos, boolean error, int statements, int rows) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+        if (statements >= 0) {
+            sqlSamples++;
+            sqlStatements += statements;
+            sqlRows += rows;
+        }
+    }
+
+    public void merge(ScenarioStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        sqlSamples += other.sqlSamples;
+        sqlStatements += other.sqlStatements;
+        sqlRows += other.sqlRows;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * 백분위수 지연 시간 (밀리초, nearest-rank)
+     */
+    public double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    public double meanMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += latencies[i];
+        }
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    public double sqlPerRequest() {
+        return sqlSamples == 0 ? 0 : sqlStatements / (double) sqlSamples;
+    }
+
+    public double rowsPerRequest() {
+        return sqlSamples == 0 ? 0 : sqlRows / (double) sqlSamples;
+    }
+}
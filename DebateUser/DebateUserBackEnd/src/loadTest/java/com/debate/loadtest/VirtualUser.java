@@ -0,0 +1,228 @@
+package com.debate.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가상 사용자
+ * 자기 계정으로 한 번 로그인한 뒤 종료 시각까지 시나리오를 가중치대로 골라 요청을 반복합니다 (닫힌 모델).
+ *
+ * - 워밍업 구간에 시작한 요청은 기록하지 않습니다
+ * - 응답 제한 시간(30초)을 넘기거나 연결에 실패한 요청은 오류로 기록합니다
+ * - 상세/댓글/좋아요 대상은 최신 토론에 몰리도록 고릅니다 (목록 첫 페이지에서 들어오는 흐름)
+ */
+public class VirtualUser implements Runnable {
+    private static final Pattern SERVER_TIMING = Pattern.compile("desc=\"(\\d+) queries, (\\d+) rows\"");
+    private static final String BOUNDARY = "----DebateLoadTestBoundary";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int userId;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final List<byte[]> images;
+    private final long measureFromNanos;
+    private final long endNanos;
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+    private String authorization;
+
+    public VirtualUser(int userId, HttpClient client, ObjectMapper objectMapper, String baseUrl,
+                       LoadTestSettings settings, SplittableRandom random, List<byte[]> images,
+                       long measureFromNanos, long endNanos) {
+        this.userId = userId;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.random = random;
+        this.images = images;
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+        this.scenarios = settings.mix().keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += Math.max(0, settings.mix().get(scenarios[i]));
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("loadtest.mix의 가중치 합이 0입니다");
+        }
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new ScenarioStats());
+        }
+    }
+
+    public Map<Scenario, ScenarioStats> getStats() {
+        return stats;
+    }
+
+    @Override
+    public void run() {
+        try {
+            authorization = "Bearer " + login(userId);
+        } catch (IOException e) {
+            throw new IllegalStateException("가상 사용자 로그인 실패: userId=" + userId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = pickScenario();
+            long started = System.nanoTime();
+            HttpResponse<byte[]> response = null;
+            try {
+                response = execute(scenario);
+            } catch (IOException e) {
+                // 연결 오류는 오류로 기록
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsed = System.nanoTime() - started;
+            // 측정 구간에 시작한 요청은 구간이 끝난 뒤 응답을 받아도 기록 (느린 요청을 빼지 않도록)
+            if (started >= measureFromNanos) {
+                record(scenario, elapsed, response);
+            }
+            thinkTime();
+        }
+    }
+
+    private HttpResponse<byte[]> execute(Scenario scenario) throws IOException, InterruptedException {
+        return switch (scenario) {
+            case FEED_LATEST -> get(feedPath("latest"), false);
+            case FEED_POPULAR -> get(feedPath("popular"), false);
+            case FEED_COMMENTS -> get(feedPath("comments"), false);
+            case FEED_VIEWS -> get(feedPath("views"), false);
+            case DETAIL -> get("/api/debate/" + hotDebateId(), false);
+            case COMMENTS -> get("/api/comments/debate/" + hotDebateId(), false);
+            case LIKE_TOGGLE -> send(request("/api/likes/debate/" + hotDebateId(), true)
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            case SEARCH -> get("/api/debate/search?keyword="
+                    + URLEncoder.encode(DatasetSeeder.KEYWORDS[random.nextInt(DatasetSeeder.KEYWORDS.length)], StandardCharsets.UTF_8)
+                    + "&page=0&size=" + settings.pageSize(), false);
+            case LOGIN -> send(loginRequest(1 + random.nextInt(settings.users())));
+            case UPLOAD -> send(request("/api/upload/image", true)
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(images.get(random.nextInt(images.size()))))));
+        };
+    }
+
+    private String login(int id) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send(loginRequest(id));
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode() + ": " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("data").path("token").asText();
+    }
+
+    private HttpRequest.Builder loginRequest(int id) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("email", DatasetSeeder.email(id), "password", DatasetSeeder.PASSWORD));
+        return request("/api/auth/login", false)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    }
+
+    private String feedPath(String sort) {
+        // 대부분 첫 페이지, 일부는 뒤쪽 페이지
+        int page = random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(9);
+        return "/api/debate?sort=" + sort + "&page=" + page + "&size=" + settings.pageSize();
+    }
+
+    /**
+     * 최신 토론일수록 자주 고릅니다 (u³ 분포). 숨김 토론은 건너뜁니다.
+     */
+    private long hotDebateId() {
+        double u = random.nextDouble();
+        long id = settings.debates() - (long) (settings.debates() * u * u * u);
+        if (DatasetSeeder.isHiddenDebate(id)) {
+            id--;
+        }
+        return Math.max(1, id);
+    }
+
+    private HttpResponse<byte[]> get(String path, boolean authenticated) throws IOException, InterruptedException {
+        return send(request(path, authenticated).GET());
+    }
+
+    private HttpRequest.Builder request(String path, boolean authenticated) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (authenticated) {
+            builder.header("Authorization", authorization);
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] multipart(byte[] image) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(image.length + 256);
+        body.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"loadtest.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(image);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private void record(Scenario scenario, long elapsed, HttpResponse<byte[]> response) {
+        if (response == null) {
+            stats.get(scenario).record(elapsed, true, -1, 0);
+            return;
+        }
+        int statements = -1;
+        int rows = 0;
+        Matcher matcher = SERVER_TIMING.matcher(response.headers().firstValue("Server-Timing").orElse(""));
+        if (matcher.find()) {
+            statements = Integer.parseInt(matcher.group(1));
+            rows = Integer.parseInt(matcher.group(2));
+        }
+        boolean error = response.statusCode() / 100 != 2;
+        stats.get(scenario).record(elapsed, error, statements, rows);
+    }
+
+    private Scenario pickScenario() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private void thinkTime() {
+        long millis = settings.thinkTime().toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.debate.config;
+
+import com.debate.service.FeedPageCache;
+import com.debate.util.ResponseFields;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * 비로그인 목록 응답 캐시 필터
+ * GET /api/debate, /api/debate/category/{id}, /api/categories 요청을 {@link FeedPageCache}의 저장된 JSON으로 바로 응답해
+ * 컨트롤러, 서비스, JPA, JSON 직렬화를 모두 건너뜁니다.
+ *
+ * - 키: 경로 + status, sort, page, size, fields (기본값으로 채워 같은 요청은 같은 키), 그 밖의 파라미터가 있으면 캐시하지 않음
+ * - 로그인 요청(Authorization 헤더)은 캐시하지 않습니다
+ * - 200 응답만 저장하며 ETag(본문 해시)를 붙이고, If-None-Match가 같으면 304로 응답합니다
+ * - 최근에 버전이 바뀌었으면 저장할 응답을 주 DB에서 만듭니다 ({@link FeedPageCache#isRecentlyChanged()})
+ * - Cache-Control: no-cache로 브라우저가 매번 ETag로 재검증하도록 합니다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "feed-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FeedCacheFilter extends OncePerRequestFilter {
+    private static final String DEBATES_PATH = "/api/debate";
+    private static final String CATEGORY_DEBATES_PREFIX = "/api/debate/category/";
+    private static final String CATEGORIES_PATH = "/api/categories";
+    private static final Set<String> FEED_PARAMETERS = Set.of("status", "sort", "page", "size", ResponseFields.PARAMETER);
+
+    private final FeedPageCache feedPageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        FeedPageCache.Scope scope;
+        Long categoryId = null;
+        String key;
+        if (DEBATES_PATH.equals(path)) {
+            scope = FeedPageCache.Scope.ALL;
+            key = feedKey(request, path);
+        } else if (path.startsWith(CATEGORY_DEBATES_PREFIX) && (categoryId = parseId(path)) != null) {
+            scope = FeedPageCache.Scope.CATEGORY;
+            key = feedKey(request, path);
+        } else if (CATEGORIES_PATH.equals(path) && request.getQueryString() == null) {
+            scope = FeedPageCache.Scope.CATALOG;
+            key = path;
+        } else {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        FeedPageCache.Version version = feedPageCache.version(scope, categoryId);
+        FeedPageCache.Page page = feedPageCache.get(key, version);
+        if (page != null) {
+            response.setHeader(HttpHeaders.ETAG, page.etag());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            if (matches(request, page.etag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            response.setContentType(page.contentType());
+            response.setContentLength(page.body().length);
+            response.getOutputStream().write(page.body());
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        if (feedPageCache.isRecentlyChanged()) {
+            boolean previous = ReplicationRoutingDataSource.usePrimary();
+            try {
+                filterChain.doFilter(request, wrapped);
+            } finally {
+                ReplicationRoutingDataSource.restore(previous);
+            }
+        } else {
+            filterChain.doFilter(request, wrapped);
+        }
+        if (wrapped.getStatus() != HttpServletResponse.SC_OK) {
+            wrapped.copyBodyToResponse();
+            return;
+        }
+        byte[] body = wrapped.getContentAsByteArray();
+        String etag = etag(body);
+        feedPageCache.put(key, version, body, wrapped.getContentType(), etag);
+        wrapped.setHeader(HttpHeaders.ETAG, etag);
+        wrapped.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (matches(request, etag)) {
+            wrapped.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        wrapped.copyBodyToResponse();
+    }
+
+    /**
+     * 목록 요청 키 (경로?status&sort&page&size&fields), 목록 파라미터가 아닌 값이 있으면 null
+     */
+    private static String feedKey(HttpServletRequest request, String path) {
+        Enumeration<String> names = request.getParameterNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (!FEED_PARAMETERS.contains(name) || request.getParameterValues(name).length > 1) {
+                return null;
+            }
+        }
+        // 컨트롤러의 기본값(sort=latest, @PageableDefault(size = 20))과 맞춤
+        return path + "?status=" + parameter(request, "status", "")
+                + "&sort=" + parameter(request, "sort", "latest")
+                + "&page=" + parameter(request, "page", "0")
+                + "&size=" + parameter(request, "size", "20")
+                + "&fields=" + String.join(",", ResponseFields.split(request.getParameter(ResponseFields.PARAMETER)));
+    }
+
+    private static String parameter(HttpServletRequest request, String name, String defaultValue) {
+        String value = request.getParameter(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    private static Long parseId(String path) {
+        String id = path.substring(CATEGORY_DEBATES_PREFIX.length());
+        if (id.isEmpty() || id.length() > 18 || !id.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.valueOf(id);
+    }
+
+    private static boolean matches(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
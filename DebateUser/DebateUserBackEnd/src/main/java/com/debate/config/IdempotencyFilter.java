@@ -0,0 +1,219 @@
+package com.debate.config;
+
+import com.debate.dto.response.ApiResponse;
+import com.debate.service.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 처리 필터
+ * 생성 API(idempotency.paths)에 Idempotency-Key 헤더가 있으면 같은 키의 요청을 한 번만 처리하고,
+ * 재시도에는 서비스 계층을 거치지 않고 첫 응답을 그대로 돌려줍니다 (Idempotent-Replayed: true 헤더).
+ *
+ * - 키는 클라이언트(사용자/IP)와 엔드포인트별로 구분하며, 같은 키로 본문이 다른 요청을 보내면 422로 거부합니다
+ * - 같은 키의 요청이 처리 중이면 끝날 때까지 기다렸다가 그 응답을 돌려주고, 대기 시간을 넘으면 409로 응답합니다
+ * - 5xx, 429 응답과 max-response-bytes를 넘는 응답은 저장하지 않으므로 같은 키로 다시 시도하면 새로 처리합니다
+ * - 인증 정보가 필요하므로 Spring Security 필터 체인 다음에 실행됩니다 (기본 순서)
+ */
+@Component
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Set<String> paths;
+    private final int maxResponseBytes;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.paths:/api/debate,/api/comments,/api/opinions,/api/reports}") List<String> paths,
+                             @Value("${idempotency.max-response-bytes:60000}") int maxResponseBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.paths = Set.copyOf(paths);
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, HEADER + "는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String keyHash = sha256((RateLimitInterceptor.clientKey(request) + "\n" + request.getMethod() + " "
+                + request.getRequestURI() + "\n" + key).getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(cachedRequest.body);
+
+        IdempotencyStore.Claim claim = store.claim(keyHash, requestHash);
+        switch (claim.outcome()) {
+            case REPLAY -> replay(response, claim.response());
+            case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "같은 " + HEADER + "로 다른 요청을 보낼 수 없습니다.");
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, HttpStatus.CONFLICT,
+                        "같은 " + HEADER + "의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            case ACQUIRED -> process(cachedRequest, response, filterChain, keyHash, requestHash);
+        }
+    }
+
+    private void process(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String keyHash, String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapped);
+            int status = wrapped.getStatus();
+            byte[] body = wrapped.getContentAsByteArray();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value() && body.length <= maxResponseBytes) {
+                // 응답을 보내기 전에 저장해 응답을 받은 클라이언트의 재시도가 항상 저장된 응답을 받도록 함
+                store.complete(keyHash, new IdempotencyStore.StoredResponse(status, wrapped.getContentType(),
+                        new String(body, StandardCharsets.UTF_8), requestHash));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(keyHash);
+            }
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청 본문을 미리 읽어 해시를 계산하고 컨트롤러에서 다시 읽을 수 있게 하는 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 모두 읽어 두었으므로 바로 읽을 수 있다고 알리고 곧이어 읽기 완료를 알립니다.
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.debate.config;
+
+import com.debate.util.ResponseFields;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON 직렬화 설정
+ * 응답 DTO의 필드 선택(fields 파라미터, {@link ResponseFields})을 직렬화에 적용합니다.
+ *
+ * - 애플리케이션 ObjectMapper의 기본 필터는 모든 필드를 직렬화하므로 fields가 없는 응답은 기존과 같습니다
+ * - fields가 있는 요청은 @JsonFilter가 붙은 DTO(토론, 댓글)에서 고른 필드만 씁니다 (ApiResponse, Page 등은 그대로)
+ * - 요청별 필터는 {@link ResponseFieldsAdvice}가 지정합니다
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer responseFieldsFilterCustomizer() {
+        return builder -> builder.filters(ResponseFields.serializeAll());
+    }
+}
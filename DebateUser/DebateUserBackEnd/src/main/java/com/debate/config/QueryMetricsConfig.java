@@ -0,0 +1,42 @@
+package com.debate.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 측정 설정
+ * 애플리케이션이 사용하는 DataSource(dataSource 빈)를 datasource-proxy로 감싸 {@link RequestQueryStats}에 집계합니다.
+ *
+ * - 복제본 라우팅을 켠 경우에도 라우팅 DataSource 바깥을 감싸므로 주 DB/복제본 쿼리가 모두 집계됩니다
+ * - query-metrics.enabled=false이면 감싸지 않습니다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "query-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+                RequestQueryStats.Listener listener = new RequestQueryStats.Listener();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(DATA_SOURCE_BEAN, dataSource)
+                        .listener(listener);
+                if (environment.getProperty("query-metrics.count-rows", Boolean.class, true)) {
+                    builder.proxyResultSet().methodListener(listener);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package com.debate.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 통계 필터
+ * 요청 하나가 실행한 SQL 횟수, 조회/변경 행 수, 실행 시간을 모아 응답 헤더와 메트릭으로 내보냅니다.
+ *
+ * - Server-Timing 헤더: 응답 본문을 쓰기 직전까지의 통계 (브라우저 개발자 도구의 Timing 탭에서 확인)
+ * - Micrometer: db.request.time(타이머), db.request.statements, db.request.rows (method, uri 태그)
+ * - SQL 실행 횟수가 엔드포인트 예산을 넘으면 경고 로그를 남기고 db.request.budget.exceeded를 올립니다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "query-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+    private static final String SERVER_TIMING = "Server-Timing";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryMetricsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        ServerTimingResponse wrapped = new ServerTimingResponse(response, stats, properties.isServerTiming());
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            RequestQueryStats.end();
+            wrapped.writeServerTiming();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        Timer.builder("db.request.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("db.request.statements")
+                .description("요청당 SQL 실행 횟수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("db.request.rows")
+                .description("요청당 조회/변경 행 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+
+        String endpoint = request.getMethod() + " " + uri;
+        int limit = properties.getBudget().limitFor(endpoint);
+        if (limit > 0 && stats.getStatements() > limit) {
+            meterRegistry.counter("db.request.budget.exceeded", tags).increment();
+            log.warn("쿼리 예산 초과: {} - SQL {}회 (예산 {}회), 행 {}개, {}ms, 요청={}",
+                    endpoint, stats.getStatements(), limit, stats.getRows(),
+                    String.format(Locale.ROOT, "%.1f", stats.getElapsedMillis()), request.getRequestURI());
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 직전(본문 출력 시작, flush, 오류/리다이렉트)에 Server-Timing 헤더를 붙이는 래퍼
+     */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+        private final RequestQueryStats stats;
+        private final boolean enabled;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestQueryStats stats, boolean enabled) {
+            super(response);
+            this.stats = stats;
+            this.enabled = enabled;
+        }
+
+        void writeServerTiming() {
+            if (!enabled || written || isCommitted()) {
+                return;
+            }
+            written = true;
+            addHeader(SERVER_TIMING, String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d queries, %d rows\"",
+                    stats.getElapsedMillis(), stats.getStatements(), stats.getRows()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
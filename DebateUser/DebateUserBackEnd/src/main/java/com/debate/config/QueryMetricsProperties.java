@@ -0,0 +1,43 @@
+package com.debate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 측정 설정 (query-metrics.*)
+ *
+ * - budget.endpoints의 키는 "메서드 URI 패턴" 형식입니다 (예: "[GET /api/debates/{id}]": 10)
+ * - 엔드포인트별 예산이 없으면 budget.default-statements를 사용합니다 (0 이하이면 검사하지 않음)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "query-metrics")
+public class QueryMetricsProperties {
+    private boolean enabled = true;
+    private boolean serverTiming = true;   // Server-Timing 응답 헤더 출력 여부
+    private boolean countRows = true;      // ResultSet.next() 호출을 세어 조회 행 수 측정
+    private Budget budget = new Budget();
+
+    @Getter
+    @Setter
+    public static class Budget {
+        private int defaultStatements = 30;
+        private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+        /**
+         * 엔드포인트의 SQL 실행 횟수 예산
+         *
+         * @param endpoint "메서드 URI 패턴" 형식의 엔드포인트
+         * @return 허용 실행 횟수, 검사하지 않으면 0 이하
+         */
+        public int limitFor(String endpoint) {
+            return endpoints.getOrDefault(endpoint, defaultStatements);
+        }
+    }
+}
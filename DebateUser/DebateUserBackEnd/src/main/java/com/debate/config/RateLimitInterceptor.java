@@ -0,0 +1,53 @@
+package com.debate.config;
+
+import com.debate.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한도 인터셉터
+ * 매핑된 URI 패턴으로 정책을 찾아 로그인 사용자는 사용자별로, 비로그인 요청은 IP별로 한도를 적용합니다.
+ *
+ * - 한도를 넘으면 {@link TooManyRequestsException}을 던져 429와 Retry-After 헤더로 응답합니다
+ * - 프록시 뒤에서 IP를 구분하려면 server.forward-headers-strategy 설정이 필요합니다
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(request.getMethod() + " " + pattern, clientKey(request));
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new TooManyRequestsException("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+                    retryAfterSeconds);
+        }
+        return true;
+    }
+
+    /**
+     * 요청한 클라이언트 키 (로그인 사용자는 "user:이메일", 비로그인은 "ip:주소")
+     */
+    static String clientKey(HttpServletRequest request) {
+        // Spring Security가 감싼 요청은 익명 사용자일 때 null을 반환
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,35 @@
+package com.debate.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 한도 설정 (rate-limit.*)
+ *
+ * - policies의 키는 "메서드 URI 패턴" 형식입니다 (예: "[POST /api/comments]": {limit: 10, period: 1m, burst: 5})
+ * - 정책이 없는 엔드포인트는 제한하지 않습니다
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxBuckets = 100_000;                       // 메모리에 유지할 최대 버킷 수 (사용자/IP x 정책)
+    private Duration evictionInterval = Duration.ofSeconds(30);
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private int limit = 60;                             // period 동안 허용하는 요청 수 (평균 속도)
+        private Duration period = Duration.ofMinutes(1);
+        private int burst = 10;                             // 쉬었다가 한 번에 보낼 수 있는 최대 요청 수
+    }
+}
@@ -0,0 +1,205 @@
+package com.debate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 요청 한도 (토큰 버킷)
+ * 사용자/IP마다 버킷을 두고 요청 하나에 토큰 하나를 씁니다.
+ *
+ * - 버킷은 "다음 요청이 이론상 도착해야 하는 시각"(TAT) 하나만 저장하는 GCRA 방식으로 구현해 별도 충전 작업 없이
+ *   요청 시점에 경과 시간만큼 충전된 것으로 계산합니다 (AtomicLong CAS, 락 없음)
+ * - 가득 찬(오래 쉰) 버킷은 저장할 필요가 없으므로 주기적으로 제거합니다 (요청 처리 스레드에서는 제거하지 않음)
+ * - 버킷 수가 rate-limit.max-buckets에 이르면 스케줄러에 정리를 앞당겨 요청하고, 그동안 새 클라이언트는
+ *   IP 대역(IPv4 /24, IPv6 /64) 또는 사용자별로 나눈 정책별 공용 버킷 중 하나를 함께 씁니다
+ *   (클라이언트를 계속 바꿔 버킷을 채워도 한도가 풀리지 않고, 한 클라이언트가 다른 새 클라이언트 모두를 막지도 않음,
+ *   rate.limit.requests{result=overflow})
+ * - 메트릭: rate.limit.requests (policy, result 태그), rate.limit.buckets (버킷 수)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final int OVERFLOW_STRIPES = 256;
+    private static final long EARLY_EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final RateLimitProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final Map<String, Limit> limits = new HashMap<>();
+    private final AtomicInteger bucketCount = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong nextEarlyEviction = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(RateLimitProperties properties, TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        properties.getPolicies().forEach((endpoint, policy) ->
+                limits.put(endpoint, new Limit(endpoint, policy, meterRegistry)));
+        Gauge.builder("rate.limit.buckets", bucketCount, AtomicInteger::get)
+                .description("요청 한도 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단하고 허용하면 토큰을 씁니다.
+     *
+     * @param endpoint 엔드포인트 ("메서드 URI 패턴")
+     * @param client   클라이언트 키 (사용자 또는 IP)
+     * @return 허용하면 0, 거부하면 다시 시도할 수 있을 때까지의 시간 (나노초)
+     */
+    public long tryAcquire(String endpoint, String client) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        Limit limit = limits.get(endpoint);
+        if (limit == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        AtomicLong bucket = limit.buckets.get(client);
+        if (bucket == null) {
+            bucket = createBucket(limit, client, now);
+        }
+        while (true) {
+            long tat = bucket.get();
+            long base = Math.max(tat, now);
+            long wait = base - now - limit.toleranceNanos;
+            if (wait > 0) {
+                limit.rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, base + limit.emissionNanos)) {
+                limit.allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong createBucket(Limit limit, String client, long now) {
+        if (bucketCount.get() >= properties.getMaxBuckets()) {
+            // 정리가 자리를 만들 때까지 새 클라이언트는 대역별 공용 버킷으로 함께 제한
+            requestEarlyEviction(now);
+            limit.overflowed.increment();
+            return limit.overflow[Math.floorMod(coarseKey(client).hashCode(), OVERFLOW_STRIPES)];
+        }
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = limit.buckets.putIfAbsent(client, created);
+        if (existing != null) {
+            return existing;
+        }
+        bucketCount.incrementAndGet();
+        return created;
+    }
+
+    /**
+     * 버킷 수 한도에 이르면 다음 정리 주기를 기다리지 않고 스케줄러 스레드에서 정리를 실행합니다 (최대 초당 한 번).
+     */
+    private void requestEarlyEviction(long now) {
+        long next = nextEarlyEviction.get();
+        if (now - next < 0 || !nextEarlyEviction.compareAndSet(next, now + EARLY_EVICTION_INTERVAL_NANOS)) {
+            return;
+        }
+        taskScheduler.schedule(this::evictIdle, Instant.now());
+    }
+
+    /**
+     * 공용 버킷을 고르는 키
+     * 비로그인 클라이언트는 IP 대역(IPv4 /24, IPv6 앞 4그룹)으로 묶어 주소를 바꿔 가며 다른 대역을 막지 못하게 합니다.
+     */
+    private static String coarseKey(String client) {
+        if (!client.startsWith("ip:")) {
+            return client;
+        }
+        String address = client.substring(3);
+        int end = address.indexOf(':') >= 0 ? nthIndexOf(address, ':', 4) : address.lastIndexOf('.');
+        return end > 0 ? "ip:" + address.substring(0, end) : client;
+    }
+
+    private static int nthIndexOf(String value, char ch, int n) {
+        int index = -1;
+        for (int i = 0; i < n; i++) {
+            index = value.indexOf(ch, index + 1);
+            if (index < 0) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 가득 찬 버킷(마지막 요청 이후 충분히 쉰 클라이언트)을 제거합니다.
+     * 동시에 한 스레드만 실행하며, 제거와 동시에 들어온 요청은 새 버킷에서 다시 시작할 수 있습니다 (토큰 하나 이내의 오차).
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT30S}")
+    public void evictIdle() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            int removed = 0;
+            for (Limit limit : limits.values()) {
+                for (Map.Entry<String, AtomicLong> entry : limit.buckets.entrySet()) {
+                    if (entry.getValue().get() - now <= 0 && limit.buckets.remove(entry.getKey(), entry.getValue())) {
+                        removed++;
+                    }
+                }
+            }
+            if (removed > 0) {
+                bucketCount.addAndGet(-removed);
+                log.debug("요청 한도 버킷 정리: 제거 {}개, 남은 {}개", removed, bucketCount.get());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 정책 하나의 버킷 모음
+     *
+     * - emissionNanos: 토큰 하나가 충전되는 간격 (period / limit)
+     * - toleranceNanos: 연속으로 허용하는 요청 수(burst)만큼 앞당겨 쓸 수 있는 시간
+     * - overflow: 버킷 수 한도를 넘었을 때 새 클라이언트가 대역별로 나눠 함께 쓰는 버킷 (같은 칸끼리 정책 한도를 합쳐 적용)
+     */
+    private static final class Limit {
+        final long emissionNanos;
+        final long toleranceNanos;
+        final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        final AtomicLong[] overflow = new AtomicLong[OVERFLOW_STRIPES];   // 버킷 수 한도를 넘은 클라이언트의 공용 버킷
+        final Counter allowed;
+        final Counter rejected;
+        final Counter overflowed;
+
+        Limit(String endpoint, RateLimitProperties.Policy policy, MeterRegistry meterRegistry) {
+            this.emissionNanos = Math.max(1, policy.getPeriod().toNanos() / Math.max(1, policy.getLimit()));
+            this.toleranceNanos = emissionNanos * (Math.max(1, policy.getBurst()) - 1);
+            long now = System.nanoTime();
+            for (int i = 0; i < overflow.length; i++) {
+                overflow[i] = new AtomicLong(now);
+            }
+            this.allowed = counter(meterRegistry, endpoint, "allowed");
+            this.rejected = counter(meterRegistry, endpoint, "rejected");
+            this.overflowed = counter(meterRegistry, endpoint, "overflow");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String endpoint, String result) {
+            return Counter.builder("rate.limit.requests")
+                    .description("요청 한도 판정 결과")
+                    .tag("policy", endpoint)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.debate.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 복제본(replica)으로, 그 외에는 주 DB(primary)로 보냅니다.
+ *
+ * - 복제 지연이 허용치를 넘었거나 복제본 연결에 실패하면 주 DB로 대체합니다
+ * - 사용자가 쓰기 트랜잭션을 커밋한 직후 일정 시간은 그 사용자의 읽기도 주 DB로 보냅니다 (read-your-writes)
+ * - 공유 캐시를 채우는 조회처럼 복제 지연으로 오래된 값을 읽으면 안 되는 조회는 {@link #readFromPrimary(Supplier)}로 주 DB에서 읽습니다
+ * - 트랜잭션의 readOnly 여부가 정해진 뒤 연결을 고르도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용합니다
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+    private static final int STICKY_PURGE_THRESHOLD = 10_000;
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyWindowMillis;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, Duration stickyWindow) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String client = currentClientKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWrite(client);
+            return PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null || !lagMonitor.isReplicaAvailable() || isSticky(client)) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    /**
+     * 작업 안의 읽기 전용 트랜잭션도 주 DB에서 읽습니다 (현재 스레드만 해당).
+     * 쓰기로 보지 않으므로 사용자를 주 DB에 고정하지 않으며, 복제본 설정이 꺼져 있으면 아무 효과가 없습니다.
+     *
+     * @param action 작업
+     * @return 작업 결과
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        boolean previous = usePrimary();
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 이후 현재 스레드의 읽기 전용 트랜잭션을 주 DB로 보냅니다. 작업이 끝나면 반환값을 {@link #restore(boolean)}에 넘깁니다.
+     * 검사 예외를 던지는 작업(필터 체인 등)에서 {@link #readFromPrimary(Supplier)} 대신 사용합니다.
+     *
+     * @return 이전에 이미 주 DB로 보내고 있었는지 여부
+     */
+    public static boolean usePrimary() {
+        boolean previous = PRIMARY_READS.get() != null;
+        PRIMARY_READS.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * {@link #usePrimary()} 이전 상태로 되돌립니다.
+     *
+     * @param previous {@link #usePrimary()}의 반환값
+     */
+    public static void restore(boolean previous) {
+        if (!previous) {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    /**
+     * 복제본 연결을 얻지 못하면 복제본을 사용 불가로 표시하고 주 DB 연결을 반환합니다.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!REPLICA.equals(determineCurrentLookupKey())) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 해당 사용자를 일정 시간 주 DB에 고정합니다.
+     */
+    private void rememberWrite(String client) {
+        if (client == null || stickyWindowMillis <= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stick(client);
+                }
+            });
+        } else {
+            stick(client);
+        }
+    }
+
+    private void stick(String client) {
+        long now = System.currentTimeMillis();
+        if (stickyUntil.size() > STICKY_PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until < now);
+        }
+        stickyUntil.put(client, now + stickyWindowMillis);
+    }
+
+    private boolean isSticky(String client) {
+        if (client == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntil.remove(client, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 요청의 사용자 식별 키
+     * 인증된 사용자는 사용자명, 인증 전 요청(회원가입 직후 로그인 등)은 클라이언트 IP를 사용합니다.
+     */
+    private static String currentClientKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal())) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.debate.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 통계 (실행 횟수, 조회/변경 행 수, 실행 시간)
+ *
+ * - {@link QueryMetricsFilter}가 요청 시작 시 현재 스레드에 연결하고 끝나면 해제합니다
+ * - 요청 밖(스케줄러, 기동 시 초기화)에서 실행된 SQL은 집계하지 않습니다
+ * - 배치 실행은 한 번의 실행으로 셉니다 (DB 왕복 기준)
+ * - 요청이 다른 스레드에 맡긴 조회는 {@link #propagate(Supplier)}로 감싸면 함께 집계합니다 (실행 시간은 스레드별 합계)
+ */
+public class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+    private long queryStartNanos;
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 다른 스레드에서 실행할 작업의 SQL도 현재 요청의 통계에 집계하도록 감쌉니다.
+     * 작업은 자기 통계를 따로 모으고 끝나면 요청 통계에 더합니다.
+     *
+     * @param task 작업
+     * @return 감싼 작업 (요청 밖에서 호출하면 작업 그대로)
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestQueryStats request = CURRENT.get();
+        if (request == null) {
+            return task;
+        }
+        return () -> {
+            // 실행기가 가득 차 요청 스레드에서 바로 실행하는 경우 요청 통계를 되돌려 놓음
+            RequestQueryStats previous = CURRENT.get();
+            RequestQueryStats stats = new RequestQueryStats();
+            CURRENT.set(stats);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+                request.add(stats);
+            }
+        };
+    }
+
+    private synchronized void add(RequestQueryStats other) {
+        statements += other.statements;
+        rows += other.rows;
+        elapsedNanos += other.elapsedNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * datasource-proxy 리스너
+     * SQL 실행 전후로 시간을 재고, ResultSet.next()가 true를 반환할 때마다 조회 행 수를 더합니다.
+     */
+    static class Listener implements QueryExecutionListener, MethodExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestQueryStats stats = CURRENT.get();
+            if (stats != null) {
+                stats.queryStartNanos = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestQueryStats stats = CURRENT.get();
+            if (stats == null) {
+                return;
+            }
+            stats.statements++;
+            stats.elapsedNanos += System.nanoTime() - stats.queryStartNanos;
+            Object result = execInfo.getResult();
+            if (result instanceof Integer updated && updated > 0) {
+                stats.rows += updated;
+            } else if (result instanceof int[] batch) {
+                for (int updated : batch) {
+                    if (updated > 0) {
+                        stats.rows += updated;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                RequestQueryStats stats = CURRENT.get();
+                if (stats != null) {
+                    stats.rows++;
+                }
+            }
+        }
+    }
+}
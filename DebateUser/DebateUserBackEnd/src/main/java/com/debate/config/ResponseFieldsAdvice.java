@@ -0,0 +1,37 @@
+package com.debate.config;
+
+import com.debate.util.ResponseFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * 응답 필드 선택 적용
+ * fields 파라미터가 있는 요청은 @JsonFilter가 붙은 DTO(토론, 댓글)에서 고른 필드만 직렬화합니다.
+ *
+ * - ApiResponse, Page 등 필터가 없는 클래스는 그대로 직렬화합니다
+ * - 지원하지 않는 필드 이름 검증은 컨트롤러의 {@link ResponseFields#parse}가 맡습니다
+ */
+@RestControllerAdvice
+public class ResponseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Set<String> names = ResponseFields.split(servletRequest.getServletRequest().getParameter(ResponseFields.PARAMETER));
+        if (!names.isEmpty()) {
+            bodyContainer.setFilters(ResponseFields.filters(names));
+        }
+    }
+}
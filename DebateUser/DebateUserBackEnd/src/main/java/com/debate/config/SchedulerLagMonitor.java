@@ -0,0 +1,43 @@
+package com.debate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄러 지연 측정
+ * 짧은 주기의 탐침 작업이 예정 시각보다 얼마나 늦게 시작되는지를 scheduler.lag 타이머로 기록합니다.
+ *
+ * - @Scheduled 작업은 spring.task.scheduling.pool.size개의 스레드를 공유하므로, 작업이 몰리거나 늦어질 때 다른 작업을 얼마나 밀어내는지 보여줍니다
+ * - 오래 걸리는 작업(업로드 정리)은 전용 스레드에서 실행하므로 이 지연에 포함되지 않아야 합니다
+ * - 고정 지연(fixedDelay) 방식이므로 예정 시각은 직전 실행 종료 시각 + 주기입니다
+ */
+@Component
+public class SchedulerLagMonitor {
+    private final Timer lagTimer;
+    private final long intervalNanos;
+    private long nextExpectedNanos = -1;
+
+    public SchedulerLagMonitor(MeterRegistry registry,
+                               @Value("${metrics.scheduler-lag.interval:PT1S}") Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.lagTimer = Timer.builder("scheduler.lag")
+                .description("@Scheduled 작업의 예정 시각 대비 시작 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.scheduler-lag.interval:PT1S}")
+    public void probe() {
+        long now = System.nanoTime();
+        if (nextExpectedNanos >= 0) {
+            lagTimer.record(Math.max(0, now - nextExpectedNanos), TimeUnit.NANOSECONDS);
+        }
+        nextExpectedNanos = System.nanoTime() + intervalNanos;
+    }
+}
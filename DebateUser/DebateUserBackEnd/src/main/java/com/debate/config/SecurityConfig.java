@@ -85,9 +85,10 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()  // Swagger UI 허용
                         .requestMatchers("/api-docs/**", "/v3/api-docs/**").permitAll()     // API 문서 허용
                         // Actuator 엔드포인트: 개발 환경에서는 허용, 프로덕션에서는 인증 필요하도록 설정 가능
-                        .requestMatchers("/actuator/health", "/actuator/info", "/actuator/loggers/**").permitAll()  // 개발용: 인증 없이 접근 가능 (loggers 하위 경로 포함)
+                        .requestMatchers("/actuator/health", "/actuator/info", "/actuator/loggers/**", "/actuator/metrics/**").permitAll()  // 개발용: 인증 없이 접근 가능 (loggers 하위 경로 포함)
+                        .requestMatchers("/actuator/prometheus").permitAll()  // Prometheus 수집 (관리 포트에서만 제공, 방화벽으로 내부망에만 공개)
                         // 프로덕션에서는 아래 주석을 해제하고 위의 permitAll()을 제거하세요:
-                        // .requestMatchers("/actuator/health", "/actuator/info", "/actuator/loggers/**").authenticated()  // 프로덕션용: 인증 필요
+                        // .requestMatchers("/actuator/health", "/actuator/info", "/actuator/loggers/**", "/actuator/metrics/**").authenticated()  // 프로덕션용: 인증 필요
                         .anyRequest().authenticated()                       // 그 외 모든 요청은 인증 필요
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);  // JWT 필터를 인증 필터 전에 추가
@@ -114,6 +115,9 @@ public class SecurityConfig {
         
         // 허용할 HTTP 헤더
         configuration.setAllowedHeaders(List.of("*"));
+
+        // 브라우저 스크립트에서 읽을 수 있는 응답 헤더 (요청 한도, 멱등 재전송 여부)
+        configuration.setExposedHeaders(List.of("Retry-After", IdempotencyFilter.REPLAYED_HEADER));
         
         // 인증 정보(쿠키 등) 허용
         configuration.setAllowCredentials(true);
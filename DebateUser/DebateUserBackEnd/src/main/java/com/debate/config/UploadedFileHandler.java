@@ -0,0 +1,300 @@
+package com.debate.config;
+
+import com.debate.service.ImageVariantService;
+import com.debate.service.ImageVariantService.Variant;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 제공 핸들러
+ * 업로드 파일은 이름이 고유하고 내용이 바뀌지 않으므로 브라우저/프록시가 오래 캐시할 수 있도록 제공합니다.
+ *
+ * - Cache-Control: public, max-age=1년, immutable
+ * - 강한 ETag (콘텐츠 주소 파일은 해시, 그 외는 크기+수정 시각)와 Last-Modified, 조건부 요청 시 304 응답
+ * - 단일 바이트 범위(Range) 요청 시 206 응답 (여러 범위 요청은 전체 응답으로 처리)
+ * - 미리 압축된 파일(.br, .gz)이 있으면 Accept-Encoding에 맞춰 제공
+ * - 이미지 변형본(?variant=thumb 또는 _thumb 접미사) 선택, 없으면 원본으로 대체
+ * - Tomcat sendfile을 지원하면 커널 수준 zero-copy로 전송하고, 아니면 FileChannel.transferTo로 전송
+ */
+@Slf4j
+@Component
+public class UploadedFileHandler implements HttpRequestHandler {
+    private static final String VARIANT_PARAM = "variant";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String FALLBACK_CACHE_CONTROL = "public, max-age=60";
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("^([0-9a-f]{64}(?:_[a-z]+)?)\\.[a-z0-9]+$");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageVariantService imageVariantService;
+    private final Path rootPath;
+    private final boolean precompressed;
+    private final long sendfileMinSize;
+
+    public UploadedFileHandler(ImageVariantService imageVariantService,
+                               @Value("${file.upload-dir:uploads}") String uploadDir,
+                               @Value("${file.serve.precompressed:true}") boolean precompressed,
+                               @Value("${file.serve.sendfile-min-size:48KB}") DataSize sendfileMinSize) {
+        this.imageVariantService = imageVariantService;
+        this.rootPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.precompressed = precompressed;
+        this.sendfileMinSize = sendfileMinSize.toBytes();
+    }
+
+    @Override
+    public void handleRequest(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        Path requested = resolveRequestedPath(request);
+        if (requested == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 변형본 선택: 없는 변형본은 원본으로 대체하고 짧게만 캐시 (생성 후 변형본을 받도록)
+        Path file = requested;
+        boolean fallback = false;
+        if (!Files.isRegularFile(file)) {
+            Path original = imageVariantService.originalOf(file);
+            if (original == null || !Files.isRegularFile(original)) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            imageVariantService.generateAsync(original);
+            file = original;
+            fallback = true;
+        } else {
+            Variant variant = Variant.from(request.getParameter(VARIANT_PARAM));
+            if (variant != null) {
+                file = imageVariantService.resolve(requested, variant);
+                if (file.equals(requested)) {
+                    imageVariantService.generateAsync(requested);
+                    fallback = true;
+                }
+            }
+        }
+
+        // 미리 압축된 파일 선택 (범위 요청에는 사용하지 않음)
+        String contentEncoding = null;
+        Path body = file;
+        boolean hasEncodedSibling = false;
+        if (precompressed) {
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            for (String[] encoding : new String[][]{{"br", ".br"}, {"gzip", ".gz"}}) {
+                Path sibling = file.resolveSibling(file.getFileName() + encoding[1]);
+                if (!Files.isRegularFile(sibling)) {
+                    continue;
+                }
+                hasEncodedSibling = true;
+                if (contentEncoding == null && request.getHeader(HttpHeaders.RANGE) == null
+                        && acceptEncoding != null && acceptEncoding.contains(encoding[0])) {
+                    contentEncoding = encoding[0];
+                    body = sibling;
+                }
+            }
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(body, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+        String etag = etagOf(file, length, lastModified, contentEncoding);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, fallback ? FALLBACK_CACHE_CONTROL : IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (hasEncodedSibling) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+        if (contentEncoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && contentEncoding == null && ifRangeMatches(request, etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (head || count == 0) {
+            return;
+        }
+        transfer(request, response, body, start, count);
+    }
+
+    /**
+     * 요청 경로를 업로드 루트 내부의 파일 경로로 변환합니다.
+     * 루트 바깥을 가리키거나 숨김 경로(.으로 시작)를 포함하면 null을 반환합니다.
+     */
+    private Path resolveRequestedPath(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        if (!(attribute instanceof String relative) || relative.isEmpty()
+                || relative.contains("\\") || relative.contains(":") || relative.indexOf('\0') >= 0) {
+            return null;
+        }
+        for (String segment : relative.split("/")) {
+            if (segment.startsWith(".")) {
+                return null;
+            }
+        }
+        Path path = rootPath.resolve(relative).normalize();
+        return path.startsWith(rootPath) && !path.equals(rootPath) ? path : null;
+    }
+
+    /**
+     * 강한 ETag를 만듭니다.
+     * 콘텐츠 주소 파일(해시 이름)은 이름 자체가 내용을 식별하므로 해시를 사용합니다.
+     */
+    private String etagOf(Path file, long length, long lastModified, String contentEncoding) {
+        Matcher matcher = CONTENT_HASH_NAME.matcher(file.getFileName().toString());
+        String tag = matcher.matches()
+                ? matcher.group(1)
+                : Long.toHexString(length) + "-" + Long.toHexString(lastModified);
+        if (contentEncoding != null) {
+            tag += "-" + contentEncoding;
+        }
+        return "\"" + tag + "\"";
+    }
+
+    /**
+     * If-Range 헤더가 없거나 현재 표현과 일치하면 범위 요청을 적용합니다.
+     */
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) == lastModified;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 단일 바이트 범위를 해석합니다.
+     *
+     * @return {시작, 끝}, 여러 범위/해석 불가 형식이면 빈 배열(전체 응답), 만족할 수 없는 범위면 null
+     */
+    private long[] parseRange(String range, long length) {
+        Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+        if (!matcher.matches()) {
+            return new long[0];
+        }
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return new long[0];
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix == 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    /**
+     * 파일 본문을 전송합니다.
+     * Tomcat sendfile을 쓸 수 있으면 전송을 컨테이너에 맡기고(zero-copy), 아니면 FileChannel.transferTo로 복사합니다.
+     */
+    private void transfer(HttpServletRequest request, HttpServletResponse response,
+                          Path body, long start, long count) throws IOException {
+        if (count >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, body.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(body, StandardOpenOption.READ)) {
+            ServletOutputStream outputStream = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            // 다운로드 중 클라이언트 연결이 끊긴 경우
+            log.debug("파일 전송 중단: file={}, error={}", body.getFileName(), e.getMessage());
+        }
+    }
+}
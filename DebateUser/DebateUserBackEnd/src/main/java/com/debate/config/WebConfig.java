@@ -1,39 +1,45 @@
 package com.debate.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.lang.NonNull;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
-import java.nio.file.Paths;
+import java.util.Map;
 
 /**
  * 웹 설정 클래스
- * 정적 리소스 핸들러를 설정합니다.
+ * 업로드 파일 제공 핸들러와 요청 한도 인터셉터를 설정합니다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
-
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     @Value("${file.upload-url-prefix:/uploads}")
     private String uploadUrlPrefix;
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+    }
+
     /**
-     * 정적 리소스 핸들러 등록
-     * 업로드된 파일을 제공하기 위한 핸들러를 추가합니다.
-     * 
-     * @param registry ResourceHandlerRegistry
+     * 업로드 파일 핸들러 매핑 등록
+     * 업로드된 파일은 캐시/범위 요청/zero-copy 전송을 지원하는 {@link UploadedFileHandler}가 제공합니다.
+     *
+     * @param uploadedFileHandler 업로드 파일 제공 핸들러
+     * @return 업로드 URL prefix에 대한 핸들러 매핑
      */
-    @Override
-    public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
-        // 업로드된 파일을 제공하는 핸들러 등록 (절대 경로로 변환)
-        String uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize().toString().replace("\\", "/");
-        
-        registry.addResourceHandler(uploadUrlPrefix + "/**")
-                .addResourceLocations("file:" + uploadPath + "/");
+    @Bean
+    public SimpleUrlHandlerMapping uploadedFileHandlerMapping(UploadedFileHandler uploadedFileHandler) {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of(uploadUrlPrefix + "/**", uploadedFileHandler));
+        // 컨트롤러 매핑 다음, 기본 정적 리소스 매핑보다 먼저 적용
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        return mapping;
     }
 }
-
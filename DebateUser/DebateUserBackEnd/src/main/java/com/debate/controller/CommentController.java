@@ -4,6 +4,7 @@ import com.debate.dto.request.CreateCommentRequest;
 import com.debate.dto.response.ApiResponse;
 import com.debate.dto.response.CommentResponse;
 import com.debate.service.CommentService;
+import com.debate.util.ResponseFields;
 import com.debate.util.SecurityUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,8 +36,10 @@ public class CommentController {
     @GetMapping("/debate/{debateId}")
     public ResponseEntity<ApiResponse<Page<CommentResponse>>> getCommentsByDebate(
             @PathVariable Long debateId,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<CommentResponse> response = commentService.getCommentsByDebate(debateId, pageable);
+        Page<CommentResponse> response = commentService.getCommentsByDebate(debateId, pageable,
+                ResponseFields.parse(fields, CommentResponse.FIELDS));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -3,9 +3,13 @@ package com.debate.controller;
 import com.debate.dto.request.CreateDebateRequest;
 import com.debate.dto.request.UpdateDebateRequest;
 import com.debate.dto.response.ApiResponse;
+import com.debate.dto.response.DebateBatchItem;
+import com.debate.dto.response.DebateBootstrapResponse;
 import com.debate.dto.response.DebateResponse;
 import com.debate.entity.Debate;
+import com.debate.service.DebateBootstrapService;
 import com.debate.service.DebateService;
+import com.debate.util.ResponseFields;
 import com.debate.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,11 +17,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * 토론(Debate) 관련 REST API 컨트롤러
  * 토론 생성, 조회, 검색, 삭제 등의 기능을 제공합니다.
@@ -28,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class DebateController {
     private final DebateService debateService;      // 토론 비즈니스 로직 서비스
+    private final DebateBootstrapService debateBootstrapService;  // 토론 화면 초기 데이터 조회 서비스
     private final SecurityUtil securityUtil;    // 보안 유틸리티 (현재 사용자 정보 조회)
 
     /**
@@ -56,19 +65,62 @@ public class DebateController {
      * 토론 ID로 토론 상세 정보 조회
      * 
      * @param id 토론 ID
+     * @param fields 응답 필드 (선택적, 쉼표 구분: id,title,likeCount 등)
      * @return 토론 상세 정보 (좋아요 수, 댓글 수 포함)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<DebateResponse>> getDebateById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<DebateResponse>> getDebateById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
+        // 필드 이름 검증 (상세는 공유 캐시에서 꺼내므로 직렬화에서만 필드를 고름)
+        ResponseFields.parse(fields, DebateResponse.FIELDS);
         DebateResponse response = debateService.getDebateById(id);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 토론 화면 초기 데이터 조회
+     * 토론 상세(조회수 증가), 댓글 첫 페이지, 입장별 의견 수, 로그인 사용자의 좋아요/입장을 한 번에 반환합니다.
+     * 
+     * @param id 토론 ID
+     * @param pageable 댓글 페이지 크기/정렬 (기본값: 20개, 항상 첫 페이지)
+     * @return 토론 화면 초기 데이터 (비로그인이면 viewer는 null)
+     */
+    @GetMapping("/{id}/bootstrap")
+    public ResponseEntity<ApiResponse<DebateBootstrapResponse>> getDebateBootstrap(
+            @PathVariable Long id,
+            @PageableDefault(size = 20) Pageable pageable) {
+        // 인증은 요청 스레드에서 한 번만 확인
+        Long userId = securityUtil.getCurrentUserId();
+        DebateBootstrapResponse response = debateBootstrapService.getBootstrap(id,
+                PageRequest.of(0, pageable.getPageSize(), pageable.getSort()), userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 여러 토론 일괄 조회 (북마크, 최근 본 토론 등 목록 화면용)
+     * 조회수를 올리지 않습니다.
+     * 
+     * @param ids 토론 ID 목록 (쉼표 구분, 최대 debate.batch.max-ids개)
+     * @param fields 응답 필드 (선택적, 쉼표 구분: id,title,likeCount 등)
+     * @return 요청 순서대로 정렬된 조회 결과 (없거나 숨김 처리된 토론은 found=false)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<List<DebateBatchItem>>> getDebatesByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields) {
+        List<DebateBatchItem> response = debateService.getDebatesByIds(
+                ids.stream().filter(Objects::nonNull).toList(),
+                ResponseFields.parse(fields, DebateResponse.FIELDS));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 전체 토론 목록 조회 (페이징)
      * 
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
      * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param fields 응답 필드 (선택적, 쉼표 구분: id,title,likeCount 등)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 토론 목록 (페이징된 결과)
      */
@@ -76,8 +128,10 @@ public class DebateController {
     public ResponseEntity<ApiResponse<Page<DebateResponse>>> getAllDebates(
             @RequestParam(required = false) Debate.DebateStatus status,
             @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<DebateResponse> response = debateService.getAllDebates(pageable, sort, status);
+        Page<DebateResponse> response = debateService.getAllDebates(pageable, sort, status,
+                ResponseFields.parse(fields, DebateResponse.FIELDS));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -87,6 +141,7 @@ public class DebateController {
      * @param categoryId 카테고리 ID
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
      * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param fields 응답 필드 (선택적, 쉼표 구분: id,title,likeCount 등)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 해당 카테고리의 토론 목록 (페이징된 결과)
      */
@@ -95,8 +150,10 @@ public class DebateController {
             @PathVariable Long categoryId,
             @RequestParam(required = false) Debate.DebateStatus status,
             @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<DebateResponse> response = debateService.getDebatesByCategory(categoryId, pageable, sort, status);
+        Page<DebateResponse> response = debateService.getDebatesByCategory(categoryId, pageable, sort, status,
+                ResponseFields.parse(fields, DebateResponse.FIELDS));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -108,6 +165,7 @@ public class DebateController {
      * @param categoryId 카테고리 ID (선택적)
      * @param status 토론 상태 (선택적)
      * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param fields 응답 필드 (선택적, 쉼표 구분: id,title,likeCount 등)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 검색된 토론 목록 (페이징된 결과)
      */
@@ -117,8 +175,10 @@ public class DebateController {
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Debate.DebateStatus status,
             @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<DebateResponse> response = debateService.searchDebates(keyword, categoryId, status, pageable, sort);
+        Page<DebateResponse> response = debateService.searchDebates(keyword, categoryId, status, pageable, sort,
+                ResponseFields.parse(fields, DebateResponse.FIELDS));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -1,24 +1,27 @@
 package com.debate.controller;
 
+import com.debate.dto.request.InitChunkedUploadRequest;
 import com.debate.dto.response.ApiResponse;
+import com.debate.dto.response.ChunkedUploadResponse;
+import com.debate.service.ChunkedUploadService;
+import com.debate.service.FileStorageService;
+import com.debate.service.ImageVariantService;
 import com.debate.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.io.InputStream;
 
 /**
  * 파일 업로드 관련 REST API 컨트롤러
@@ -31,12 +34,9 @@ import java.util.UUID;
 @Slf4j
 public class FileUploadController {
     private final SecurityUtil securityUtil;
-
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
-
-    @Value("${file.upload-url-prefix:/uploads}")
-    private String uploadUrlPrefix;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ChunkedUploadService chunkedUploadService;
 
     /**
      * 이미지 파일 업로드
@@ -72,29 +72,16 @@ public class FileUploadController {
                     .body(ApiResponse.error("파일 크기는 10MB 이하여야 합니다"));
         }
 
-        try {
-            // 업로드 디렉토리 생성 (절대 경로로 변환)
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // 고유한 파일명 생성 (UUID + 원본 파일명)
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String filename = UUID.randomUUID().toString() + extension;
-
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream inputStream = file.getInputStream()) {
+            // 내용 해시 기반으로 저장 (같은 내용이면 기존 URL 재사용)
+            FileStorageService.StoredFile stored = fileStorageService.store(inputStream, file.getOriginalFilename());
+            String imageUrl = stored.url();
 
-            // 이미지 URL 생성
-            String imageUrl = uploadUrlPrefix + "/" + filename;
+            // 축소본/재압축본은 백그라운드에서 생성 (이미 생성된 경우 건너뜀)
+            imageVariantService.generateAsync(stored.path());
 
-            log.info("이미지 업로드 성공: userId={}, filename={}, url={}", userId, filename, imageUrl);
+            log.info("이미지 업로드 성공: userId={}, hash={}, duplicate={}, url={}",
+                    userId, stored.hash(), stored.duplicate(), imageUrl);
 
             return ResponseEntity.ok(ApiResponse.success("이미지가 업로드되었습니다", imageUrl));
 
@@ -104,5 +91,109 @@ public class FileUploadController {
                     .body(ApiResponse.error("이미지 업로드에 실패했습니다: " + e.getMessage()));
         }
     }
-}
 
+    /**
+     * 청크 업로드 시작
+     * 큰 이미지를 여러 청크로 나누어 올리기 위한 세션을 만듭니다.
+     * 응답의 chunkSize 단위로 파일을 나누어 PUT /chunked/{uploadId}?offset= 으로 전송합니다.
+     *
+     * @param request 파일명, 타입, 전체 크기
+     * @return 업로드 세션 정보
+     */
+    @Operation(summary = "청크 업로드 시작", description = "재개 가능한 청크 업로드 세션을 생성합니다. 인증이 필요합니다.")
+    @SecurityRequirement(name = "JWT")
+    @PostMapping("/chunked")
+    public ResponseEntity<ApiResponse<ChunkedUploadResponse>> initChunkedUpload(
+            @Valid @RequestBody InitChunkedUploadRequest request) throws IOException {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+        ChunkedUploadResponse response = chunkedUploadService.init(
+                userId, request.getFilename(), request.getContentType(), request.getSize());
+        return ResponseEntity.ok(ApiResponse.success("업로드 세션이 생성되었습니다", response));
+    }
+
+    /**
+     * 청크 전송
+     * 요청 본문(application/octet-stream)을 offset 위치에 기록합니다.
+     * 같은 청크를 다시 보내도 안전하며, 응답의 missingChunks로 남은 청크를 확인할 수 있습니다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @param offset   청크 시작 위치 (chunkSize의 배수)
+     * @param checksum 청크의 CRC32C 값 (16진수)
+     * @param request  청크 본문을 읽을 요청
+     * @return 갱신된 업로드 상태
+     */
+    @Operation(summary = "청크 전송", description = "청크 하나를 지정한 위치에 기록합니다. X-Chunk-CRC32C 헤더로 체크섬을 보내야 합니다.")
+    @SecurityRequirement(name = "JWT")
+    @PutMapping(value = "/chunked/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<ChunkedUploadResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            @RequestHeader(value = "X-Chunk-CRC32C", required = false) String checksum,
+            HttpServletRequest request) throws IOException {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+        ChunkedUploadResponse response = chunkedUploadService.writeChunk(
+                userId, uploadId, offset, request.getInputStream(), checksum);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 청크 업로드 상태 조회
+     * 연결이 끊긴 뒤 재개할 때 아직 받지 못한 청크 목록을 확인합니다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 상태
+     */
+    @Operation(summary = "청크 업로드 상태 조회", description = "받은 청크 수와 아직 받지 못한 청크 목록을 조회합니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/chunked/{uploadId}")
+    public ResponseEntity<ApiResponse<ChunkedUploadResponse>> getChunkedUploadStatus(@PathVariable String uploadId) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+        return ResponseEntity.ok(ApiResponse.success(chunkedUploadService.getStatus(userId, uploadId)));
+    }
+
+    /**
+     * 청크 업로드 완료
+     * 모든 청크를 받았으면 파일을 저장하고 이미지 URL을 반환합니다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @return 이미지 URL이 포함된 업로드 결과
+     */
+    @Operation(summary = "청크 업로드 완료", description = "모든 청크를 받은 업로드를 완료하고 이미지 URL을 반환합니다.")
+    @SecurityRequirement(name = "JWT")
+    @PostMapping("/chunked/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<ChunkedUploadResponse>> completeChunkedUpload(@PathVariable String uploadId) throws IOException {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+        ChunkedUploadResponse response = chunkedUploadService.complete(userId, uploadId);
+        return ResponseEntity.ok(ApiResponse.success("이미지가 업로드되었습니다", response));
+    }
+
+    /**
+     * 청크 업로드 취소
+     *
+     * @param uploadId 업로드 세션 ID
+     * @return 성공 메시지
+     */
+    @Operation(summary = "청크 업로드 취소", description = "진행 중인 청크 업로드를 취소하고 임시 파일을 삭제합니다.")
+    @SecurityRequirement(name = "JWT")
+    @DeleteMapping("/chunked/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> abortChunkedUpload(@PathVariable String uploadId) {
+        Long userId = securityUtil.getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
+        }
+        chunkedUploadService.abort(userId, uploadId);
+        return ResponseEntity.ok(ApiResponse.success("업로드가 취소되었습니다", null));
+    }
+}
@@ -0,0 +1,19 @@
+package com.debate.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class InitChunkedUploadRequest {
+    @NotBlank(message = "파일명은 필수입니다")
+    private String filename;
+
+    @NotBlank(message = "파일 타입은 필수입니다")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long size;
+}
@@ -0,0 +1,29 @@
+package com.debate.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 청크 업로드 세션 응답 DTO
+ * 업로드 진행 상태와 아직 받지 못한 청크 목록을 포함합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadResponse {
+    private String uploadId;
+    private String filename;
+    private Long totalSize;
+    private Integer chunkSize;          // 마지막 청크를 제외한 모든 청크의 크기 (offset = index * chunkSize)
+    private Integer totalChunks;
+    private Integer receivedChunks;
+    private List<Integer> missingChunks; // 아직 받지 못한 청크 번호 (재시도 시 이 청크만 다시 보내면 됨)
+    private LocalDateTime expiresAt;    // 이 시각까지 활동이 없으면 세션이 만료됨
+    private String url;                 // 업로드 완료 시 이미지 URL
+}
@@ -1,6 +1,9 @@
 package com.debate.dto.response;
 
 import com.debate.entity.Comment;
+import com.debate.repository.CommentSummary;
+import com.debate.util.ResponseFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,12 +11,20 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
 public class CommentResponse {
+    /**
+     * fields 파라미터로 고를 수 있는 필드 (대댓글에도 같은 필드 선택을 적용)
+     */
+    public static final Set<String> FIELDS = Set.of("id", "userId", "nickname", "debateId", "parentId",
+            "content", "isHidden", "replies", "createdAt", "updatedAt");
+
     private Long id;
     private Long userId;
     private String nickname;
@@ -38,5 +49,19 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * 본문을 뺀 최상위 댓글 조회 결과로 응답 생성 (content, parentId는 null)
+     */
+    public static CommentResponse from(CommentSummary summary) {
+        return CommentResponse.builder()
+                .id(summary.id())
+                .userId(summary.userId())
+                .nickname(summary.nickname())
+                .debateId(summary.debateId())
+                .isHidden(summary.isHidden())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.debate.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DebateBatchItem {
+    private Long id;                // 요청한 토론 ID
+    private Boolean found;          // 없거나 숨김 처리된 토론이면 false
+    private DebateResponse debate;  // found가 false면 null
+}
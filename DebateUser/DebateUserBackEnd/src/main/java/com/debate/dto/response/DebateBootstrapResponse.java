@@ -0,0 +1,30 @@
+package com.debate.dto.response;
+
+import com.debate.entity.DebateOpinion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DebateBootstrapResponse {
+    private DebateResponse debate;                                  // 토론 상세
+    private Page<CommentResponse> comments;                         // 댓글 첫 페이지
+    private Map<DebateOpinion.OpinionSide, Long> opinionCounts;     // 입장별 의견 수 (의견이 없는 입장은 0)
+    private ViewerState viewer;                                     // 로그인하지 않았으면 null
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ViewerState {
+        private Boolean liked;                      // 좋아요 여부
+        private DebateOpinion.OpinionSide side;     // 선택한 입장 (선택하지 않았으면 null)
+    }
+}
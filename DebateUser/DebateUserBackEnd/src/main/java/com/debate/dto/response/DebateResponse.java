@@ -1,18 +1,30 @@
 package com.debate.dto.response;
 
 import com.debate.entity.Debate;
+import com.debate.repository.DebateSummary;
+import com.debate.util.ResponseFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
 public class DebateResponse {
+    /**
+     * fields 파라미터로 고를 수 있는 필드
+     */
+    public static final Set<String> FIELDS = Set.of("id", "userId", "nickname", "categoryId", "categoryName",
+            "title", "content", "startDate", "endDate", "status", "isHidden", "viewCount", "likeCount",
+            "commentCount", "createdAt", "updatedAt");
+
     private Long id;
     private Long userId;
     private String nickname;
@@ -50,5 +62,27 @@ public class DebateResponse {
                 .updatedAt(debate.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * 본문을 뺀 조회 결과로 응답 생성 (content는 null)
+     */
+    public static DebateResponse from(DebateSummary summary, Long likeCount, Long commentCount) {
+        return DebateResponse.builder()
+                .id(summary.id())
+                .userId(summary.userId())
+                .nickname(summary.nickname())
+                .categoryId(summary.categoryId())
+                .categoryName(summary.categoryName())
+                .title(summary.title())
+                .startDate(summary.startDate())
+                .endDate(summary.endDate())
+                .status(summary.status())
+                .isHidden(summary.isHidden())
+                .viewCount(summary.viewCount())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.debate.dto.response;
+
+import com.debate.entity.Debate;
+import com.debate.entity.DebateOpinion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpinionResponse {
+    private Long id;
+    private Long debateId;
+    private String debateTitle;
+    private String categoryName;
+    private Debate.DebateStatus debateStatus;
+    private Long userId;
+    private String nickname;
+    private DebateOpinion.OpinionSide side;
+    private String content;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static OpinionResponse from(DebateOpinion opinion) {
+        return OpinionResponse.builder()
+                .id(opinion.getId())
+                .debateId(opinion.getDebate().getId())
+                .userId(opinion.getUser().getId())
+                .nickname(opinion.getUser().getNickname())
+                .side(opinion.getSide())
+                .content(opinion.getContent())
+                .createdAt(opinion.getCreatedAt())
+                .updatedAt(opinion.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 토론 요약(제목, 카테고리, 상태)을 포함한 응답 (마이페이지 참여 토론 목록용)
+     */
+    public static OpinionResponse withDebate(DebateOpinion opinion) {
+        OpinionResponse response = from(opinion);
+        Debate debate = opinion.getDebate();
+        response.setDebateTitle(debate.getTitle());
+        response.setCategoryName(debate.getCategory().getName());
+        response.setDebateStatus(debate.getStatus());
+        return response;
+    }
+}
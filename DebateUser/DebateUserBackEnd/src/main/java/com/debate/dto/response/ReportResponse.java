@@ -0,0 +1,37 @@
+package com.debate.dto.response;
+
+import com.debate.entity.Report;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportResponse {
+    private Long id;
+    private Long reporterId;
+    private Report.TargetType targetType;
+    private Long targetId;
+    private String reason;
+    private String description;
+    private Report.ReportStatus status;
+    private LocalDateTime createdAt;
+
+    public static ReportResponse from(Report report) {
+        return ReportResponse.builder()
+                .id(report.getId())
+                .reporterId(report.getReporter().getId())
+                .targetType(report.getTargetType())
+                .targetId(report.getTargetId())
+                .reason(report.getReason())
+                .description(report.getDescription())
+                .status(report.getStatus())
+                .createdAt(report.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 로그 엔티티
+ * 관리자/사용자 백엔드가 공유 데이터를 수정한 트랜잭션 안에서 한 행씩 기록하고,
+ * 모든 인스턴스가 ID 순서로 읽어 자기 캐시를 비웁니다 (메시지 브로커 없이 인스턴스 간 무효화 전달).
+ *
+ * - 행 기록과 조회는 {@link com.debate.service.CacheInvalidationBus}가 JDBC로 처리하며, 엔티티는 스키마 정의용입니다
+ * - 관리자 백엔드의 같은 엔티티와 테이블 정의가 같아야 합니다
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+    @Index(name = "idx_created_at", columnList = "created_at")
+})
+@Comment("캐시 무효화 로그 테이블")
+@Getter
+@NoArgsConstructor
+public class CacheInvalidation {
+    /**
+     * 무효화 로그 ID (PK, 각 인스턴스가 읽은 위치)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("무효화 로그 ID")
+    private Long id;
+
+    /**
+     * 대상 타입 (DEBATE: 토론, COMMENT: 댓글, USER: 사용자, CATEGORY: 카테고리)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    @Comment("대상 타입 (DEBATE: 토론, COMMENT: 댓글, USER: 사용자, CATEGORY: 카테고리)")
+    private TargetType targetType;
+
+    /**
+     * 대상 ID (null이면 해당 타입 전체)
+     */
+    @Column(name = "target_id")
+    @Comment("대상 ID (NULL: 타입 전체)")
+    private Long targetId;
+
+    /**
+     * 대상 토론의 카테고리 ID (토론/댓글 로그, 목록 캐시 무효화용)
+     */
+    @Column(name = "category_id")
+    @Comment("대상 토론의 카테고리 ID (NULL: 없음)")
+    private Long categoryId;
+
+    /**
+     * 생성 일시
+     */
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    /**
+     * 무효화 대상 타입 열거형
+     */
+    public enum TargetType {
+        DEBATE,   // 토론
+        COMMENT,  // 댓글
+        USER,     // 사용자
+        CATEGORY  // 카테고리
+    }
+}
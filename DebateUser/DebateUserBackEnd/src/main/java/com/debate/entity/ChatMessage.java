@@ -30,7 +30,9 @@ public class ChatMessage {
      * 채팅 메시지 ID (PK)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_messages_id")
+    @TableGenerator(name = "chat_messages_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "chat_messages", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Comment("채팅 메시지 ID")
     private Long id;
 
@@ -31,7 +31,9 @@ public class Comment {
      * 댓글 ID (PK)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comments_id")
+    @TableGenerator(name = "comments_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "comments", allocationSize = IdSequences.ALLOCATION_SIZE)
     @org.hibernate.annotations.Comment("댓글 ID")
     private Long id;
 
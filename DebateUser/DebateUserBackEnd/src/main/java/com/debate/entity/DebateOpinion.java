@@ -33,7 +33,9 @@ public class DebateOpinion {
      * 의견 ID (PK)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "debate_opinion_id")
+    @TableGenerator(name = "debate_opinion_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "debate_opinion", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Comment("의견 ID")
     private Long id;
 
@@ -0,0 +1,42 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 소비자 체크포인트 엔티티
+ * 소비자별로 마지막으로 처리한 이벤트 ID를 저장합니다. 여러 인스턴스가 같은 행을 공유하므로 한 소비자는 한 번에 한 인스턴스만 처리합니다.
+ *
+ * - 행 조회/갱신은 {@link com.debate.service.DomainEventDispatcher}가 JDBC로 처리하며, 엔티티는 스키마 정의용입니다
+ */
+@Entity
+@Table(name = "domain_event_checkpoints")
+@Comment("도메인 이벤트 소비자 체크포인트 테이블")
+@Getter
+@NoArgsConstructor
+public class DomainEventCheckpoint {
+    /**
+     * 소비자 이름 (PK)
+     */
+    @Id
+    @Column(name = "consumer_name", length = 100)
+    @Comment("소비자 이름")
+    private String consumerName;
+
+    /**
+     * 마지막으로 처리한 이벤트 ID
+     */
+    @Column(name = "last_event_id", nullable = false)
+    @Comment("마지막으로 처리한 이벤트 ID")
+    private Long lastEventId;
+
+    /**
+     * 수정 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    @Comment("수정 일시")
+    private LocalDateTime updatedAt;
+}
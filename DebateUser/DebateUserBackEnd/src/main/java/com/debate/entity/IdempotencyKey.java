@@ -0,0 +1,73 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키 엔티티
+ * Idempotency-Key 헤더로 들어온 생성 요청의 처리 상태와 첫 응답을 저장해, 같은 키로 재시도하면 저장된 응답을 돌려줍니다.
+ *
+ * - 행 기록과 조회는 {@link com.debate.service.IdempotencyStore}가 JDBC로 처리하며, 엔티티는 스키마 정의용입니다
+ * - 여러 인스턴스가 같은 테이블을 공유하므로 다른 인스턴스에서 처리 중인 요청도 중복 실행되지 않습니다
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_expires_at", columnList = "expires_at")
+})
+@Comment("멱등 키 테이블")
+@Getter
+@NoArgsConstructor
+public class IdempotencyKey {
+    /**
+     * 키 해시 (PK, 클라이언트 + 엔드포인트 + Idempotency-Key 값의 SHA-256)
+     */
+    @Id
+    @Column(name = "key_hash", length = 64)
+    @Comment("키 해시 (클라이언트 + 엔드포인트 + Idempotency-Key의 SHA-256)")
+    private String keyHash;
+
+    /**
+     * 요청 본문 해시 (같은 키를 다른 요청에 재사용했는지 확인)
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    @Comment("요청 본문 해시 (SHA-256)")
+    private String requestHash;
+
+    /**
+     * 응답 상태 코드 (0: 처리 중)
+     */
+    @Column(name = "status_code", nullable = false)
+    @Comment("응답 상태 코드 (0: 처리 중)")
+    private Integer statusCode;
+
+    /**
+     * 응답 Content-Type
+     */
+    @Column(name = "content_type", length = 100)
+    @Comment("응답 Content-Type")
+    private String contentType;
+
+    /**
+     * 응답 본문
+     */
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    @Comment("응답 본문")
+    private String responseBody;
+
+    /**
+     * 생성 일시
+     */
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+
+    /**
+     * 만료 일시 (처리 중이면 처리 제한 시간, 완료되면 보관 기간)
+     */
+    @Column(name = "expires_at", nullable = false)
+    @Comment("만료 일시 (처리 중: 처리 제한 시간, 완료: 보관 기간)")
+    private LocalDateTime expiresAt;
+}
@@ -31,7 +31,9 @@ public class Report {
      * 신고 ID (PK)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reports_id")
+    @TableGenerator(name = "reports_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "reports", allocationSize = IdSequences.ALLOCATION_SIZE)
     @Comment("신고 ID")
     private Long id;
 
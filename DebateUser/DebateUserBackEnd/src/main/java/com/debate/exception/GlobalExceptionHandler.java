@@ -1,10 +1,12 @@
 package com.debate.exception;
 
 import com.debate.dto.response.ApiResponse;
+import org.hibernate.LazyInitializationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -51,6 +53,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    // 요청 한도 초과는 정상적인 제한 동작이므로 경고 로그를 남기지 않음 (rate.limit.requests 메트릭으로 확인)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        logger.debug("요청 한도 초과: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -99,6 +110,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("데이터베이스 오류가 발생했습니다."));
     }
 
+    // 트랜잭션 밖에서 지연 로딩을 시도한 경우 (조회 서비스의 fetch plan 누락)
+    @ExceptionHandler(LazyInitializationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleLazyInitializationException(LazyInitializationException ex) {
+        logger.error("트랜잭션 밖 지연 로딩 시도 - 서비스에서 @EntityGraph 또는 DTO 변환이 필요합니다: {}", ex.getMessage(), ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다."));
+    }
+
     // HTTP 관련 예외
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<ApiResponse<Object>> handleHttpRequestMethodNotSupportedException(
@@ -0,0 +1,20 @@
+package com.debate.exception;
+
+/**
+ * 요청 한도 초과 예외 (429 Too Many Requests)
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 다시 시도할 수 있을 때까지의 시간 (초, Retry-After 헤더 값)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -5,16 +5,35 @@ import com.debate.entity.Comment;
 import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @EntityGraph(attributePaths = "user")
     Page<Comment> findByDebateAndIsHiddenFalseAndParentIsNull(Debate debate, Pageable pageable);
+    /**
+     * 본문을 뺀 최상위 댓글 조회 (fields에 content가 없는 요청용, 조건은 findByDebateAndIsHiddenFalseAndParentIsNull과 같음)
+     */
+    @Query(value = "SELECT new com.debate.repository.CommentSummary(c.id, u.id, u.nickname, c.debate.id, c.isHidden, " +
+                   "c.createdAt, c.updatedAt) FROM Comment c JOIN c.user u " +
+                   "WHERE c.debate = :debate AND c.isHidden = false AND c.parent IS NULL",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.debate = :debate AND c.isHidden = false AND c.parent IS NULL")
+    Page<CommentSummary> findSummariesByDebate(@Param("debate") Debate debate, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
     List<Comment> findByParent(Comment parent);
+    @EntityGraph(attributePaths = "user")
     List<Comment> findByUser(User user);
     long countByDebateAndIsHiddenFalse(Debate debate);
+
+    @Query("SELECT new com.debate.repository.DebateCount(c.debate.id, COUNT(c)) FROM Comment c " +
+           "WHERE c.debate.id IN :debateIds AND c.isHidden = false GROUP BY c.debate.id")
+    List<DebateCount> countByDebateIds(@Param("debateIds") Collection<Long> debateIds);
 }
 
@@ -0,0 +1,11 @@
+package com.debate.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문(content)을 뺀 최상위 댓글 조회 결과
+ * fields로 본문을 고르지 않은 댓글 목록 요청이 TEXT 컬럼을 읽지 않도록 JPQL 생성자 표현식으로 조회합니다.
+ */
+public record CommentSummary(Long id, Long userId, String nickname, Long debateId, Boolean isHidden,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,7 @@
+package com.debate.repository;
+
+/**
+ * 토론별 집계 결과 (좋아요 수, 댓글 수를 여러 토론에 대해 GROUP BY 한 번으로 조회)
+ */
+public record DebateCount(Long debateId, Long count) {
+}
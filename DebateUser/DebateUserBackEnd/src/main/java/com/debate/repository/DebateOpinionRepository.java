@@ -4,7 +4,10 @@ import com.debate.entity.Debate;
 import com.debate.entity.DebateOpinion;
 import com.debate.entity.DebateOpinion.OpinionSide;
 import com.debate.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,9 +17,20 @@ import java.util.Optional;
 public interface DebateOpinionRepository extends JpaRepository<DebateOpinion, Long> {
     Optional<DebateOpinion> findByDebateAndUser(Debate debate, User user);
     boolean existsByDebateAndUser(Debate debate, User user);
+    @EntityGraph(attributePaths = "user")
     List<DebateOpinion> findByDebate(Debate debate);
     List<DebateOpinion> findByDebateAndSide(Debate debate, OpinionSide side);
     long countByDebateAndSide(Debate debate, OpinionSide side);
+
+    @Query("SELECT new com.debate.repository.OpinionSideCount(o.side, COUNT(o)) FROM DebateOpinion o " +
+           "WHERE o.debate.id = :debateId GROUP BY o.side")
+    List<OpinionSideCount> countByDebateIdGroupBySide(@Param("debateId") Long debateId);
+
+    @Query("SELECT o.side FROM DebateOpinion o WHERE o.debate.id = :debateId AND o.user.id = :userId")
+    Optional<OpinionSide> findSideByDebateIdAndUserId(@Param("debateId") Long debateId, @Param("userId") Long userId);
     List<DebateOpinion> findByUser(User user);
+
+    @EntityGraph(attributePaths = {"user", "debate", "debate.category"})
+    List<DebateOpinion> findWithDebateByUser(User user);
 }
 
@@ -7,28 +7,67 @@ import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DebateRepository extends JpaRepository<Debate, Long> {
+    @EntityGraph(attributePaths = {"user", "category"})
+    Optional<Debate> findDetailById(Long id);
+
+    @EntityGraph(attributePaths = {"user", "category"})
+    List<Debate> findByIdInAndIsHiddenFalse(Collection<Long> ids);
+
+    /**
+     * 본문을 뺀 토론 여러 건 조회 (fields에 content가 없는 일괄 조회용)
+     */
+    @Query("SELECT new com.debate.repository.DebateSummary(d.id, u.id, u.nickname, c.id, c.name, d.title, " +
+           "d.startDate, d.endDate, d.status, d.isHidden, d.viewCount, d.createdAt, d.updatedAt) " +
+           "FROM Debate d JOIN d.user u JOIN d.category c WHERE d.id IN :ids AND d.isHidden = false")
+    List<DebateSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Debate> findByIsHiddenFalse(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Debate> findByIsHiddenFalse(Sort sort);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Debate> findByIsHiddenFalseAndStatus(DebateStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Debate> findByIsHiddenFalseAndStatus(DebateStatus status, Sort sort);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Debate> findByCategoryAndIsHiddenFalse(Category category, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Debate> findByCategoryAndIsHiddenFalse(Category category, Sort sort);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Debate> findByCategoryAndIsHiddenFalseAndStatus(Category category, DebateStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Debate> findByCategoryAndIsHiddenFalseAndStatus(Category category, DebateStatus status, Sort sort);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Debate> findByUserAndIsHiddenFalse(User user, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Debate> findByUserAndIsHiddenFalse(User user, Sort sort);
+
+    @EntityGraph(attributePaths = {"user", "category"})
     Page<Debate> findByStatusAndIsHiddenFalse(DebateStatus status, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT d FROM Debate d WHERE d.isHidden = false AND " +
            "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
            "(:category IS NULL OR d.category = :category) AND " +
@@ -38,6 +77,7 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
                                 @Param("status") DebateStatus status,
                                 Pageable pageable);
     
+    @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT d FROM Debate d WHERE d.isHidden = false AND " +
            "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
            "(:category IS NULL OR d.category = :category) AND " +
@@ -47,9 +87,39 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
                                              @Param("status") DebateStatus status,
                                              Sort sort);
     
+    /**
+     * 본문을 뺀 토론 검색 (fields에 content가 없는 목록 요청용, 조건은 searchByKeyword와 같음)
+     */
+    @Query(value = "SELECT new com.debate.repository.DebateSummary(d.id, u.id, u.nickname, c.id, c.name, d.title, " +
+                   "d.startDate, d.endDate, d.status, d.isHidden, d.viewCount, d.createdAt, d.updatedAt) " +
+                   "FROM Debate d JOIN d.user u JOIN d.category c WHERE d.isHidden = false AND " +
+                   "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
+                   "(:category IS NULL OR d.category = :category) AND " +
+                   "(:status IS NULL OR d.status = :status)",
+           countQuery = "SELECT COUNT(d) FROM Debate d WHERE d.isHidden = false AND " +
+                   "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
+                   "(:category IS NULL OR d.category = :category) AND " +
+                   "(:status IS NULL OR d.status = :status)")
+    Page<DebateSummary> searchSummaries(@Param("keyword") String keyword,
+                                        @Param("category") Category category,
+                                        @Param("status") DebateStatus status,
+                                        Pageable pageable);
+
+    @Query("SELECT new com.debate.repository.DebateSummary(d.id, u.id, u.nickname, c.id, c.name, d.title, " +
+           "d.startDate, d.endDate, d.status, d.isHidden, d.viewCount, d.createdAt, d.updatedAt) " +
+           "FROM Debate d JOIN d.user u JOIN d.category c WHERE d.isHidden = false AND " +
+           "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
+           "(:category IS NULL OR d.category = :category) AND " +
+           "(:status IS NULL OR d.status = :status)")
+    List<DebateSummary> searchSummariesWithoutPaging(@Param("keyword") String keyword,
+                                                     @Param("category") Category category,
+                                                     @Param("status") DebateStatus status,
+                                                     Sort sort);
+
     List<Debate> findByStatusAndStartDateLessThanEqual(DebateStatus status, LocalDateTime now);
     List<Debate> findByStatusAndEndDateLessThanEqual(DebateStatus status, LocalDateTime now);
     
+    @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT d FROM Debate d WHERE d.isHidden = false ORDER BY d.viewCount DESC")
     List<Debate> findTopByOrderByViewCountDesc(Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.debate.repository;
+
+import com.debate.entity.Debate.DebateStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문(content)을 뺀 토론 목록 조회 결과
+ * fields로 본문을 고르지 않은 목록 요청이 TEXT 컬럼을 읽지 않도록 JPQL 생성자 표현식으로 조회합니다.
+ */
+public record DebateSummary(Long id, Long userId, String nickname, Long categoryId, String categoryName,
+                            String title, LocalDateTime startDate, LocalDateTime endDate, DebateStatus status,
+                            Boolean isHidden, Integer viewCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
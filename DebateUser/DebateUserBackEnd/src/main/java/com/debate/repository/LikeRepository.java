@@ -4,8 +4,12 @@ import com.debate.entity.Debate;
 import com.debate.entity.Like;
 import com.debate.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +17,9 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByDebateAndUser(Debate debate, User user);
     boolean existsByDebateAndUser(Debate debate, User user);
     long countByDebate(Debate debate);
+
+    @Query("SELECT new com.debate.repository.DebateCount(l.debate.id, COUNT(l)) FROM Like l " +
+           "WHERE l.debate.id IN :debateIds GROUP BY l.debate.id")
+    List<DebateCount> countByDebateIds(@Param("debateIds") Collection<Long> debateIds);
 }
 
@@ -0,0 +1,9 @@
+package com.debate.repository;
+
+import com.debate.entity.DebateOpinion.OpinionSide;
+
+/**
+ * 토론의 입장별 의견 수 (GROUP BY 한 번으로 조회)
+ */
+public record OpinionSideCount(OpinionSide side, Long count) {
+}
@@ -24,6 +24,7 @@ public class AuthService {
     private final UserRepository userRepository;      // 사용자 데이터 접근 리포지토리
     private final PasswordEncoder passwordEncoder;     // 비밀번호 암호화 인코더
     private final JwtUtil jwtUtil;                     // JWT 토큰 유틸리티
+    private final BusinessMetrics businessMetrics;     // 로그인 성공/실패 지표
 
     /**
      * 회원가입 처리
@@ -83,18 +84,20 @@ public class AuthService {
      */
     public AuthResponse login(LoginRequest request) {
         // 이메일로 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다"));
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (user == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            businessMetrics.loginFailed("bad_credentials");
             throw new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
         // 계정 상태 확인 (활성화된 계정만 로그인 가능)
         if (user.getStatus() != User.UserStatus.ACTIVE) {
+            businessMetrics.loginFailed("inactive");
             throw new UnauthorizedException("비활성화된 계정입니다");
         }
+        businessMetrics.loginSucceeded();
 
         // JWT 토큰 생성
         String token = jwtUtil.generateToken(user.getId(), user.getEmail());
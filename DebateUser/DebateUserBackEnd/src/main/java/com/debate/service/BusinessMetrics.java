@@ -0,0 +1,77 @@
+package com.debate.service;
+
+import com.debate.entity.DebateOpinion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 지표(Micrometer 카운터)
+ * 좋아요, 댓글, 입장 선택, 업로드, 로그인 건수를 집계해 /actuator/prometheus로 내보냅니다.
+ *
+ * - Prometheus에서는 이름의 점이 밑줄로 바뀌고 카운터에 _total이 붙습니다 (예: debate_likes_total)
+ * - 자주 쓰는 태그 조합은 기동 시 0으로 미리 등록해 rate() 계산이 처음부터 가능하도록 합니다
+ */
+@Component
+public class BusinessMetrics {
+    private final MeterRegistry registry;
+    private final Counter likeAdded;
+    private final Counter likeRemoved;
+    private final Counter commentCreated;
+    private final Counter replyCreated;
+    private final Counter uploadStored;
+    private final Counter uploadDuplicate;
+    private final DistributionSummary uploadBytes;
+    private final Counter loginSuccess;
+
+    public BusinessMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.likeAdded = registry.counter("debate.likes", "action", "like");
+        this.likeRemoved = registry.counter("debate.likes", "action", "unlike");
+        this.commentCreated = registry.counter("debate.comments", "type", "comment");
+        this.replyCreated = registry.counter("debate.comments", "type", "reply");
+        this.uploadStored = registry.counter("debate.uploads", "duplicate", "false");
+        this.uploadDuplicate = registry.counter("debate.uploads", "duplicate", "true");
+        this.uploadBytes = DistributionSummary.builder("debate.uploads.size")
+                .baseUnit("bytes")
+                .description("업로드 파일 크기")
+                .register(registry);
+        this.loginSuccess = registry.counter("debate.logins", "result", "success", "reason", "none");
+        for (DebateOpinion.OpinionSide side : DebateOpinion.OpinionSide.values()) {
+            registry.counter("debate.opinions", "side", side.name());
+        }
+    }
+
+    public void likeToggled(boolean liked) {
+        (liked ? likeAdded : likeRemoved).increment();
+    }
+
+    public void commentCreated(boolean reply) {
+        (reply ? replyCreated : commentCreated).increment();
+    }
+
+    public void opinionCreated(DebateOpinion.OpinionSide side) {
+        registry.counter("debate.opinions", "side", side.name()).increment();
+    }
+
+    /**
+     * @param size      파일 크기 (바이트)
+     * @param duplicate 같은 내용의 기존 파일을 재사용했는지 여부
+     */
+    public void fileUploaded(long size, boolean duplicate) {
+        (duplicate ? uploadDuplicate : uploadStored).increment();
+        uploadBytes.record(size);
+    }
+
+    public void loginSucceeded() {
+        loginSuccess.increment();
+    }
+
+    /**
+     * @param reason 실패 사유 (bad_credentials, inactive)
+     */
+    public void loginFailed(String reason) {
+        registry.counter("debate.logins", "result", "failure", "reason", reason).increment();
+    }
+}
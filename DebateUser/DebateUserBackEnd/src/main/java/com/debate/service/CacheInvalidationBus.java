@@ -0,0 +1,195 @@
+package com.debate.service;
+
+import com.debate.entity.CacheInvalidation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인스턴스 간 캐시 무효화 전달 (cache_invalidations 테이블 기반)
+ * 공유 데이터를 수정한 트랜잭션에서 무효화 로그를 남기고, 모든 인스턴스(사용자/관리자 백엔드)가 짧은 주기로
+ * 새 로그를 ID 순서로 읽어 {@link CacheInvalidationEvent}를 발행합니다. 캐시를 가진 컴포넌트는 이 이벤트로 항목을 비웁니다.
+ *
+ * - 로그는 수정과 같은 트랜잭션에 기록되므로 롤백되면 전달되지 않고, 커밋되면 모든 인스턴스에 전달됩니다
+ * - 기동 이전의 로그는 건너뜁니다 (기동 직후에는 캐시가 비어 있음)
+ * - AUTO_INCREMENT ID는 커밋 순서와 다를 수 있어, 건너뛴 ID는 gap-timeout 동안 다시 확인합니다 (롤백으로 빈 ID는 시간이 지나면 포기)
+ * - 폴링이 실패하거나 밀려도 캐시는 ehcache.xml의 만료 시간으로 결국 반영됩니다
+ * - retention이 지난 로그는 주기적으로 삭제합니다
+ * - 토론/댓글 로그에는 목록 캐시가 따로 조회하지 않도록 카테고리 ID를 함께 남길 수 있습니다
+ */
+@Slf4j
+@Service
+public class CacheInvalidationBus {
+    private static final String TABLE = "cache_invalidations";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE + " (target_type, target_id, category_id, created_at) VALUES (?, ?, ?, NOW())";
+    private static final int MAX_TRACKED_GAPS = 1_000;
+    private static final int PURGE_LIMIT = 10_000;
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) ->
+            new Entry(rs.getLong("id"), rs.getString("target_type"), rs.getObject("target_id", Long.class),
+                    rs.getObject("category_id", Long.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final long retentionSeconds;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();  // 아직 보이지 않은 ID -> 포기 시각 (nanoTime)
+    private long lastId = -1;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${cache.invalidation.batch-size:500}") int batchSize,
+                                @Value("${cache.invalidation.gap-timeout:10s}") Duration gapTimeout,
+                                @Value("${cache.invalidation.retention:1h}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.retentionSeconds = retention.toSeconds();
+    }
+
+    /**
+     * 대상 하나의 무효화 로그를 남깁니다. 호출한 트랜잭션과 함께 커밋됩니다.
+     *
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     */
+    public void publish(CacheInvalidation.TargetType targetType, Long targetId) {
+        publish(targetType, Collections.singletonList(targetId), null);
+    }
+
+    /**
+     * 토론/댓글 하나의 무효화 로그를 카테고리 ID와 함께 남깁니다. 호출한 트랜잭션과 함께 커밋됩니다.
+     *
+     * @param targetType 대상 타입
+     * @param targetId   대상 ID
+     * @param categoryId 대상 토론의 카테고리 ID
+     */
+    public void publish(CacheInvalidation.TargetType targetType, Long targetId, Long categoryId) {
+        publish(targetType, Collections.singletonList(targetId), categoryId);
+    }
+
+    /**
+     * 여러 대상의 무효화 로그를 배치로 남깁니다. 호출한 트랜잭션과 함께 커밋됩니다.
+     *
+     * @param targetType 대상 타입
+     * @param targetIds  대상 ID 목록
+     */
+    public void publish(CacheInvalidation.TargetType targetType, Collection<Long> targetIds) {
+        publish(targetType, targetIds, null);
+    }
+
+    private void publish(CacheInvalidation.TargetType targetType, Collection<Long> targetIds, Long categoryId) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, targetIds, batchSize, (ps, targetId) -> {
+            ps.setString(1, targetType.name());
+            ps.setObject(2, targetId);
+            ps.setObject(3, categoryId);
+        });
+    }
+
+    /**
+     * 타입 전체의 무효화 로그를 남깁니다 (예: 카테고리 목록).
+     *
+     * @param targetType 대상 타입
+     */
+    public void publishAll(CacheInvalidation.TargetType targetType) {
+        jdbcTemplate.update(INSERT_SQL, targetType.name(), null, null);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval:PT0.2S}")
+    public void poll() {
+        try {
+            if (lastId < 0) {
+                lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + TABLE, Long.class);
+                log.info("캐시 무효화 로그 구독 시작: lastId={}", lastId);
+                return;
+            }
+            readGaps().forEach(this::dispatch);
+            List<Entry> entries;
+            do {
+                entries = readNext();
+                entries.forEach(this::dispatch);
+            } while (entries.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 로그 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-interval:PT10M}", initialDelayString = "${cache.invalidation.purge-interval:PT10M}")
+    public void purge() {
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE created_at < NOW() - INTERVAL ? SECOND LIMIT ?",
+                    retentionSeconds, PURGE_LIMIT);
+            if (deleted > 0) {
+                log.debug("캐시 무효화 로그 정리: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 로그 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<Entry> readNext() {
+        List<Entry> entries = jdbcTemplate.query("SELECT id, target_type, target_id, category_id FROM " + TABLE
+                + " WHERE id > ? ORDER BY id LIMIT ?", ENTRY_MAPPER, lastId, batchSize);
+        long deadline = System.nanoTime() + gapTimeoutNanos;
+        for (Entry entry : entries) {
+            for (long id = lastId + 1; id < entry.id() && gaps.size() < MAX_TRACKED_GAPS; id++) {
+                gaps.put(id, deadline);
+            }
+            lastId = entry.id();
+        }
+        return entries;
+    }
+
+    /**
+     * 앞서 건너뛴 ID 중 그 사이 커밋된 로그를 읽습니다.
+     */
+    private List<Entry> readGaps() {
+        long now = System.nanoTime();
+        gaps.values().removeIf(deadline -> deadline - now < 0);
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        List<Entry> entries = jdbcTemplate.query("SELECT id, target_type, target_id, category_id FROM " + TABLE
+                + " WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ") ORDER BY id",
+                ENTRY_MAPPER, ids.toArray());
+        entries.forEach(entry -> gaps.remove(entry.id()));
+        return entries;
+    }
+
+    private void dispatch(Entry entry) {
+        CacheInvalidation.TargetType targetType;
+        try {
+            targetType = CacheInvalidation.TargetType.valueOf(entry.targetType());
+        } catch (IllegalArgumentException e) {
+            // 다른 버전의 인스턴스가 기록한 알 수 없는 타입
+            log.debug("알 수 없는 캐시 무효화 대상 무시: id={}, type={}", entry.id(), entry.targetType());
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new CacheInvalidationEvent(targetType, entry.targetId(), entry.categoryId()));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 처리 실패: id={}, type={}, targetId={}", entry.id(), targetType, entry.targetId(), e);
+        }
+    }
+
+    private record Entry(long id, String targetType, Long targetId, Long categoryId) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.debate.service;
+
+import com.debate.entity.CacheInvalidation;
+
+/**
+ * 캐시 무효화 이벤트
+ * {@link CacheInvalidationBus}가 무효화 로그 한 행을 읽을 때마다 발행합니다 (이 인스턴스가 기록한 로그 포함).
+ *
+ * @param targetType 대상 타입
+ * @param targetId   대상 ID (null이면 해당 타입 전체)
+ * @param categoryId 대상 토론의 카테고리 ID (토론/댓글 로그에 기록된 경우, 없으면 null)
+ */
+public record CacheInvalidationEvent(CacheInvalidation.TargetType targetType, Long targetId, Long categoryId) {
+
+    /**
+     * 해당 타입 전체를 비워야 하는지 여부
+     */
+    public boolean isAll() {
+        return targetId == null;
+    }
+}
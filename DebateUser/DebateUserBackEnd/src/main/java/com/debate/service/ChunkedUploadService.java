@@ -0,0 +1,373 @@
+package com.debate.service;
+
+import com.debate.dto.response.ChunkedUploadResponse;
+import com.debate.exception.BadRequestException;
+import com.debate.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+/**
+ * 재개 가능한 청크 업로드 서비스
+ * 큰 파일을 고정 크기 청크로 나누어 받고, 끊긴 업로드는 빠진 청크만 다시 받아 이어갑니다.
+ *
+ * - 청크는 희소(sparse) 임시 파일의 해당 위치에 FileChannel 위치 지정 쓰기로 기록합니다
+ * - 청크마다 CRC32C 체크섬을 검증하며, 불일치한 청크는 받지 않은 것으로 처리합니다
+ * - 요청 하나가 쓰는 메모리는 작은 복사 버퍼뿐이며 파일 전체를 메모리에 올리지 않습니다
+ * - 일정 시간 활동이 없는 세션은 주기적으로 정리합니다
+ * - 완료 처리를 시작하면 새 청크를 받지 않고, 쓰는 중인 청크가 끝날 때까지 기다린 뒤 파일을 옮깁니다
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_MISSING_LISTED = 1000;
+
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final int chunkSize;
+    private final long maxSize;
+    private final Duration sessionTtl;
+    private final int maxSessionsPerUser;
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(FileStorageService fileStorageService,
+                                ImageVariantService imageVariantService,
+                                @Value("${file.chunked.chunk-size:1MB}") DataSize chunkSize,
+                                @Value("${file.chunked.max-size:50MB}") DataSize maxSize,
+                                @Value("${file.chunked.session-ttl:1h}") Duration sessionTtl,
+                                @Value("${file.chunked.max-sessions-per-user:5}") int maxSessionsPerUser) {
+        this.fileStorageService = fileStorageService;
+        this.imageVariantService = imageVariantService;
+        this.chunkSize = (int) chunkSize.toBytes();
+        this.maxSize = maxSize.toBytes();
+        this.sessionTtl = sessionTtl;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    /**
+     * 업로드 세션 정보
+     * 받은 청크는 BitSet으로 관리하며, 세션 객체에 대한 접근은 객체 단위로 동기화합니다.
+     * writers는 파일에 쓰는 중인 청크 요청 수로, 완료 처리는 0이 될 때까지 기다립니다.
+     */
+    private static final class UploadSession {
+        private final String id;
+        private final Long userId;
+        private final String filename;
+        private final long totalSize;
+        private final int totalChunks;
+        private final Path file;
+        private final BitSet received;
+        private volatile long lastActivity;
+        private boolean completing;
+        private int writers;
+
+        private UploadSession(String id, Long userId, String filename, long totalSize, int totalChunks, Path file) {
+            this.id = id;
+            this.userId = userId;
+            this.filename = filename;
+            this.totalSize = totalSize;
+            this.totalChunks = totalChunks;
+            this.file = file;
+            this.received = new BitSet(totalChunks);
+            this.lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 청크 업로드 세션을 시작합니다.
+     *
+     * @param userId      업로드 사용자 ID
+     * @param filename    원본 파일명
+     * @param contentType 파일 타입 (image/*만 허용)
+     * @param size        전체 파일 크기 (바이트)
+     * @return 세션 정보 (uploadId, 청크 크기, 청크 수)
+     * @throws IOException 임시 파일 생성 실패 시
+     */
+    public ChunkedUploadResponse init(Long userId, String filename, String contentType, long size) throws IOException {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new BadRequestException("이미지 파일만 업로드 가능합니다");
+        }
+        if (size > maxSize) {
+            throw new BadRequestException("파일 크기는 " + DataSize.ofBytes(maxSize).toMegabytes() + "MB 이하여야 합니다");
+        }
+        long active = sessions.values().stream().filter(s -> s.userId.equals(userId)).count();
+        if (active >= maxSessionsPerUser) {
+            throw new BadRequestException("진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해주세요");
+        }
+
+        Path chunkDir = chunkDir();
+        Files.createDirectories(chunkDir);
+        String uploadId = UUID.randomUUID().toString();
+        Path file = chunkDir.resolve(uploadId + ".part");
+        // SPARSE: 아직 받지 않은 구간은 디스크 공간을 차지하지 않음 (파일 시스템이 지원하는 경우)
+        FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE).close();
+
+        int totalChunks = (int) ((size + chunkSize - 1) / chunkSize);
+        UploadSession session = new UploadSession(uploadId, userId, filename, size, totalChunks, file);
+        sessions.put(uploadId, session);
+        log.info("청크 업로드 시작: userId={}, uploadId={}, size={}, chunks={}", userId, uploadId, size, totalChunks);
+        return toResponse(session, null);
+    }
+
+    /**
+     * 청크 하나를 기록합니다.
+     * 같은 청크를 다시 보내면 덮어쓰므로 재시도는 안전합니다.
+     * 완료 처리가 시작된 세션에는 쓰지 않습니다 (저장소로 옮기는 중인 파일 내용이 바뀌지 않도록).
+     *
+     * @param userId      업로드 사용자 ID
+     * @param uploadId    세션 ID
+     * @param offset      청크 시작 위치 (chunkSize의 배수)
+     * @param inputStream 청크 본문
+     * @param checksum    청크의 CRC32C 값 (16진수)
+     * @return 갱신된 세션 상태
+     * @throws IOException 파일 기록 실패 시
+     */
+    public ChunkedUploadResponse writeChunk(Long userId, String uploadId, long offset,
+                                            InputStream inputStream, String checksum) throws IOException {
+        UploadSession session = getSession(userId, uploadId);
+        if (offset < 0 || offset >= session.totalSize || offset % chunkSize != 0) {
+            throw new BadRequestException("잘못된 청크 위치입니다: " + offset);
+        }
+        long expectedCrc = parseChecksum(checksum);
+        int index = (int) (offset / chunkSize);
+        long expectedLength = Math.min(chunkSize, session.totalSize - offset);
+
+        synchronized (session) {
+            if (session.completing) {
+                throw new BadRequestException("이미 완료 처리 중인 업로드입니다");
+            }
+            session.writers++;
+        }
+        try {
+            return write(session, offset, index, expectedLength, inputStream, expectedCrc);
+        } finally {
+            synchronized (session) {
+                if (--session.writers == 0) {
+                    session.notifyAll();
+                }
+            }
+        }
+    }
+
+    private ChunkedUploadResponse write(UploadSession session, long offset, int index, long expectedLength,
+                                        InputStream inputStream, long expectedCrc) throws IOException {
+        CRC32C crc = new CRC32C();
+        long written = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        ReadableByteChannel source = Channels.newChannel(inputStream);
+        try (FileChannel target = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new BadRequestException("청크 크기가 올바르지 않습니다 (기대값: " + expectedLength + "바이트)");
+                }
+                buffer.flip();
+                crc.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer, offset + written + buffer.position());
+                }
+                written += read;
+                buffer.clear();
+            }
+        }
+        session.lastActivity = System.currentTimeMillis();
+
+        if (written != expectedLength) {
+            throw new BadRequestException("청크 크기가 올바르지 않습니다 (기대값: " + expectedLength + "바이트, 수신: " + written + "바이트)");
+        }
+        if (crc.getValue() != expectedCrc) {
+            synchronized (session) {
+                session.received.clear(index);
+            }
+            throw new BadRequestException("청크 체크섬이 일치하지 않습니다: chunk=" + index);
+        }
+        synchronized (session) {
+            session.received.set(index);
+        }
+        return toResponse(session, null);
+    }
+
+    /**
+     * 세션 상태(받은 청크/빠진 청크)를 조회합니다.
+     *
+     * @param userId   업로드 사용자 ID
+     * @param uploadId 세션 ID
+     * @return 세션 상태
+     */
+    public ChunkedUploadResponse getStatus(Long userId, String uploadId) {
+        return toResponse(getSession(userId, uploadId), null);
+    }
+
+    /**
+     * 모든 청크를 받았으면 파일을 저장소로 옮기고 이미지 URL을 반환합니다.
+     *
+     * @param userId   업로드 사용자 ID
+     * @param uploadId 세션 ID
+     * @return 이미지 URL이 포함된 세션 상태
+     * @throws IOException 파일 이동 실패 시
+     */
+    public ChunkedUploadResponse complete(Long userId, String uploadId) throws IOException {
+        UploadSession session = getSession(userId, uploadId);
+        synchronized (session) {
+            if (session.completing) {
+                throw new BadRequestException("이미 완료 처리 중인 업로드입니다");
+            }
+            // 새 청크 쓰기를 막고, 쓰는 중인 청크(재시도 등)가 끝날 때까지 기다림
+            session.completing = true;
+            try {
+                while (session.writers > 0) {
+                    session.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                session.completing = false;
+                throw new IOException("청크 쓰기 완료 대기 중 인터럽트", e);
+            }
+            // 기다리는 동안 체크섬이 틀린 재전송으로 청크가 빠졌을 수 있으므로 쓰기가 모두 끝난 뒤 확인
+            if (session.received.cardinality() != session.totalChunks) {
+                session.completing = false;
+                throw new BadRequestException("아직 받지 못한 청크가 있습니다 ("
+                        + session.received.cardinality() + "/" + session.totalChunks + ")");
+            }
+        }
+
+        try {
+            FileStorageService.StoredFile stored = fileStorageService.storeFile(session.file, session.filename);
+            imageVariantService.generateAsync(stored.path());
+            log.info("청크 업로드 완료: userId={}, uploadId={}, hash={}, duplicate={}, url={}",
+                    userId, uploadId, stored.hash(), stored.duplicate(), stored.url());
+            return toResponse(session, stored.url());
+        } finally {
+            sessions.remove(uploadId);
+        }
+    }
+
+    /**
+     * 업로드를 취소하고 임시 파일을 삭제합니다.
+     *
+     * @param userId   업로드 사용자 ID
+     * @param uploadId 세션 ID
+     */
+    public void abort(Long userId, String uploadId) {
+        UploadSession session = getSession(userId, uploadId);
+        sessions.remove(uploadId);
+        deleteQuietly(session.file);
+        log.info("청크 업로드 취소: userId={}, uploadId={}", userId, uploadId);
+    }
+
+    /**
+     * 일정 시간 활동이 없는 세션과, 서버 재시작 등으로 세션 없이 남은 임시 파일을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${file.chunked.cleanup-interval:PT10M}", initialDelayString = "${file.chunked.cleanup-interval:PT10M}")
+    public void cleanupExpiredSessions() {
+        long cutoff = System.currentTimeMillis() - sessionTtl.toMillis();
+        int expired = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.lastActivity < cutoff && sessions.remove(session.id, session)) {
+                deleteQuietly(session.file);
+                expired++;
+            }
+        }
+
+        int orphaned = 0;
+        Path chunkDir = chunkDir();
+        if (Files.isDirectory(chunkDir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(chunkDir, "*.part")) {
+                for (Path file : stream) {
+                    String uploadId = file.getFileName().toString().replace(".part", "");
+                    if (!sessions.containsKey(uploadId)
+                            && Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                        deleteQuietly(file);
+                        orphaned++;
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("청크 임시 디렉토리 정리 실패: {}", e.getMessage());
+            }
+        }
+        if (expired > 0 || orphaned > 0) {
+            log.info("만료된 청크 업로드 정리: sessions={}, orphanFiles={}", expired, orphaned);
+        }
+    }
+
+    private UploadSession getSession(Long userId, String uploadId) {
+        UploadSession session = uploadId != null ? sessions.get(uploadId) : null;
+        if (session == null || !session.userId.equals(userId)) {
+            throw new ResourceNotFoundException("업로드 세션을 찾을 수 없습니다");
+        }
+        return session;
+    }
+
+    private ChunkedUploadResponse toResponse(UploadSession session, String url) {
+        List<Integer> missing = new ArrayList<>();
+        int receivedCount;
+        synchronized (session) {
+            receivedCount = session.received.cardinality();
+            for (int i = session.received.nextClearBit(0);
+                 i < session.totalChunks && missing.size() < MAX_MISSING_LISTED;
+                 i = session.received.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+        }
+        return ChunkedUploadResponse.builder()
+                .uploadId(session.id)
+                .filename(session.filename)
+                .totalSize(session.totalSize)
+                .chunkSize(chunkSize)
+                .totalChunks(session.totalChunks)
+                .receivedChunks(receivedCount)
+                .missingChunks(url != null ? List.of() : missing)
+                .expiresAt(LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(session.lastActivity).plus(sessionTtl), ZoneId.systemDefault()))
+                .url(url)
+                .build();
+    }
+
+    private long parseChecksum(String checksum) {
+        if (checksum == null || checksum.isBlank()) {
+            throw new BadRequestException("청크 체크섬(X-Chunk-CRC32C)이 필요합니다");
+        }
+        try {
+            return Long.parseUnsignedLong(checksum.trim(), 16) & 0xFFFFFFFFL;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("청크 체크섬 형식이 올바르지 않습니다 (16진수 CRC32C)");
+        }
+    }
+
+    private Path chunkDir() {
+        return fileStorageService.getTempPath().resolve("chunks");
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("청크 임시 파일 삭제 실패: file={}, error={}", file.getFileName(), e.getMessage());
+        }
+    }
+}
@@ -4,11 +4,14 @@ import com.debate.dto.request.CreateCommentRequest;
 import com.debate.dto.response.CommentResponse;
 import com.debate.entity.Debate;
 import com.debate.entity.Comment;
+import com.debate.entity.DomainEvent;
 import com.debate.entity.User;
 import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CommentRepository;
+import com.debate.repository.CommentSummary;
+import com.debate.util.ResponseFields;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +27,10 @@ import java.util.stream.Collectors;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final DebateRepository debateRepository;
+    private final BusinessMetrics businessMetrics;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FeedPageCache feedPageCache;
+    private final DebateReadCache debateReadCache;
 
     @Transactional
     public CommentResponse createComment(CreateCommentRequest request, Long userId) {
@@ -51,25 +59,52 @@ public class CommentService {
                 .build();
 
         comment = commentRepository.save(comment);
+        businessMetrics.commentCreated(parent != null);
+        domainEventPublisher.publish(DomainEvent.EventType.COMMENT_CREATED, comment.getId(), userId,
+                parent != null ? Map.of("debateId", debate.getId(), "parentId", parent.getId()) : Map.of("debateId", debate.getId()));
+        feedPageCache.debateChanged(debate.getId(), debate.getCategory().getId());
+        debateReadCache.evictDebate(debate.getId());
         return CommentResponse.from(comment);
     }
 
-    public Page<CommentResponse> getCommentsByDebate(Long debateId, Pageable pageable) {
+    public Page<CommentResponse> getCommentsByDebate(Long debateId, Pageable pageable, ResponseFields fields) {
+        // 같은 페이지의 동시 조회는 DB 조회 한 번으로 합치고 결과를 잠시 보관 (읽기 전용 트랜잭션에서 조회)
+        return debateReadCache.getCommentPage(debateId, pageable, fields, () -> loadCommentsByDebate(debateId, pageable, fields));
+    }
+
+    private Page<CommentResponse> loadCommentsByDebate(Long debateId, Pageable pageable, ResponseFields fields) {
         Debate debate = debateRepository.findById(debateId)
                 .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
 
+        // 본문을 고르지 않은 경우 본문 컬럼 없이 조회, 대댓글은 고른 경우에만 조회
+        if (!fields.includes("content")) {
+            Page<CommentSummary> summaries = commentRepository.findSummariesByDebate(debate, pageable);
+            return summaries.map(summary -> {
+                CommentResponse response = CommentResponse.from(summary);
+                if (fields.includes("replies")) {
+                    response.setReplies(loadReplies(commentRepository.getReferenceById(summary.id())));
+                }
+                return response;
+            });
+        }
+
         Page<Comment> comments = commentRepository.findByDebateAndIsHiddenFalseAndParentIsNull(debate, pageable);
 
         return comments.map(comment -> {
             CommentResponse response = CommentResponse.from(comment);
-            List<Comment> replies = commentRepository.findByParent(comment);
-            response.setReplies(replies.stream()
-                    .map(CommentResponse::from)
-                    .collect(Collectors.toList()));
+            if (fields.includes("replies")) {
+                response.setReplies(loadReplies(comment));
+            }
             return response;
         });
     }
 
+    private List<CommentResponse> loadReplies(Comment parent) {
+        return commentRepository.findByParent(parent).stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void deleteComment(Long commentId, Long userId) {
         Comment comment = commentRepository.findById(commentId)
@@ -80,6 +115,10 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        domainEventPublisher.publish(DomainEvent.EventType.COMMENT_DELETED, commentId, userId,
+                Map.of("debateId", comment.getDebate().getId()));
+        feedPageCache.debateChanged(comment.getDebate().getId(), comment.getDebate().getCategory().getId());
+        debateReadCache.evictDebate(comment.getDebate().getId());
     }
 }
 
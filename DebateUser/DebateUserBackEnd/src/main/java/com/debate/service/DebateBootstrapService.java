@@ -0,0 +1,181 @@
+package com.debate.service;
+
+import com.debate.config.RequestQueryStats;
+import com.debate.dto.response.CommentResponse;
+import com.debate.dto.response.DebateBootstrapResponse;
+import com.debate.dto.response.DebateResponse;
+import com.debate.entity.Debate;
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.entity.User;
+import com.debate.repository.DebateOpinionRepository;
+import com.debate.repository.LikeRepository;
+import com.debate.repository.OpinionSideCount;
+import com.debate.util.ResponseFields;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 토론 화면 초기 데이터 조회 서비스
+ * 토론 상세, 댓글 첫 페이지, 입장별 의견 수, 로그인 사용자의 좋아요/입장을 한 요청에서 동시에 조회합니다.
+ *
+ * - 각 조회는 크기가 정해진 작업 스레드 풀에서 따로 실행하며(각자 읽기 전용 트랜잭션), 풀과 대기열이 가득 차면 요청 스레드에서 바로 실행합니다
+ * - 상세와 댓글은 {@link DebateReadCache}를 거치므로 같은 토론의 동시 조회는 DB 조회 한 번으로 합쳐집니다
+ * - 상세 조회는 상세 API와 같이 조회수를 올립니다
+ * - 인증은 요청 스레드에서 한 번 확인한 사용자 ID를 넘깁니다
+ * - 작업 스레드에는 요청의 보안 컨텍스트와 요청 속성을 넘겨, 복제본 라우팅이 같은 사용자로 보고 방금 쓴 내용을 주 DB에서 읽게 합니다 (read-your-writes)
+ * - 하나가 실패해도(없는 토론 등) 모든 조회가 끝난 뒤 응답하므로, 작업 스레드가 끝난 요청의 속성을 쓰지 않습니다
+ * - 의견 수와 좋아요/입장은 토론을 다시 읽지 않고 토론 ID 조건으로 바로 조회합니다
+ */
+@Service
+public class DebateBootstrapService {
+    private final DebateService debateService;
+    private final CommentService commentService;
+    private final LikeRepository likeRepository;
+    private final DebateOpinionRepository debateOpinionRepository;
+    private final TransactionTemplate readTransaction;
+    private final ThreadPoolExecutor executor;
+
+    public DebateBootstrapService(DebateService debateService,
+                                  CommentService commentService,
+                                  LikeRepository likeRepository,
+                                  DebateOpinionRepository debateOpinionRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${debate.bootstrap.pool-size:8}") int poolSize,
+                                  @Value("${debate.bootstrap.queue-capacity:100}") int queueCapacity) {
+        this.debateService = debateService;
+        this.commentService = commentService;
+        this.likeRepository = likeRepository;
+        this.debateOpinionRepository = debateOpinionRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "debate-bootstrap-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 토론 화면 초기 데이터 조회
+     *
+     * @param debateId        토론 ID
+     * @param commentPageable 댓글 페이지 크기/정렬 (항상 첫 페이지)
+     * @param userId          로그인 사용자 ID (비로그인이면 null)
+     * @return 토론 상세, 댓글 첫 페이지, 입장별 의견 수, 사용자 상태
+     * @throws com.debate.exception.ResourceNotFoundException 토론을 찾을 수 없거나 숨김 처리된 경우
+     */
+    public DebateBootstrapResponse getBootstrap(Long debateId, Pageable commentPageable, Long userId) {
+        CompletableFuture<DebateResponse> debate = submit(() -> debateService.getDebateById(debateId));
+        CompletableFuture<Page<CommentResponse>> comments = submit(
+                () -> commentService.getCommentsByDebate(debateId, commentPageable, ResponseFields.all()));
+        CompletableFuture<Map<OpinionSide, Long>> opinionCounts = submit(
+                () -> readTransaction.execute(status -> countOpinions(debateId)));
+        CompletableFuture<DebateBootstrapResponse.ViewerState> viewer = userId != null
+                ? submit(() -> readTransaction.execute(status -> loadViewerState(debateId, userId)))
+                : CompletableFuture.completedFuture(null);
+
+        // 작업들이 요청 속성을 쓰므로 실패한 작업이 있어도 모두 끝난 뒤 응답 (결과와 예외는 아래 join에서 처리)
+        CompletableFuture.allOf(debate, comments, opinionCounts, viewer).exceptionally(e -> null).join();
+
+        // 상세를 먼저 확인해 없는 토론이면 상세 API와 같은 오류로 응답
+        return DebateBootstrapResponse.builder()
+                .debate(join(debate))
+                .comments(join(comments))
+                .opinionCounts(join(opinionCounts))
+                .viewer(join(viewer))
+                .build();
+    }
+
+    private Map<OpinionSide, Long> countOpinions(Long debateId) {
+        Map<OpinionSide, Long> counts = new EnumMap<>(OpinionSide.class);
+        for (OpinionSide side : OpinionSide.values()) {
+            counts.put(side, 0L);
+        }
+        for (OpinionSideCount count : debateOpinionRepository.countByDebateIdGroupBySide(debateId)) {
+            counts.put(count.side(), count.count());
+        }
+        return counts;
+    }
+
+    private DebateBootstrapResponse.ViewerState loadViewerState(Long debateId, Long userId) {
+        Debate debate = new Debate();
+        debate.setId(debateId);
+        User user = new User();
+        user.setId(userId);
+        return DebateBootstrapResponse.ViewerState.builder()
+                .liked(likeRepository.existsByDebateAndUser(debate, user))
+                .side(debateOpinionRepository.findSideByDebateIdAndUserId(debateId, userId).orElse(null))
+                .build();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(RequestQueryStats.propagate(withRequestContext(task)), executor);
+    }
+
+    /**
+     * 요청 스레드의 보안 컨텍스트와 요청 속성을 작업에 넘깁니다.
+     * 풀이 가득 차 요청 스레드에서 바로 실행되면 이미 같은 값이 있으므로 그대로 실행하고, 작업 스레드에서는 작업이 끝나면 비웁니다.
+     */
+    private static <T> Supplier<T> withRequestContext(Supplier<T> task) {
+        Thread caller = Thread.currentThread();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            if (Thread.currentThread() == caller) {
+                return task.get();
+            }
+            SecurityContextHolder.setContext(securityContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return task.get();
+            } finally {
+                SecurityContextHolder.clearContext();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    /**
+     * 작업 결과를 기다립니다. 작업에서 난 예외(없는 토론 등)는 감싸지 않고 그대로 던집니다.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
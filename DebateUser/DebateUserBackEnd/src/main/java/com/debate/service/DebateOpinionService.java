@@ -1,28 +1,36 @@
 package com.debate.service;
 
 import com.debate.dto.request.CreateOpinionRequest;
+import com.debate.dto.response.OpinionResponse;
 import com.debate.entity.Debate;
 import com.debate.entity.DebateOpinion;
+import com.debate.entity.DomainEvent;
 import com.debate.entity.User;
 import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateOpinionRepository;
 import com.debate.repository.DebateRepository;
+import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DebateOpinionService {
     private final DebateOpinionRepository debateOpinionRepository;
     private final DebateRepository debateRepository;
+    private final UserRepository userRepository;
+    private final BusinessMetrics businessMetrics;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
-    public DebateOpinion createOpinion(CreateOpinionRequest request, Long userId) {
+    public OpinionResponse createOpinion(CreateOpinionRequest request, Long userId) {
         Debate debate = debateRepository.findById(request.getDebateId())
                 .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
 
@@ -34,8 +42,8 @@ public class DebateOpinionService {
             throw new BadRequestException("토론 기간이 아닙니다");
         }
 
-        User user = new User();
-        user.setId(userId);
+        // 응답의 닉네임을 채우기 위해 프록시로 참조 (회원은 2차 캐시 대상이라 대개 추가 조회 없음)
+        User user = userRepository.getReferenceById(userId);
 
         if (debateOpinionRepository.existsByDebateAndUser(debate, user)) {
             throw new BadRequestException("이미 입장을 선택했습니다");
@@ -48,14 +56,21 @@ public class DebateOpinionService {
                 .content(request.getContent())
                 .build();
 
-        return debateOpinionRepository.save(opinion);
+        opinion = debateOpinionRepository.save(opinion);
+        businessMetrics.opinionCreated(opinion.getSide());
+        domainEventPublisher.publish(DomainEvent.EventType.OPINION_CREATED, debate.getId(), userId,
+                Map.of("opinionId", opinion.getId(), "side", opinion.getSide().name()));
+        return OpinionResponse.from(opinion);
     }
 
-    public List<DebateOpinion> getOpinionsByDebate(Long debateId) {
+    @Transactional(readOnly = true)
+    public List<OpinionResponse> getOpinionsByDebate(Long debateId) {
         Debate debate = debateRepository.findById(debateId)
                 .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
 
-        return debateOpinionRepository.findByDebate(debate);
+        return debateOpinionRepository.findByDebate(debate).stream()
+                .map(OpinionResponse::from)
+                .collect(Collectors.toList());
     }
 }
 
@@ -0,0 +1,220 @@
+package com.debate.service;
+
+import com.debate.config.ReplicationRoutingDataSource;
+import com.debate.dto.response.CommentResponse;
+import com.debate.dto.response.DebateResponse;
+import com.debate.entity.CacheInvalidation;
+import com.debate.util.ResponseFields;
+import com.debate.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 토론 상세/댓글 페이지 조회 캐시
+ * 같은 토론에 요청이 몰릴 때 동시에 들어온 같은 조회는 {@link SingleFlight}로 DB 조회 한 번에 합치고,
+ * 결과는 짧은 시간(ttl) 보관합니다.
+ *
+ * - 조회는 읽기 전용 트랜잭션에서 실행하며, 결과를 기다리는 요청은 트랜잭션 밖에서 기다리므로 DB 연결을 잡지 않습니다
+ * - 결과를 모든 사용자가 공유하므로 복제본이 아닌 주 DB에서 읽습니다 (무효화 직후 지연된 복제본의 이전 값이 ttl 동안 남지 않도록)
+ * - 토론 수정/삭제, 좋아요, 댓글 작성/삭제는 커밋 이후 해당 토론의 항목을 비우고,
+ *   다른 인스턴스(관리자 백엔드의 숨김/삭제 포함)의 변경은 {@link CacheInvalidationBus}의 무효화 이벤트로 비웁니다
+ * - 조회 도중 무효화가 있었으면 결과를 돌려주기만 하고 보관하지 않습니다 (변경 전 값이 남지 않도록)
+ * - 예외(없는 토론 등)는 기다리던 요청에도 그대로 전달하고 보관하지 않습니다
+ */
+@Service
+public class DebateReadCache {
+    private final TransactionTemplate readTransaction;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Entry<DebateResponse>> details = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Entry<Page<CommentResponse>>>> commentPages = new ConcurrentHashMap<>();
+    private final SingleFlight<Long, DebateResponse> detailLoads = new SingleFlight<>();
+    private final SingleFlight<String, Page<CommentResponse>> commentPageLoads = new SingleFlight<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long detailTtlNanos;
+    private final long commentsTtlNanos;
+    private final int maxEntries;
+    private final Counter detailHits;
+    private final Counter detailMisses;
+    private final Counter commentHits;
+    private final Counter commentMisses;
+
+    public DebateReadCache(PlatformTransactionManager transactionManager,
+                           JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${debate-read-cache.detail-ttl:3s}") Duration detailTtl,
+                           @Value("${debate-read-cache.comments-ttl:3s}") Duration commentsTtl,
+                           @Value("${debate-read-cache.max-entries:10000}") int maxEntries) {
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.jdbcTemplate = jdbcTemplate;
+        this.detailTtlNanos = detailTtl.toNanos();
+        this.commentsTtlNanos = commentsTtl.toNanos();
+        this.maxEntries = maxEntries;
+        this.detailHits = meterRegistry.counter("debate.read.cache", "cache", "detail", "result", "hit");
+        this.detailMisses = meterRegistry.counter("debate.read.cache", "cache", "detail", "result", "miss");
+        this.commentHits = meterRegistry.counter("debate.read.cache", "cache", "comments", "result", "hit");
+        this.commentMisses = meterRegistry.counter("debate.read.cache", "cache", "comments", "result", "miss");
+        FunctionCounter.builder("debate.read.cache.joined", detailLoads, SingleFlight::getJoinedCount)
+                .description("실행 중인 조회에 합쳐진 요청 수")
+                .tag("cache", "detail")
+                .register(meterRegistry);
+        FunctionCounter.builder("debate.read.cache.joined", commentPageLoads, SingleFlight::getJoinedCount)
+                .description("실행 중인 조회에 합쳐진 요청 수")
+                .tag("cache", "comments")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토론 상세를 조회합니다.
+     *
+     * @param debateId 토론 ID
+     * @param loader   DB 조회 (주 DB의 읽기 전용 트랜잭션에서 실행)
+     * @return 토론 상세 (여러 요청이 공유하므로 수정하면 안 됨)
+     */
+    public DebateResponse getDetail(Long debateId, Supplier<DebateResponse> loader) {
+        Entry<DebateResponse> entry = details.get(debateId);
+        if (entry != null && entry.isValid()) {
+            detailHits.increment();
+            return entry.value();
+        }
+        detailMisses.increment();
+        return detailLoads.load(debateId, () -> {
+            long loadedGeneration = generation.get();
+            DebateResponse value = readFromPrimary(loader);
+            if (generation.get() == loadedGeneration) {
+                if (details.size() >= maxEntries) {
+                    details.values().removeIf(e -> !e.isValid());
+                }
+                details.put(debateId, new Entry<>(value, System.nanoTime() + detailTtlNanos));
+            }
+            return value;
+        });
+    }
+
+    /**
+     * 토론의 댓글 페이지를 조회합니다.
+     *
+     * @param debateId 토론 ID
+     * @param pageable 페이징 정보
+     * @param fields   응답 필드 선택 (고른 필드에 따라 조회 결과가 다르므로 키에 포함)
+     * @param loader   DB 조회 (주 DB의 읽기 전용 트랜잭션에서 실행)
+     * @return 댓글 페이지 (여러 요청이 공유하므로 수정하면 안 됨)
+     */
+    public Page<CommentResponse> getCommentPage(Long debateId, Pageable pageable, ResponseFields fields,
+                                                Supplier<Page<CommentResponse>> loader) {
+        String pageKey = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort() + ":" + fields.key();
+        Map<String, Entry<Page<CommentResponse>>> pages = commentPages.get(debateId);
+        Entry<Page<CommentResponse>> entry = pages != null ? pages.get(pageKey) : null;
+        if (entry != null && entry.isValid()) {
+            commentHits.increment();
+            return entry.value();
+        }
+        commentMisses.increment();
+        return commentPageLoads.load(debateId + ":" + pageKey, () -> {
+            long loadedGeneration = generation.get();
+            Page<CommentResponse> value = readFromPrimary(loader);
+            if (generation.get() == loadedGeneration) {
+                if (commentPages.size() >= maxEntries) {
+                    commentPages.values().removeIf(p -> p.values().stream().noneMatch(Entry::isValid));
+                }
+                commentPages.computeIfAbsent(debateId, id -> new ConcurrentHashMap<>())
+                        .put(pageKey, new Entry<>(value, System.nanoTime() + commentsTtlNanos));
+            }
+            return value;
+        });
+    }
+
+    /**
+     * 토론의 상세와 댓글 페이지를 비웁니다. 트랜잭션 안에서 호출하면 커밋 이후에 비웁니다.
+     *
+     * @param debateId 토론 ID
+     */
+    public void evictDebate(Long debateId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            details.remove(debateId);
+            commentPages.remove(debateId);
+        });
+    }
+
+    /**
+     * 토론 상세만 다시 조회하도록 비웁니다 (조회수 반영 등 이미 커밋된 값을 다시 읽을 때).
+     *
+     * @param debateId 토론 ID
+     */
+    public void refreshDetail(Long debateId) {
+        details.remove(debateId);
+    }
+
+    /**
+     * 무효화 로그에 따라 항목을 비웁니다.
+     * 댓글은 토론을 찾아 해당 토론만, 찾지 못하거나 회원/카테고리가 바뀌면(닉네임, 카테고리 이름) 전체를 비웁니다.
+     * 카테고리 하나를 가리키는 로그는 토론 수 변경이며, 해당 토론은 함께 기록된 토론 로그로 비우므로 무시합니다.
+     *
+     * @param event 캐시 무효화 이벤트
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.targetType() == CacheInvalidation.TargetType.CATEGORY && !event.isAll()) {
+            return;
+        }
+        Long debateId = switch (event.targetType()) {
+            case DEBATE -> event.targetId();
+            case COMMENT -> event.isAll() ? null : findDebateId(event.targetId());
+            case USER, CATEGORY -> null;
+        };
+        if (debateId != null) {
+            evictDebate(debateId);
+        } else {
+            generation.incrementAndGet();
+            details.clear();
+            commentPages.clear();
+        }
+    }
+
+    private Long findDebateId(Long commentId) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT debate_id FROM comments WHERE id = ?", Long.class, commentId);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private <T> T readFromPrimary(Supplier<T> loader) {
+        return ReplicationRoutingDataSource.readFromPrimary(() -> readTransaction.execute(status -> loader.get()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isValid() {
+            return expiresAt - System.nanoTime() > 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.debate.service;
 
 import com.debate.dto.request.CreateDebateRequest;
 import com.debate.dto.request.UpdateDebateRequest;
+import com.debate.dto.response.DebateBatchItem;
 import com.debate.dto.response.DebateResponse;
 import com.debate.entity.Debate;
 import com.debate.entity.Category;
@@ -12,8 +13,12 @@ import com.debate.exception.UnauthorizedException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CategoryRepository;
 import com.debate.repository.CommentRepository;
+import com.debate.repository.DebateCount;
+import com.debate.repository.DebateSummary;
 import com.debate.repository.LikeRepository;
+import com.debate.util.ResponseFields;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -23,8 +28,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 토론(Debate) 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -32,10 +42,30 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class DebateService {
+    /**
+     * 인기순 정렬 (좋아요 수 내림차순, 같으면 최신순)
+     */
+    static final Comparator<DebateResponse> POPULAR_ORDER = Comparator
+            .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
+            .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder());
+
+    /**
+     * 댓글순 정렬 (댓글 수 내림차순, 같으면 최신순)
+     */
+    static final Comparator<DebateResponse> COMMENTS_ORDER = Comparator
+            .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
+            .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder());
+
     private final DebateRepository debateRepository;           // 토론 데이터 접근 리포지토리
     private final CategoryRepository categoryRepository;   // 카테고리 데이터 접근 리포지토리
     private final LikeRepository likeRepository;           // 좋아요 데이터 접근 리포지토리
     private final CommentRepository commentRepository;     // 댓글 데이터 접근 리포지토리
+    private final FeedPageCache feedPageCache;             // 비로그인 목록 응답 캐시
+    private final DebateReadCache debateReadCache;         // 토론 상세 조회 캐시
+    private final ViewCountBuffer viewCountBuffer;         // 조회수 누적 버퍼
+
+    @Value("${debate.batch.max-ids:100}")
+    private int batchMaxIds;                               // 일괄 조회 최대 ID 수
 
     /**
      * 새로운 토론 생성
@@ -81,6 +111,7 @@ public class DebateService {
 
         // 토론 저장
         debate = debateRepository.save(debate);
+        feedPageCache.debateCountChanged(debate.getId(), List.of(category.getId()));
         
         // 응답 DTO 생성 (좋아요 수, 댓글 수는 0으로 초기화)
         return DebateResponse.from(debate, 0L, 0L);
@@ -89,14 +120,29 @@ public class DebateService {
     /**
      * 토론 ID로 토론 상세 정보 조회
      * 조회 시 조회수가 자동으로 증가합니다.
+     * 동시에 들어온 같은 토론의 조회는 DB 조회 한 번으로 합치고 결과를 잠시 보관하며({@link DebateReadCache}),
+     * 조회수는 {@link ViewCountBuffer}에 모았다가 주기적으로 반영합니다.
      * 
      * @param id 토론 ID
      * @return 토론 상세 정보 (좋아요 수, 댓글 수 포함)
      * @throws ResourceNotFoundException 토론을 찾을 수 없거나 숨김 처리된 경우
      */
     public DebateResponse getDebateById(Long id) {
-        // 토론 조회
-        Debate debate = debateRepository.findById(id)
+        DebateResponse detail = debateReadCache.getDetail(id, () -> loadDebateDetail(id));
+
+        // 조회수 증가 (응답에는 아직 반영되지 않은 조회수까지 더해서 표시)
+        long pendingViews = viewCountBuffer.increment(id);
+        return detail.toBuilder()
+                .viewCount((int) (detail.getViewCount() + pendingViews))
+                .build();
+    }
+
+    /**
+     * 토론 상세 DB 조회 ({@link DebateReadCache}가 읽기 전용 트랜잭션에서 실행)
+     */
+    private DebateResponse loadDebateDetail(Long id) {
+        // 토론 조회 (작성자, 카테고리 함께 조회)
+        Debate debate = debateRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
 
         // 숨김 처리된 토론인지 확인
@@ -104,10 +150,6 @@ public class DebateService {
             throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
         }
 
-        // 조회수 증가
-        debate.setViewCount(debate.getViewCount() + 1);
-        debateRepository.save(debate);
-
         // 좋아요 수 조회
         Long likeCount = likeRepository.countByDebate(debate);
         
@@ -118,6 +160,65 @@ public class DebateService {
         return DebateResponse.from(debate, likeCount, commentCount);
     }
 
+    /**
+     * 여러 토론 일괄 조회 (북마크, 최근 본 토론 등 목록 화면용)
+     * 상세 조회와 달리 조회수를 올리지 않습니다.
+     * 토론은 IN 조회 한 번, 좋아요 수/댓글 수는 각각 GROUP BY 조회 한 번으로 가져옵니다.
+     * 
+     * @param ids 토론 ID 목록 (중복 허용, 요청 순서 유지)
+     * @param fields 응답 필드 선택 (고르지 않은 본문, 좋아요 수, 댓글 수는 조회하지 않음)
+     * @return 요청 순서대로 정렬된 조회 결과 (없거나 숨김 처리된 토론은 found=false)
+     * @throws BadRequestException ID가 없거나 최대 개수를 넘은 경우
+     */
+    @Transactional(readOnly = true)
+    public List<DebateBatchItem> getDebatesByIds(List<Long> ids, ResponseFields fields) {
+        if (ids.isEmpty()) {
+            throw new BadRequestException("조회할 토론 ID가 없습니다");
+        }
+        if (ids.size() > batchMaxIds) {
+            throw new BadRequestException("한 번에 조회할 수 있는 토론은 최대 " + batchMaxIds + "개입니다");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+
+        // 토론 조회 (본문을 고르지 않은 경우 본문 컬럼 없이 조회)
+        Map<Long, DebateResponse> debates = new HashMap<>();
+        if (fields.includes("content")) {
+            debateRepository.findByIdInAndIsHiddenFalse(distinctIds)
+                    .forEach(debate -> debates.put(debate.getId(), DebateResponse.from(debate, null, null)));
+        } else {
+            debateRepository.findSummariesByIdIn(distinctIds)
+                    .forEach(summary -> debates.put(summary.id(), DebateResponse.from(summary, null, null)));
+        }
+
+        // 좋아요 수, 댓글 수 일괄 조회 (집계가 없는 토론은 0)
+        Map<Long, Long> likeCounts = fields.includes("likeCount") && !debates.isEmpty()
+                ? toCountMap(likeRepository.countByDebateIds(debates.keySet())) : Map.of();
+        Map<Long, Long> commentCounts = fields.includes("commentCount") && !debates.isEmpty()
+                ? toCountMap(commentRepository.countByDebateIds(debates.keySet())) : Map.of();
+        debates.values().forEach(debate -> {
+            if (fields.includes("likeCount")) {
+                debate.setLikeCount(likeCounts.getOrDefault(debate.getId(), 0L));
+            }
+            if (fields.includes("commentCount")) {
+                debate.setCommentCount(commentCounts.getOrDefault(debate.getId(), 0L));
+            }
+            // 상세 조회와 같이 아직 반영되지 않은 조회수까지 더해서 표시
+            debate.setViewCount((int) (debate.getViewCount() + viewCountBuffer.getPending(debate.getId())));
+        });
+
+        return ids.stream()
+                .map(id -> DebateBatchItem.builder()
+                        .id(id)
+                        .found(debates.containsKey(id))
+                        .debate(debates.get(id))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static Map<Long, Long> toCountMap(List<DebateCount> counts) {
+        return counts.stream().collect(Collectors.toMap(DebateCount::debateId, DebateCount::count));
+    }
+
     /**
      * 전체 토론 목록 조회 (페이징)
      * 숨김 처리되지 않은 토론만 조회합니다.
@@ -125,9 +226,16 @@ public class DebateService {
      * @param pageable 페이징 정보
      * @param sort 정렬 기준 (latest, popular, comments, views)
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param fields 응답 필드 선택 (고르지 않은 본문, 좋아요 수, 댓글 수는 조회하지 않음)
      * @return 토론 목록 (좋아요 수, 댓글 수 포함)
      */
-    public Page<DebateResponse> getAllDebates(Pageable pageable, String sort, Debate.DebateStatus status) {
+    @Transactional(readOnly = true)
+    public Page<DebateResponse> getAllDebates(Pageable pageable, String sort, Debate.DebateStatus status, ResponseFields fields) {
+        // 본문을 고르지 않은 경우 본문 컬럼 없이 조회
+        if (!fields.includes("content")) {
+            return findSummaries(null, null, status, pageable, sort, fields);
+        }
+
         // 정렬 기준에 따라 Pageable 수정
         Pageable sortedPageable = getSortedPageable(pageable, sort);
         
@@ -142,22 +250,14 @@ public class DebateService {
             }
             
             List<DebateResponse> allDebateResponses = allDebates.stream()
-                    .map(debate -> {
-                        Long likeCount = likeRepository.countByDebate(debate);
-                        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                        return DebateResponse.from(debate, likeCount, commentCount);
-                    })
+                    .map(debate -> toListResponse(debate, sort, fields))
                     .collect(Collectors.toList());
             
             // 정렬 기준에 따라 정렬
             if ("popular".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+                allDebateResponses.sort(POPULAR_ORDER);
             } else if ("comments".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+                allDebateResponses.sort(COMMENTS_ORDER);
             }
             
             // 페이징 적용
@@ -175,11 +275,7 @@ public class DebateService {
                 debatePage = debateRepository.findByIsHiddenFalse(sortedPageable);
             }
             
-            return debatePage.map(debate -> {
-                Long likeCount = likeRepository.countByDebate(debate);
-                Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                return DebateResponse.from(debate, likeCount, commentCount);
-            });
+            return debatePage.map(debate -> toListResponse(debate, sort, fields));
         }
     }
     
@@ -219,14 +315,22 @@ public class DebateService {
      * @param pageable 페이징 정보
      * @param sort 정렬 기준 (latest, popular, comments, views)
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param fields 응답 필드 선택 (고르지 않은 본문, 좋아요 수, 댓글 수는 조회하지 않음)
      * @return 해당 카테고리의 토론 목록 (좋아요 수, 댓글 수 포함)
      * @throws ResourceNotFoundException 카테고리를 찾을 수 없는 경우
      */
-    public Page<DebateResponse> getDebatesByCategory(Long categoryId, Pageable pageable, String sort, Debate.DebateStatus status) {
+    @Transactional(readOnly = true)
+    public Page<DebateResponse> getDebatesByCategory(Long categoryId, Pageable pageable, String sort, Debate.DebateStatus status,
+                                                     ResponseFields fields) {
         // 카테고리 조회 및 검증
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
 
+        // 본문을 고르지 않은 경우 본문 컬럼 없이 조회
+        if (!fields.includes("content")) {
+            return findSummaries(null, category, status, pageable, sort, fields);
+        }
+
         // 정렬 기준에 따라 Pageable 수정
         Pageable sortedPageable = getSortedPageable(pageable, sort);
         
@@ -241,22 +345,14 @@ public class DebateService {
             }
             
             List<DebateResponse> allDebateResponses = allDebates.stream()
-                    .map(debate -> {
-                        Long likeCount = likeRepository.countByDebate(debate);
-                        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                        return DebateResponse.from(debate, likeCount, commentCount);
-                    })
+                    .map(debate -> toListResponse(debate, sort, fields))
                     .collect(Collectors.toList());
             
             // 정렬 기준에 따라 정렬
             if ("popular".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+                allDebateResponses.sort(POPULAR_ORDER);
             } else if ("comments".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+                allDebateResponses.sort(COMMENTS_ORDER);
             }
             
             // 페이징 적용
@@ -274,11 +370,7 @@ public class DebateService {
                 debatePage = debateRepository.findByCategoryAndIsHiddenFalse(category, sortedPageable);
             }
             
-            return debatePage.map(debate -> {
-                Long likeCount = likeRepository.countByDebate(debate);
-                Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                return DebateResponse.from(debate, likeCount, commentCount);
-            });
+            return debatePage.map(debate -> toListResponse(debate, sort, fields));
         }
     }
 
@@ -292,15 +384,24 @@ public class DebateService {
      * @param status 토론 상태 (선택적)
      * @param pageable 페이징 정보
      * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param fields 응답 필드 선택 (고르지 않은 본문, 좋아요 수, 댓글 수는 조회하지 않음)
      * @return 검색된 토론 목록 (좋아요 수, 댓글 수 포함)
      */
-    public Page<DebateResponse> searchDebates(String keyword, Long categoryId, Debate.DebateStatus status, Pageable pageable, String sort) {
+    @Transactional(readOnly = true)
+    public Page<DebateResponse> searchDebates(String keyword, Long categoryId, Debate.DebateStatus status, Pageable pageable, String sort,
+                                              ResponseFields fields) {
         // 카테고리 조회 (categoryId가 있는 경우)
         Category category = null;
         if (categoryId != null) {
             category = categoryRepository.findById(categoryId)
                     .orElse(null); // 카테고리를 찾을 수 없으면 null
         }
+
+        // 본문을 고르지 않은 경우 본문 컬럼 없이 조회 (검색 조건에는 본문을 그대로 사용)
+        if (!fields.includes("content")) {
+            return findSummaries(keyword != null && !keyword.trim().isEmpty() ? keyword : null,
+                    category, status, pageable, sort, fields);
+        }
         
         // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
         if ("popular".equals(sort) || "comments".equals(sort)) {
@@ -313,22 +414,14 @@ public class DebateService {
             );
             
             List<DebateResponse> allDebateResponses = allDebates.stream()
-                    .map(debate -> {
-                        Long likeCount = likeRepository.countByDebate(debate);
-                        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                        return DebateResponse.from(debate, likeCount, commentCount);
-                    })
+                    .map(debate -> toListResponse(debate, sort, fields))
                     .collect(Collectors.toList());
             
             // 정렬 기준에 따라 정렬
             if ("popular".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+                allDebateResponses.sort(POPULAR_ORDER);
             } else if ("comments".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+                allDebateResponses.sort(COMMENTS_ORDER);
             }
             
             // 페이징 적용
@@ -350,12 +443,63 @@ public class DebateService {
                     sortedPageable
             );
             
-            return searchResults.map(debate -> {
-                Long likeCount = likeRepository.countByDebate(debate);
-                Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                return DebateResponse.from(debate, likeCount, commentCount);
-            });
+            return searchResults.map(debate -> toListResponse(debate, sort, fields));
+        }
+    }
+
+    /**
+     * 본문을 뺀 토론 목록 조회 (fields에 content가 없는 목록/검색 요청)
+     *
+     * @param keyword 검색 키워드 (없으면 null)
+     * @param category 카테고리 (없으면 null)
+     * @param status 토론 상태 (없으면 null)
+     * @param pageable 페이징 정보
+     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param fields 응답 필드 선택
+     * @return 토론 목록 (content는 null)
+     */
+    private Page<DebateResponse> findSummaries(String keyword, Category category, Debate.DebateStatus status,
+                                               Pageable pageable, String sort, ResponseFields fields) {
+        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
+        if ("popular".equals(sort) || "comments".equals(sort)) {
+            List<DebateResponse> allDebateResponses = debateRepository.searchSummariesWithoutPaging(
+                            keyword, category, status, Sort.by(Sort.Direction.DESC, "createdAt"))
+                    .stream()
+                    .map(summary -> toListResponse(summary, sort, fields))
+                    .collect(Collectors.toList());
+            allDebateResponses.sort("popular".equals(sort) ? POPULAR_ORDER : COMMENTS_ORDER);
+
+            // 페이징 적용
+            int start = (int) pageable.getOffset();
+            int end = Math.min((start + pageable.getPageSize()), allDebateResponses.size());
+            List<DebateResponse> pagedDebates = allDebateResponses.subList(start, end);
+
+            return new PageImpl<>(pagedDebates, pageable, allDebateResponses.size());
         }
+        return debateRepository.searchSummaries(keyword, category, status, getSortedPageable(pageable, sort))
+                .map(summary -> toListResponse(summary, sort, fields));
+    }
+
+    /**
+     * 목록 항목 응답 생성
+     * 좋아요 수/댓글 수는 fields로 골랐거나 정렬(popular, comments)에 필요한 경우에만 조회합니다.
+     */
+    private DebateResponse toListResponse(Debate debate, String sort, ResponseFields fields) {
+        Long likeCount = fields.includes("likeCount") || "popular".equals(sort)
+                ? likeRepository.countByDebate(debate) : null;
+        Long commentCount = fields.includes("commentCount") || "comments".equals(sort)
+                ? commentRepository.countByDebateAndIsHiddenFalse(debate) : null;
+        return DebateResponse.from(debate, likeCount, commentCount);
+    }
+
+    private DebateResponse toListResponse(DebateSummary summary, String sort, ResponseFields fields) {
+        boolean likeCountNeeded = fields.includes("likeCount") || "popular".equals(sort);
+        boolean commentCountNeeded = fields.includes("commentCount") || "comments".equals(sort);
+        // 집계 조건에만 쓰는 참조 (토론 행을 다시 읽지 않음)
+        Debate debate = likeCountNeeded || commentCountNeeded ? debateRepository.getReferenceById(summary.id()) : null;
+        Long likeCount = likeCountNeeded ? likeRepository.countByDebate(debate) : null;
+        Long commentCount = commentCountNeeded ? commentRepository.countByDebateAndIsHiddenFalse(debate) : null;
+        return DebateResponse.from(summary, likeCount, commentCount);
     }
 
     /**
@@ -379,6 +523,11 @@ public class DebateService {
                 Debate.DebateStatus.ACTIVE, now);
         activeDebates.forEach(debate -> debate.setStatus(Debate.DebateStatus.ENDED));
         debateRepository.saveAll(activeDebates);
+
+        // 상태가 바뀐 토론이 있으면 목록 캐시 무효화
+        feedPageCache.debatesChanged(Stream.concat(scheduledDebates.stream(), activeDebates.stream())
+                .map(Debate::getId)
+                .toList());
     }
 
     /**
@@ -425,6 +574,7 @@ public class DebateService {
         }
 
         // 카테고리 수정
+        Long previousCategoryId = debate.getCategory().getId();
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
@@ -454,6 +604,15 @@ public class DebateService {
 
         // 토론 저장
         debate = debateRepository.save(debate);
+        debateReadCache.evictDebate(id);
+
+        // 목록 캐시 무효화 (카테고리가 바뀌면 두 카테고리의 토론 수도 바뀜)
+        Long categoryId = debate.getCategory().getId();
+        if (categoryId.equals(previousCategoryId)) {
+            feedPageCache.debateChanged(id, categoryId);
+        } else {
+            feedPageCache.debateCountChanged(id, List.of(previousCategoryId, categoryId));
+        }
 
         // 좋아요 수 조회
         Long likeCount = likeRepository.countByDebate(debate);
@@ -493,6 +652,8 @@ public class DebateService {
 
         // 토론 삭제
         debateRepository.delete(debate);
+        debateReadCache.evictDebate(id);
+        feedPageCache.debateCountChanged(id, List.of(debate.getCategory().getId()));
     }
 }
 
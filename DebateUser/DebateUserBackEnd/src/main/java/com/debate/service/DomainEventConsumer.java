@@ -0,0 +1,28 @@
+package com.debate.service;
+
+import com.debate.entity.DomainEvent;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 소비자
+ * 이 인터페이스를 구현한 빈은 {@link DomainEventDispatcher}가 자동으로 등록해 이벤트를 ID 순서대로 배치 전달합니다.
+ *
+ * - 최소 한 번(at-least-once) 전달이므로 같은 이벤트가 다시 전달되어도 결과가 같도록 처리해야 합니다
+ * - 배치 처리와 체크포인트 갱신은 같은 DB 트랜잭션에서 실행되므로, DB만 수정하는 소비자는 정확히 한 번 반영됩니다
+ * - 예외를 던지면 체크포인트가 전진하지 않고 다음 주기에 같은 배치부터 다시 전달됩니다
+ */
+public interface DomainEventConsumer {
+
+    /**
+     * 체크포인트 이름 (인스턴스 간 공유되며, 바꾸면 보관 중인 이벤트를 처음부터 다시 받음)
+     */
+    String name();
+
+    /**
+     * 이벤트 배치를 처리합니다.
+     *
+     * @param events ID 오름차순 이벤트 목록 (비어 있지 않음)
+     */
+    void handle(List<DomainEvent> events);
+}
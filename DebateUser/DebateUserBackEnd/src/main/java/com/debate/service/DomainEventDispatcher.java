@@ -0,0 +1,182 @@
+package com.debate.service;
+
+import com.debate.entity.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도메인 이벤트 전달기 (트랜잭셔널 아웃박스 → 소비자)
+ * 짧은 주기로 domain_events를 읽어 등록된 {@link DomainEventConsumer}마다 ID 순서대로 배치 전달하고 체크포인트를 갱신합니다.
+ *
+ * - 소비자마다 domain_event_checkpoints 행을 SELECT ... FOR UPDATE SKIP LOCKED로 잡으므로 여러 인스턴스 중 한 곳만 전달합니다
+ * - 배치 처리와 체크포인트 갱신은 한 트랜잭션이며, 실패하면 롤백되어 다음 주기에 다시 전달합니다 (at-least-once)
+ * - AUTO_INCREMENT ID는 커밋 순서와 다를 수 있어, 빈 ID를 만나면 그 앞까지만 전달하고 gap-timeout 동안 기다립니다
+ *   (그 사이 커밋되면 순서대로 전달, 롤백되어 끝내 비어 있으면 건너뜀)
+ * - 모든 소비자가 처리했고 retention이 지난 이벤트는 주기적으로 삭제합니다
+ */
+@Slf4j
+@Service
+public class DomainEventDispatcher {
+    private static final String CHECKPOINT_TABLE = "domain_event_checkpoints";
+    private static final int PURGE_LIMIT = 10_000;
+    private static final RowMapper<DomainEvent> EVENT_MAPPER = (rs, rowNum) -> {
+        DomainEvent.EventType eventType;
+        try {
+            eventType = DomainEvent.EventType.valueOf(rs.getString("event_type"));
+        } catch (IllegalArgumentException e) {
+            // 다른 버전의 인스턴스가 기록한 알 수 없는 타입은 전달하지 않음
+            eventType = null;
+        }
+        return DomainEvent.builder()
+                .id(rs.getLong("id"))
+                .eventType(eventType)
+                .aggregateType(eventType != null ? eventType.getAggregateType() : null)
+                .aggregateId(rs.getLong("aggregate_id"))
+                .actorId(rs.getObject("actor_id", Long.class))
+                .payload(rs.getString("payload"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .build();
+    };
+
+    private final List<DomainEventConsumer> consumers;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final long gapTimeoutNanos;
+    private final long retentionSeconds;
+    private final Map<String, long[]> gaps = new ConcurrentHashMap<>();  // 소비자 -> {기다리는 ID, 포기 시각(nanoTime)}
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();  // 체크포인트 행을 만든 소비자
+
+    public DomainEventDispatcher(List<DomainEventConsumer> consumers,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${domain-events.batch-size:200}") int batchSize,
+                                 @Value("${domain-events.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                                 @Value("${domain-events.gap-timeout:10s}") Duration gapTimeout,
+                                 @Value("${domain-events.retention:7d}") Duration retention) {
+        this.consumers = consumers;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.retentionSeconds = retention.toSeconds();
+        log.info("도메인 이벤트 소비자: {}", consumers.stream().map(DomainEventConsumer::name).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${domain-events.poll-interval:PT0.5S}")
+    public void poll() {
+        for (DomainEventConsumer consumer : consumers) {
+            try {
+                for (int i = 0; i < maxBatchesPerPoll; i++) {
+                    if (dispatchBatch(consumer) < batchSize) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                meterRegistry.counter("domain.events.failures", "consumer", consumer.name()).increment();
+                log.warn("도메인 이벤트 전달 실패, 다음 주기에 재시도: consumer={}, error={}", consumer.name(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${domain-events.purge-interval:PT10M}", initialDelayString = "${domain-events.purge-interval:PT10M}")
+    public void purge() {
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM domain_events"
+                    + " WHERE id <= (SELECT MIN(last_event_id) FROM " + CHECKPOINT_TABLE + ")"
+                    + " AND created_at < NOW() - INTERVAL ? SECOND LIMIT ?", retentionSeconds, PURGE_LIMIT);
+            if (deleted > 0) {
+                log.debug("도메인 이벤트 정리: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("도메인 이벤트 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 소비자 하나에 배치 하나를 전달합니다.
+     *
+     * @return 읽은 이벤트 수 (다른 인스턴스가 처리 중이면 0)
+     */
+    private int dispatchBatch(DomainEventConsumer consumer) {
+        if (!registered.contains(consumer.name())) {
+            jdbcTemplate.update("INSERT IGNORE INTO " + CHECKPOINT_TABLE
+                    + " (consumer_name, last_event_id, updated_at) VALUES (?, 0, NOW())", consumer.name());
+            registered.add(consumer.name());
+        }
+        Integer read = transactionTemplate.execute(status -> {
+            List<Long> locked = jdbcTemplate.queryForList("SELECT last_event_id FROM " + CHECKPOINT_TABLE
+                    + " WHERE consumer_name = ? FOR UPDATE SKIP LOCKED", Long.class, consumer.name());
+            if (locked.isEmpty()) {
+                return 0;
+            }
+            long checkpoint = locked.get(0);
+            List<DomainEvent> events = jdbcTemplate.query("SELECT id, event_type, aggregate_id, actor_id, payload, created_at"
+                    + " FROM domain_events WHERE id > ? ORDER BY id LIMIT ?", EVENT_MAPPER, checkpoint, batchSize);
+
+            List<DomainEvent> ready = new ArrayList<>(events.size());
+            long last = checkpoint;
+            int consumed = 0;
+            for (DomainEvent event : events) {
+                if (event.getId() != last + 1 && !gapExpired(consumer.name(), last + 1)) {
+                    break;
+                }
+                last = event.getId();
+                consumed++;
+                if (event.getEventType() != null) {
+                    ready.add(event);
+                }
+            }
+            if (consumed == 0) {
+                return 0;
+            }
+            if (!ready.isEmpty()) {
+                consumer.handle(ready);
+            }
+            jdbcTemplate.update("UPDATE " + CHECKPOINT_TABLE + " SET last_event_id = ?, updated_at = NOW()"
+                    + " WHERE consumer_name = ?", last, consumer.name());
+            meterRegistry.counter("domain.events.delivered", "consumer", consumer.name()).increment(ready.size());
+            // 빈 ID 앞에서 멈췄으면 이번 주기는 여기까지
+            return consumed < events.size() ? 0 : consumed;
+        });
+        return read != null ? read : 0;
+    }
+
+    /**
+     * 빈 ID를 기다린 시간이 gap-timeout을 넘었는지 확인합니다. 처음 만난 빈 ID면 기다리기 시작합니다.
+     */
+    private boolean gapExpired(String consumerName, long missingId) {
+        long now = System.nanoTime();
+        long[] gap = gaps.get(consumerName);
+        if (gap == null || gap[0] != missingId) {
+            gaps.put(consumerName, new long[]{missingId, now + gapTimeoutNanos});
+            return false;
+        }
+        if (now - gap[1] < 0) {
+            return false;
+        }
+        log.debug("도메인 이벤트 빈 ID 건너뜀: consumer={}, id={}", consumerName, missingId);
+        gaps.remove(consumerName);
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package com.debate.service;
+
+import com.debate.entity.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 집계 소비자
+ * 전달받은 이벤트를 타입별 카운터(debate.domain.events)로 집계합니다.
+ *
+ * - 이벤트는 여러 인스턴스 중 한 곳에서만 집계되므로 Prometheus에서는 인스턴스 합계(sum)로 봅니다
+ * - 관리자 운영 작업(숨김, 상태 변경, 신고 처리 등)도 함께 집계됩니다
+ * - 다시 전달된 배치는 한 번 더 집계될 수 있습니다 (카운터 특성상 허용)
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventMetrics implements DomainEventConsumer {
+    private final MeterRegistry registry;
+
+    @Override
+    public String name() {
+        return "metrics";
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            registry.counter("debate.domain.events", "type", event.getEventType().name()).increment();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.debate.service;
+
+import com.debate.entity.CacheInvalidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비로그인 목록 응답 캐시 (직렬화된 JSON 바이트)
+ * 토론 목록(전체/카테고리별)과 카테고리 목록 응답을 버전 번호와 함께 저장하고, 버전이 바뀌면 다시 만듭니다.
+ *
+ * - 버전: 전체 목록 1개, 카테고리별 1개씩, 카테고리 목록 1개, 그리고 모두를 한 번에 무효화하는 epoch
+ * - 토론/좋아요/댓글을 변경하면 커밋 이후 해당 카테고리와 전체 목록의 버전을 올리고,
+ *   다른 인스턴스(관리자 백엔드 포함)에는 {@link CacheInvalidationBus}로 전달합니다 (무효화 로그에 카테고리 ID를 함께 기록)
+ * - 토론 생성/삭제/카테고리 변경은 해당 카테고리와 카테고리 목록의 버전만 올리고, epoch는 카테고리 자체가 바뀌었을 때만 올립니다
+ * - 조회수는 상세 조회마다 바뀌므로 버전을 올리지 않고 ttl 안에서 늦게 반영됩니다
+ * - 버전이 바뀐 뒤 primary-window 동안은 응답을 주 DB에서 만들도록 알려, 지연된 복제본의 이전 목록이 새 버전으로 저장되지 않게 합니다
+ * - 응답 생성 전에 읽은 버전으로 저장하므로, 생성 도중 변경이 커밋되면 저장된 응답은 바로 만료됩니다
+ * - 메모리: 항목 수 max-entries, 본문 합계 max-bytes를 넘으면 만료된 항목부터 제거합니다
+ */
+@Slf4j
+@Service
+public class FeedPageCache {
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<String, Page> pages = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> categoryVersions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong allVersion = new AtomicLong();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private volatile long changedAt = System.nanoTime();
+    private final long ttlNanos;
+    private final long primaryWindowNanos;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    public FeedPageCache(CacheInvalidationBus cacheInvalidationBus,
+                         MeterRegistry meterRegistry,
+                         @Value("${feed-cache.ttl:10s}") Duration ttl,
+                         @Value("${feed-cache.max-entries:5000}") int maxEntries,
+                         @Value("${feed-cache.max-bytes:64MB}") DataSize maxBytes,
+                         @Value("${feed-cache.primary-window:7s}") Duration primaryWindow) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes.toBytes();
+        this.primaryWindowNanos = primaryWindow.toNanos();
+        this.hits = meterRegistry.counter("feed.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("feed.cache.requests", "result", "miss");
+        Gauge.builder("feed.cache.bytes", totalBytes, AtomicLong::get)
+                .description("목록 응답 캐시 본문 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 응답 생성 전에 현재 버전을 읽습니다.
+     *
+     * @param scope      범위
+     * @param categoryId 카테고리 ID (CATEGORY 범위일 때)
+     * @return 현재 버전
+     */
+    public Version version(Scope scope, Long categoryId) {
+        long stamp = switch (scope) {
+            case ALL -> allVersion.get();
+            case CATEGORY -> {
+                // 읽기 경로에서는 항목을 만들지 않음 (요청 경로의 아무 ID로 맵이 커지지 않도록)
+                AtomicLong categoryVersion = categoryVersions.get(categoryId);
+                yield categoryVersion != null ? categoryVersion.get() : 0L;
+            }
+            case CATALOG -> catalogVersion.get();
+        };
+        return new Version(epoch.get(), stamp);
+    }
+
+    /**
+     * 버전이 같고 만료되지 않은 응답을 찾습니다.
+     *
+     * @param key     요청 키
+     * @param version 현재 버전
+     * @return 저장된 응답, 없으면 null
+     */
+    public Page get(String key, Version version) {
+        Page page = pages.get(key);
+        if (page == null || !page.version().equals(version) || page.expiresAt() - System.nanoTime() <= 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return page;
+    }
+
+    /**
+     * 응답을 주 DB에서 만들어야 하는지 여부 (최근에 버전이 바뀌어 복제본에 아직 반영되지 않았을 수 있음)
+     *
+     * @return 마지막 버전 변경 후 primary-window가 지나지 않았으면 true
+     */
+    public boolean isRecentlyChanged() {
+        return System.nanoTime() - changedAt < primaryWindowNanos;
+    }
+
+    /**
+     * 응답을 저장합니다.
+     *
+     * @param key         요청 키
+     * @param version     응답 생성 전에 읽은 버전
+     * @param body        응답 본문
+     * @param contentType Content-Type
+     * @param etag        ETag
+     */
+    public void put(String key, Version version, byte[] body, String contentType, String etag) {
+        Page page = new Page(version, System.nanoTime() + ttlNanos, body, contentType, etag);
+        Page previous = pages.put(key, page);
+        totalBytes.addAndGet(body.length - (previous != null ? previous.body().length : 0));
+        if (pages.size() > maxEntries || totalBytes.get() > maxBytes) {
+            trim();
+        }
+    }
+
+    /**
+     * 토론의 좋아요/댓글 수나 내용이 바뀌었을 때 호출합니다 (해당 카테고리 목록과 전체 목록).
+     *
+     * @param debateId   토론 ID
+     * @param categoryId 토론의 카테고리 ID
+     */
+    public void debateChanged(Long debateId, Long categoryId) {
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateId, categoryId);
+        afterCommit(() -> bump(categoryId));
+    }
+
+    /**
+     * 카테고리의 토론 수가 바뀌었을 때 호출합니다 (토론 생성/삭제/카테고리 변경, 카테고리 목록 포함).
+     *
+     * @param debateId    토론 ID
+     * @param categoryIds 토론 수가 바뀐 카테고리 ID
+     */
+    public void debateCountChanged(Long debateId, Collection<Long> categoryIds) {
+        // 토론 로그의 카테고리는 아무 것이나 하나면 됨 (모든 카테고리는 카테고리 로그로 따로 무효화)
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateId, categoryIds.iterator().next());
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.CATEGORY, categoryIds);
+        afterCommit(() -> categoryIds.forEach(this::countChanged));
+    }
+
+    /**
+     * 여러 토론이 한꺼번에 바뀌었을 때 호출합니다 (상태 일괄 변경). 모든 목록을 무효화합니다.
+     *
+     * @param debateIds 토론 ID 목록
+     */
+    public void debatesChanged(Collection<Long> debateIds) {
+        if (debateIds.isEmpty()) {
+            return;
+        }
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.DEBATE, debateIds);
+        afterCommit(this::bumpEpoch);
+    }
+
+    /**
+     * 다른 인스턴스(또는 이 인스턴스)가 남긴 무효화 로그를 반영합니다.
+     *
+     * - 토론/댓글: 로그에 기록된 카테고리의 목록과 전체 목록 (카테고리 ID가 없는 로그는 전체 무효화)
+     * - 카테고리 하나: 해당 카테고리의 목록과 카테고리 목록 (토론 수 변경)
+     * - 카테고리 전체(관리자의 카테고리 수정), 회원: 전체 무효화
+     *
+     * @param event 캐시 무효화 이벤트
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        switch (event.targetType()) {
+            case DEBATE, COMMENT -> {
+                if (!event.isAll() && event.categoryId() != null) {
+                    bump(event.categoryId());
+                } else {
+                    bumpEpoch();
+                }
+            }
+            case CATEGORY -> {
+                if (event.isAll()) {
+                    bumpEpoch();
+                } else {
+                    countChanged(event.targetId());
+                }
+            }
+            case USER -> bumpEpoch();
+        }
+    }
+
+    private void bump(Long categoryId) {
+        changedAt = System.nanoTime();
+        categoryVersions.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+        allVersion.incrementAndGet();
+    }
+
+    private void countChanged(Long categoryId) {
+        bump(categoryId);
+        catalogVersion.incrementAndGet();
+    }
+
+    private void bumpEpoch() {
+        changedAt = System.nanoTime();
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * 만료된 항목을 먼저 제거하고, 그래도 넘치면 남은 항목을 임의로 제거합니다.
+     */
+    private synchronized void trim() {
+        long now = System.nanoTime();
+        pages.forEach((key, page) -> {
+            if (page.expiresAt() - now <= 0) {
+                remove(key, page);
+            }
+        });
+        Iterator<Map.Entry<String, Page>> iterator = pages.entrySet().iterator();
+        while ((pages.size() > maxEntries || totalBytes.get() > maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, Page> entry = iterator.next();
+            remove(entry.getKey(), entry.getValue());
+        }
+        log.debug("목록 응답 캐시 정리: 항목 {}개, {}바이트", pages.size(), totalBytes.get());
+    }
+
+    private void remove(String key, Page page) {
+        if (pages.remove(key, page)) {
+            totalBytes.addAndGet(-page.body().length);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 캐시 범위 (어떤 버전에 묶이는지)
+     */
+    public enum Scope {
+        ALL,       // 전체 토론 목록
+        CATEGORY,  // 카테고리별 토론 목록
+        CATALOG    // 카테고리 목록 (카테고리별 토론 수 포함)
+    }
+
+    /**
+     * 응답 버전 (epoch + 범위별 번호)
+     */
+    public record Version(long epoch, long stamp) {
+    }
+
+    /**
+     * 저장된 응답
+     */
+    public record Page(Version version, long expiresAt, byte[] body, String contentType, String etag) {
+    }
+}
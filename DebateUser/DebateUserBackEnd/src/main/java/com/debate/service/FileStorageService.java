@@ -0,0 +1,249 @@
+package com.debate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 저장소 서비스
+ * 파일 내용의 SHA-256 해시를 이름으로 사용하는 콘텐츠 주소 방식으로 저장합니다.
+ *
+ * - 업로드 스트림을 해시 계산과 동시에 임시 파일로 기록합니다 (FileChannel.transferFrom)
+ * - 완료되면 해시 앞 4자리로 나눈 하위 디렉토리(ab/cd/)로 원자적으로 이동합니다
+ * - 같은 내용의 파일이 이미 있으면 새로 저장하지 않고 기존 URL을 반환합니다
+ */
+@Slf4j
+@Service
+public class FileStorageService {
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+
+    private final Path rootPath;
+    private final Path tempPath;
+    private final String urlPrefix;
+    private final BusinessMetrics businessMetrics;
+
+    public FileStorageService(@Value("${file.upload-dir:uploads}") String uploadDir,
+                              @Value("${file.upload-url-prefix:/uploads}") String uploadUrlPrefix,
+                              @Value("${file.temp-dir:}") String tempDir,
+                              BusinessMetrics businessMetrics) {
+        this.rootPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // 임시 파일은 정적 리소스로 노출되지 않도록 업로드 루트 바깥(같은 파일 시스템)에 둡니다
+        this.tempPath = tempDir.isBlank()
+                ? rootPath.resolveSibling(".upload-tmp")
+                : Paths.get(tempDir).toAbsolutePath().normalize();
+        this.urlPrefix = uploadUrlPrefix;
+        this.businessMetrics = businessMetrics;
+    }
+
+    /**
+     * 저장 결과
+     *
+     * @param url       파일 접근 URL
+     * @param hash      파일 내용의 SHA-256 해시 (16진수)
+     * @param path      저장된 파일의 절대 경로
+     * @param size      파일 크기 (바이트)
+     * @param duplicate 이미 같은 내용의 파일이 있어 재사용했는지 여부
+     */
+    public record StoredFile(String url, String hash, Path path, long size, boolean duplicate) {
+    }
+
+    /**
+     * 입력 스트림을 콘텐츠 주소 방식으로 저장합니다.
+     *
+     * @param inputStream      업로드 파일 스트림 (호출자가 닫습니다)
+     * @param originalFilename 원본 파일명 (확장자 추출용)
+     * @return 저장 결과
+     * @throws IOException 파일 기록 실패 시
+     */
+    public StoredFile store(InputStream inputStream, String originalFilename) throws IOException {
+        Files.createDirectories(tempPath);
+        Path tempFile = Files.createTempFile(tempPath, "upload-", ".part");
+        try {
+            MessageDigest digest = newDigest();
+            long size = writeWithDigest(inputStream, digest, tempFile);
+            return place(tempFile, HexFormat.of().formatHex(digest.digest()), size, originalFilename);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 이미 디스크에 있는 파일(청크 업로드 결과 등)을 복사 없이 저장소로 옮깁니다.
+     * 원본 파일은 업로드 임시 디렉토리와 같은 파일 시스템에 있어야 하며, 저장 후 삭제됩니다.
+     *
+     * @param source           저장할 파일
+     * @param originalFilename 원본 파일명 (확장자 추출용)
+     * @return 저장 결과
+     * @throws IOException 파일 읽기/이동 실패 시
+     */
+    public StoredFile storeFile(Path source, String originalFilename) throws IOException {
+        try {
+            MessageDigest digest = newDigest();
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+                int read;
+                while ((read = channel.read(buffer)) != -1) {
+                    buffer.flip();
+                    digest.update(buffer);
+                    buffer.clear();
+                    size += read;
+                }
+            }
+            return place(source, HexFormat.of().formatHex(digest.digest()), size, originalFilename);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    /**
+     * 해시가 계산된 파일을 샤딩 디렉토리로 옮깁니다. 같은 해시의 파일이 있으면 그것을 재사용합니다.
+     */
+    private StoredFile place(Path file, String hash, long size, String originalFilename) throws IOException {
+        Path shardDir = rootPath.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4));
+        Path existing = findExisting(shardDir, hash);
+        if (existing != null) {
+            log.debug("중복 업로드 재사용: hash={}, path={}", hash, existing);
+            touch(existing);
+            businessMetrics.fileUploaded(size, true);
+            return new StoredFile(toUrl(existing), hash, existing, size, true);
+        }
+
+        Files.createDirectories(shardDir);
+        Path target = shardDir.resolve(hash + extensionOf(originalFilename));
+        moveAtomically(file, target);
+        businessMetrics.fileUploaded(size, false);
+        return new StoredFile(toUrl(target), hash, target, size, false);
+    }
+
+    /**
+     * 업로드 임시 디렉토리 경로를 반환합니다 (저장소와 같은 파일 시스템).
+     *
+     * @return 임시 디렉토리 경로
+     */
+    public Path getTempPath() {
+        return tempPath;
+    }
+
+    /**
+     * 업로드 URL을 저장소 내부의 절대 경로로 변환합니다.
+     * 업로드 루트 바깥을 가리키는 URL이면 null을 반환합니다.
+     *
+     * @param url 파일 접근 URL
+     * @return 파일 경로 또는 null
+     */
+    public Path resolveUrl(String url) {
+        if (url == null || !url.startsWith(urlPrefix + "/")) {
+            return null;
+        }
+        Path path = rootPath.resolve(url.substring(urlPrefix.length() + 1)).normalize();
+        return path.startsWith(rootPath) ? path : null;
+    }
+
+    public Path getRootPath() {
+        return rootPath;
+    }
+
+    public String getUrlPrefix() {
+        return urlPrefix;
+    }
+
+    /**
+     * 스트림을 다이제스트에 통과시키면서 임시 파일로 기록합니다.
+     */
+    private long writeWithDigest(InputStream inputStream, MessageDigest digest, Path tempFile) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(new DigestInputStream(inputStream, digest));
+        try (FileChannel target = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+            target.force(false);
+            return position;
+        }
+    }
+
+    /**
+     * 같은 해시로 저장된 파일이 있으면 반환합니다 (확장자는 달라도 같은 내용으로 봅니다).
+     */
+    private Path findExisting(Path shardDir, String hash) throws IOException {
+        if (!Files.isDirectory(shardDir)) {
+            return null;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shardDir, hash + "*")) {
+            for (Path candidate : stream) {
+                String name = candidate.getFileName().toString();
+                if (name.equals(hash) || name.startsWith(hash + ".")) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 재사용한 파일의 수정 시각을 갱신합니다.
+     * 미참조 업로드 정리 작업은 수정 시각 기준 유예 기간이 지난 파일만 지우므로,
+     * 새 게시글에 막 연결된 기존 파일이 정리되지 않도록 합니다.
+     */
+    private void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.warn("업로드 파일 수정 시각 갱신 실패: {}", path, e);
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 임시 디렉토리가 다른 파일 시스템에 있는 경우
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private String toUrl(Path path) {
+        return urlPrefix + "/" + rootPath.relativize(path).toString().replace("\\", "/");
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            return "";
+        }
+        String extension = originalFilename.substring(originalFilename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return SAFE_EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.debate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등 키 저장소 (메모리 + idempotency_keys 테이블)
+ * 같은 키의 요청은 한 번만 처리하고, 이후 요청에는 첫 응답을 돌려주도록 처리 상태와 응답을 보관합니다.
+ *
+ * - 메모리: 이 인스턴스에서 처리 중이거나 최근 완료한 키 (최대 max-entries, 넘으면 완료된 항목부터 제거)
+ *   같은 키의 동시 요청은 처리 중인 요청의 결과를 기다립니다 (최대 wait-timeout)
+ * - DB: 메모리에 없는 키(다른 인스턴스, 메모리에서 제거된 키)를 확인하고 처리 권한을 얻는 데 사용합니다
+ *   DB를 사용할 수 없으면 메모리만으로 처리합니다 (인스턴스 간 중복은 막지 못함)
+ * - 처리 중인 키는 processing-timeout이 지나면 다른 요청이 가져갈 수 있습니다 (처리 도중 종료된 인스턴스 대비)
+ * - 완료된 키는 ttl 동안 보관하고 주기적으로 삭제합니다
+ */
+@Slf4j
+@Service
+public class IdempotencyStore {
+    private static final String TABLE = "idempotency_keys";
+    private static final int PROCESSING = 0;
+    private static final int PURGE_LIMIT = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlSeconds;
+    private final long processingTimeoutSeconds;
+    private final long waitTimeoutNanos;
+    private final long pollIntervalMillis;
+    private final int maxEntries;
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate,
+                            @Value("${idempotency.ttl:24h}") Duration ttl,
+                            @Value("${idempotency.processing-timeout:1m}") Duration processingTimeout,
+                            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+                            @Value("${idempotency.poll-interval:100ms}") Duration pollInterval,
+                            @Value("${idempotency.max-entries:10000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlSeconds = ttl.toSeconds();
+        this.processingTimeoutSeconds = processingTimeout.toSeconds();
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 키의 처리 권한을 얻습니다. 다른 요청이 처리 중이면 끝날 때까지 기다렸다가 그 응답을 돌려줍니다.
+     *
+     * @param keyHash     키 해시
+     * @param requestHash 요청 본문 해시
+     * @return ACQUIRED이면 호출자가 요청을 처리한 뒤 {@link #complete} 또는 {@link #release}를 호출해야 합니다
+     */
+    public Claim claim(String keyHash, String requestHash) {
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        while (true) {
+            long now = System.nanoTime();
+            Entry entry = entries.get(keyHash);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(keyHash, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                Entry created = new Entry(requestHash);
+                Entry existing = entries.putIfAbsent(keyHash, created);
+                if (existing == null) {
+                    trimIfFull();
+                    return claimInDatabase(keyHash, requestHash, created, deadline);
+                }
+                entry = existing;
+            }
+            if (!entry.requestHash.equals(requestHash)) {
+                return Claim.MISMATCH;
+            }
+            try {
+                return Claim.replay(entry.result.get(Math.max(0, deadline - now), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                return Claim.IN_PROGRESS;
+            } catch (ExecutionException | CancellationException e) {
+                // 처리하던 요청이 응답을 저장하지 않고 끝남 - 처리 권한을 다시 시도
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Claim.IN_PROGRESS;
+            }
+        }
+    }
+
+    /**
+     * 처리 결과를 저장하고 기다리던 요청에 전달합니다.
+     *
+     * @param keyHash  키 해시
+     * @param response 저장할 응답
+     */
+    public void complete(String keyHash, StoredResponse response) {
+        try {
+            jdbcTemplate.update("UPDATE " + TABLE + " SET status_code = ?, content_type = ?, response_body = ?,"
+                            + " expires_at = NOW() + INTERVAL ? SECOND WHERE key_hash = ?",
+                    response.status(), response.contentType(), response.body(), ttlSeconds, keyHash);
+        } catch (DataAccessException e) {
+            log.warn("멱등 키 응답 저장 실패 (메모리에만 보관): {}", e.getMessage());
+        }
+        Entry entry = entries.get(keyHash);
+        if (entry != null) {
+            entry.expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+            entry.result.complete(response);
+        }
+    }
+
+    /**
+     * 응답을 저장하지 않고 처리 권한을 내려놓습니다 (서버 오류 등). 같은 키로 다시 요청하면 새로 처리합니다.
+     *
+     * @param keyHash 키 해시
+     */
+    public void release(String keyHash) {
+        try {
+            jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE key_hash = ? AND status_code = ?", keyHash, PROCESSING);
+        } catch (DataAccessException e) {
+            log.warn("멱등 키 해제 실패 (processing-timeout 후 만료): {}", e.getMessage());
+        }
+        Entry entry = entries.remove(keyHash);
+        if (entry != null) {
+            entry.result.cancel(false);
+        }
+    }
+
+    /**
+     * 만료된 키를 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT10M}")
+    public void purge() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE expires_at < NOW() LIMIT " + PURGE_LIMIT);
+                if (deleted > 0) {
+                    log.debug("만료된 멱등 키 삭제: {}건", deleted);
+                }
+            } while (deleted == PURGE_LIMIT);
+        } catch (DataAccessException e) {
+            log.warn("만료된 멱등 키 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 처리 권한을 얻습니다. 다른 인스턴스가 처리 중이면 완료될 때까지 poll-interval 간격으로 확인합니다.
+     * 메모리 항목(created)은 이 요청이 만든 것이므로, 처리 권한을 얻지 못하면 결과를 채우거나 제거합니다.
+     */
+    private Claim claimInDatabase(String keyHash, String requestHash, Entry created, long deadline) {
+        try {
+            while (true) {
+                if (jdbcTemplate.update("INSERT IGNORE INTO " + TABLE
+                                + " (key_hash, request_hash, status_code, created_at, expires_at)"
+                                + " VALUES (?, ?, ?, NOW(), NOW() + INTERVAL ? SECOND)",
+                        keyHash, requestHash, PROCESSING, processingTimeoutSeconds) == 1) {
+                    return Claim.ACQUIRED;
+                }
+                // 만료된 행(보관 기간이 지났거나 처리하던 인스턴스가 종료됨)은 가져와서 새로 처리
+                if (jdbcTemplate.update("UPDATE " + TABLE + " SET request_hash = ?, status_code = ?, content_type = NULL,"
+                                + " response_body = NULL, created_at = NOW(), expires_at = NOW() + INTERVAL ? SECOND"
+                                + " WHERE key_hash = ? AND expires_at < NOW()",
+                        requestHash, PROCESSING, processingTimeoutSeconds, keyHash) == 1) {
+                    return Claim.ACQUIRED;
+                }
+                List<StoredResponse> rows = jdbcTemplate.query(
+                        "SELECT request_hash, status_code, content_type, response_body FROM " + TABLE + " WHERE key_hash = ?",
+                        (rs, rowNum) -> new StoredResponse(rs.getInt("status_code"), rs.getString("content_type"),
+                                rs.getString("response_body"), rs.getString("request_hash")),
+                        keyHash);
+                if (rows.isEmpty()) {
+                    continue;  // 확인 사이에 삭제됨
+                }
+                StoredResponse row = rows.get(0);
+                if (!requestHash.equals(row.requestHash())) {
+                    abandon(keyHash, created);
+                    return Claim.MISMATCH;
+                }
+                if (row.status() != PROCESSING) {
+                    created.expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+                    created.result.complete(row);
+                    return Claim.replay(row);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    abandon(keyHash, created);
+                    return Claim.IN_PROGRESS;
+                }
+                Thread.sleep(pollIntervalMillis);
+            }
+        } catch (DataAccessException e) {
+            log.warn("멱등 키 DB 확인 실패 (메모리만 사용): {}", e.getMessage());
+            return Claim.ACQUIRED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(keyHash, created);
+            return Claim.IN_PROGRESS;
+        }
+    }
+
+    private void abandon(String keyHash, Entry created) {
+        entries.remove(keyHash, created);
+        created.result.cancel(false);
+    }
+
+    /**
+     * 메모리 항목이 max-entries를 넘으면 만료된 항목, 완료된 항목 순으로 제거합니다 (DB에는 남아 있음).
+     */
+    private void trimIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().getValue().result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 메모리 항목 (처리 중이면 result가 완료되지 않은 상태)
+     */
+    private static final class Entry {
+        final String requestHash;
+        final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        volatile long expiresAt = Long.MAX_VALUE;  // 처리 중에는 만료되지 않음 (처리가 끝나면 complete/release 호출)
+
+        Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && expiresAt - now <= 0;
+        }
+    }
+
+    /**
+     * 저장된 응답
+     *
+     * @param status      상태 코드
+     * @param contentType Content-Type
+     * @param body        응답 본문
+     * @param requestHash 요청 본문 해시
+     */
+    public record StoredResponse(int status, String contentType, String body, String requestHash) {
+    }
+
+    /**
+     * 처리 권한 확인 결과
+     *
+     * @param outcome  결과
+     * @param response 재전송할 응답 (REPLAY일 때)
+     */
+    public record Claim(Outcome outcome, StoredResponse response) {
+        static final Claim ACQUIRED = new Claim(Outcome.ACQUIRED, null);
+        static final Claim MISMATCH = new Claim(Outcome.MISMATCH, null);
+        static final Claim IN_PROGRESS = new Claim(Outcome.IN_PROGRESS, null);
+
+        static Claim replay(StoredResponse response) {
+            return new Claim(Outcome.REPLAY, response);
+        }
+    }
+
+    public enum Outcome {
+        ACQUIRED,     // 처리 권한 획득 - 요청 처리
+        REPLAY,       // 이미 처리됨 - 저장된 응답 반환
+        MISMATCH,     // 같은 키로 다른 요청
+        IN_PROGRESS   // 다른 요청이 처리 중 (대기 시간 초과)
+    }
+}
@@ -0,0 +1,347 @@
+package com.debate.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 변형본 생성 서비스
+ * 원본 옆에 축소본(thumb, medium)과 재압축본(opt)을 백그라운드 작업자 풀에서 생성합니다.
+ *
+ * - 변형본 파일명: {원본이름}_{변형}.{확장자} (예: ab12..ef_thumb.jpg)
+ * - 재인코딩 시 메타데이터를 복사하지 않으므로 EXIF(촬영 위치 등)가 제거됩니다
+ * - 작업 큐가 가득 차면 생성을 건너뛰며, 변형본이 없으면 원본이 대신 제공됩니다
+ * - JPEG/PNG만 처리합니다 (GIF 애니메이션, WebP 등은 원본만 제공)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+    private static final Pattern VARIANT_NAME = Pattern.compile("^(.+)_(thumb|medium|opt)\\.([a-z0-9]+)$");
+
+    /**
+     * 이미지 변형 종류
+     */
+    public enum Variant {
+        THUMB("thumb"),
+        MEDIUM("medium"),
+        OPTIMIZED("opt");
+
+        private final String suffix;
+
+        Variant(String suffix) {
+            this.suffix = suffix;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        /**
+         * 요청 파라미터/파일명 접미사를 변형 종류로 변환합니다.
+         *
+         * @param value 접미사 (thumb, medium, opt)
+         * @return 변형 종류, 알 수 없는 값이면 null
+         */
+        public static Variant from(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (Variant variant : values()) {
+                if (variant.suffix.equalsIgnoreCase(value)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final boolean enabled;
+    private final int thumbWidth;
+    private final int mediumWidth;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Map<Path, Boolean> inProgress = new ConcurrentHashMap<>();
+
+    public ImageVariantService(@Value("${image.variants.enabled:true}") boolean enabled,
+                               @Value("${image.variants.thumb-width:320}") int thumbWidth,
+                               @Value("${image.variants.medium-width:1024}") int mediumWidth,
+                               @Value("${image.variants.jpeg-quality:0.82}") float jpegQuality,
+                               @Value("${image.variants.max-pixels:40000000}") long maxPixels,
+                               @Value("${image.variants.pool-size:2}") int poolSize,
+                               @Value("${image.variants.queue-capacity:200}") int queueCapacity) {
+        this.enabled = enabled;
+        this.thumbWidth = thumbWidth;
+        this.mediumWidth = mediumWidth;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 원본 이미지의 변형본 생성을 백그라운드 작업으로 등록합니다.
+     * 이미 생성이 끝났거나(재압축본 존재) 같은 파일을 처리 중이면 아무것도 하지 않습니다.
+     *
+     * @param original 원본 이미지 경로
+     */
+    public void generateAsync(Path original) {
+        if (!enabled || !isSupported(original) || Files.exists(variantPath(original, Variant.OPTIMIZED))) {
+            return;
+        }
+        if (inProgress.putIfAbsent(original, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(original);
+                } finally {
+                    inProgress.remove(original);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inProgress.remove(original);
+            log.warn("이미지 변형본 생성 건너뜀 (작업 큐 가득 참): {}", original.getFileName());
+        }
+    }
+
+    /**
+     * 요청한 변형본이 있으면 그 경로를, 없으면 원본 경로를 반환합니다.
+     *
+     * @param original 원본 이미지 경로
+     * @param variant  변형 종류 (null이면 원본)
+     * @return 제공할 파일 경로
+     */
+    public Path resolve(Path original, Variant variant) {
+        if (variant == null) {
+            return original;
+        }
+        Path variantPath = variantPath(original, variant);
+        return Files.isRegularFile(variantPath) ? variantPath : original;
+    }
+
+    /**
+     * 변형본 파일명(…_thumb.jpg)이면 원본 파일 경로를 반환합니다.
+     *
+     * @param path 요청된 파일 경로
+     * @return 원본 파일 경로, 변형본 이름이 아니면 null
+     */
+    public Path originalOf(Path path) {
+        Matcher matcher = VARIANT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return path.resolveSibling(matcher.group(1) + "." + matcher.group(3));
+    }
+
+    /**
+     * 원본 이미지의 변형본 경로를 계산합니다.
+     *
+     * @param original 원본 이미지 경로
+     * @param variant  변형 종류
+     * @return 변형본 경로 (존재 여부와 무관)
+     */
+    public Path variantPath(Path original, Variant variant) {
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        return original.resolveSibling(base + "_" + variant.getSuffix() + extension);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(Path original) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return;
+            }
+            String format = formatOf(original);
+            writeVariant(original, Variant.THUMB, resize(source, thumbWidth), format);
+            writeVariant(original, Variant.MEDIUM, resize(source, mediumWidth), format);
+            // 재압축본은 마지막에 기록하여 생성 완료 표시로 사용합니다
+            writeVariant(original, Variant.OPTIMIZED, source, format);
+            log.debug("이미지 변형본 생성 완료: file={}, elapsedMs={}",
+                    original.getFileName(), System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변형본 생성 실패: file={}, error={}", original.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이미지 크기를 먼저 확인한 뒤 디코딩합니다 (압축 폭탄 방지).
+     */
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("이미지 변형본 생성 건너뜀 (해상도 초과): file={}, pixels={}", original.getFileName(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 원본 너비가 목표보다 작으면 그대로 두고, 크면 비율을 유지해 축소합니다.
+     * 큰 폭으로 줄일 때는 절반씩 단계적으로 줄여 화질 저하를 줄입니다.
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        if (source.getWidth() <= targetWidth) {
+            return null;
+        }
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int finalHeight = Math.max(1, (int) Math.round((double) height * targetWidth / width));
+        while (width > targetWidth) {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? finalHeight : Math.max(1, height / 2);
+            current = scale(current, width, height);
+        }
+        return current;
+    }
+
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 변형본을 임시 파일에 기록한 뒤 원자적으로 이동합니다.
+     * 축소가 필요 없는 경우(image == null)는 건너뜁니다.
+     */
+    private void writeVariant(Path original, Variant variant, BufferedImage image, String format) throws IOException {
+        Path target = variantPath(original, variant);
+        if (image == null || Files.exists(target)) {
+            return;
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            if ("jpeg".equals(format)) {
+                writeJpeg(toRgb(image), temp);
+            } else {
+                ImageIO.write(image, format, temp.toFile());
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG는 알파 채널을 지원하지 않으므로 RGB로 변환합니다.
+     */
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private boolean isSupported(Path original) {
+        return formatOf(original) != null && originalOf(original) == null;
+    }
+
+    private static String formatOf(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+            return "jpeg";
+        }
+        if (name.endsWith(".png")) {
+            return "png";
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.debate.service;
 
 import com.debate.entity.Debate;
+import com.debate.entity.DomainEvent;
 import com.debate.entity.Like;
 import com.debate.entity.User;
 import com.debate.exception.ResourceNotFoundException;
@@ -10,11 +11,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
     private final DebateRepository debateRepository;
+    private final BusinessMetrics businessMetrics;
+    private final DomainEventPublisher domainEventPublisher;
+    private final FeedPageCache feedPageCache;
+    private final DebateReadCache debateReadCache;
 
     @Transactional
     public void toggleLike(Long debateId, Long userId) {
@@ -26,15 +33,23 @@ public class LikeService {
 
         likeRepository.findByDebateAndUser(debate, user)
                 .ifPresentOrElse(
-                        likeRepository::delete,
+                        like -> {
+                            likeRepository.delete(like);
+                            businessMetrics.likeToggled(false);
+                            domainEventPublisher.publish(DomainEvent.EventType.LIKE_REMOVED, debateId, userId, Map.of());
+                        },
                         () -> {
                             Like like = Like.builder()
                                     .debate(debate)
                                     .user(user)
                                     .build();
                             likeRepository.save(like);
+                            businessMetrics.likeToggled(true);
+                            domainEventPublisher.publish(DomainEvent.EventType.LIKE_ADDED, debateId, userId, Map.of());
                         }
                 );
+        feedPageCache.debateChanged(debateId, debate.getCategory().getId());
+        debateReadCache.evictDebate(debateId);
     }
 
     public boolean isLiked(Long debateId, Long userId) {
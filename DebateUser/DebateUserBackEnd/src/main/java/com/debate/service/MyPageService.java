@@ -2,7 +2,7 @@ package com.debate.service;
 
 import com.debate.dto.response.DebateResponse;
 import com.debate.dto.response.CommentResponse;
-import com.debate.entity.DebateOpinion;
+import com.debate.dto.response.OpinionResponse;
 import com.debate.entity.User;
 import com.debate.repository.DebateOpinionRepository;
 import com.debate.repository.DebateRepository;
@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class MyPageService {
     private final DebateRepository debateRepository;
     private final CommentRepository commentRepository;
@@ -82,13 +84,16 @@ public class MyPageService {
      * 현재 로그인한 사용자가 입장을 선택한 토론 목록을 조회합니다.
      * 
      * @param userId 사용자 ID
-     * @return 사용자가 선택한 의견 목록
+     * @return 사용자가 선택한 의견 목록 (토론 제목, 카테고리, 상태 포함)
      */
-    public List<DebateOpinion> getMyOpinions(Long userId) {
+    public List<OpinionResponse> getMyOpinions(Long userId) {
         User user = new User();
         user.setId(userId);
         
-        return debateOpinionRepository.findByUser(user);
+        return debateOpinionRepository.findWithDebateByUser(user)
+                .stream()
+                .map(OpinionResponse::withDebate)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.debate.service;
 
 import com.debate.dto.request.CreateReportRequest;
+import com.debate.dto.response.ReportResponse;
+import com.debate.entity.DomainEvent;
 import com.debate.entity.Report;
 import com.debate.entity.User;
 import com.debate.exception.BadRequestException;
@@ -9,13 +11,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ReportService {
     private final ReportRepository reportRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
-    public Report createReport(CreateReportRequest request, Long reporterId) {
+    public ReportResponse createReport(CreateReportRequest request, Long reporterId) {
         User reporter = new User();
         reporter.setId(reporterId);
 
@@ -34,7 +39,10 @@ public class ReportService {
                 .status(Report.ReportStatus.PENDING)
                 .build();
 
-        return reportRepository.save(report);
+        report = reportRepository.save(report);
+        domainEventPublisher.publish(DomainEvent.EventType.REPORT_CREATED, report.getId(), reporterId,
+                Map.of("targetType", report.getTargetType().name(), "targetId", report.getTargetId()));
+        return ReportResponse.from(report);
     }
 }
 
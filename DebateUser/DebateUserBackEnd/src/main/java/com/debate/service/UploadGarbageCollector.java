@@ -0,0 +1,438 @@
+package com.debate.service;
+
+import com.debate.entity.ChatMessage;
+import com.debate.entity.Comment;
+import com.debate.entity.Debate;
+import com.debate.entity.DebateOpinion;
+import com.debate.entity.User;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미참조 업로드 파일 정리 서비스
+ * 게시글/댓글 등에서 더 이상 참조하지 않는 업로드 이미지를 주기적으로 삭제합니다.
+ *
+ * - 본문 컬럼을 id 순서의 청크로 읽으며 업로드 URL만 뽑아 64비트 지문 배열로 보관합니다
+ * - 업로드 디렉토리를 순회하며 참조되지 않고 유예 기간이 지난 파일을 변형본과 함께 삭제합니다
+ * - 일정 개수마다 잠시 쉬어 실제 요청 처리의 디스크 I/O를 방해하지 않도록 합니다
+ * - 참조 수집 중 오류가 나면 아무것도 삭제하지 않습니다
+ * - 참조 컬럼의 테이블/컬럼 이름은 엔티티 매핑에서 구하므로, 필드 이름이 틀리면 정리가 조용히 멈추지 않고 기동 시 실패합니다
+ * - 몇 분씩 걸릴 수 있으므로 cron은 전용 스레드에 작업을 넘기기만 해, 공유 스케줄러의 짧은 주기 작업
+ *   (캐시 무효화 폴링, 복제 지연 확인, 조회수 반영 등)을 막지 않습니다
+ */
+@Slf4j
+@Service
+public class UploadGarbageCollector {
+    private static final String[] PRECOMPRESSED_SUFFIXES = {".br", ".gz"};
+
+    /**
+     * 업로드 URL을 담을 수 있는 필드 (엔티티, 필드 이름)
+     */
+    private static final List<Map.Entry<Class<?>, String>> REFERENCE_FIELDS = List.of(
+            Map.entry(Debate.class, "content"),
+            Map.entry(Comment.class, "content"),
+            Map.entry(DebateOpinion.class, "content"),
+            Map.entry(ChatMessage.class, "message"),
+            Map.entry(User.class, "profileImage")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<ReferenceColumn> referenceColumns;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final Pattern urlPattern;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration gracePeriod;
+    private final int dbChunkSize;
+    private final int ioBatchSize;
+    private final Duration ioPause;
+    private final int maxDeletesPerRun;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "upload-gc");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UploadGarbageCollector(JdbcTemplate jdbcTemplate,
+                                  EntityManagerFactory entityManagerFactory,
+                                  FileStorageService fileStorageService,
+                                  ImageVariantService imageVariantService,
+                                  @Value("${file.gc.enabled:true}") boolean enabled,
+                                  @Value("${file.gc.dry-run:false}") boolean dryRun,
+                                  @Value("${file.gc.grace-period:24h}") Duration gracePeriod,
+                                  @Value("${file.gc.db-chunk-size:500}") int dbChunkSize,
+                                  @Value("${file.gc.io-batch-size:200}") int ioBatchSize,
+                                  @Value("${file.gc.io-pause:100ms}") Duration ioPause,
+                                  @Value("${file.gc.max-deletes-per-run:10000}") int maxDeletesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.referenceColumns = resolveReferenceColumns(entityManagerFactory);
+        this.fileStorageService = fileStorageService;
+        this.imageVariantService = imageVariantService;
+        // 절대 URL(http://host/files/...)이나 변형본/압축본 이름도 찾을 수 있도록 prefix 이후 경로만 추출
+        this.urlPattern = Pattern.compile(Pattern.quote(fileStorageService.getUrlPrefix()) + "/([A-Za-z0-9._/-]+)");
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.gracePeriod = gracePeriod;
+        this.dbChunkSize = dbChunkSize;
+        this.ioBatchSize = ioBatchSize;
+        this.ioPause = ioPause;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+    }
+
+    /**
+     * 참조 필드를 엔티티 매핑의 테이블/컬럼 이름으로 바꿉니다.
+     *
+     * @throws IllegalStateException 엔티티에 없는 필드이거나 단일 컬럼이 아닌 경우
+     */
+    private static List<ReferenceColumn> resolveReferenceColumns(EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        return REFERENCE_FIELDS.stream().map(field -> {
+            AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                    .getEntityDescriptor(field.getKey());
+            String[] columns;
+            try {
+                columns = persister.getPropertyColumnNames(field.getValue());
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("업로드 참조 필드를 찾을 수 없습니다: "
+                        + field.getKey().getSimpleName() + "." + field.getValue(), e);
+            }
+            if (columns.length != 1) {
+                throw new IllegalStateException("업로드 참조 필드는 단일 컬럼이어야 합니다: "
+                        + field.getKey().getSimpleName() + "." + field.getValue());
+            }
+            return new ReferenceColumn(persister.getTableName(), persister.getIdentifierColumnNames()[0], columns[0]);
+        }).toList();
+    }
+
+    /**
+     * 업로드 URL을 담을 수 있는 컬럼
+     *
+     * @param table    테이블
+     * @param idColumn 청크 순서로 쓰는 PK 컬럼
+     * @param column   본문 컬럼
+     */
+    private record ReferenceColumn(String table, String idColumn, String column) {
+    }
+
+    /**
+     * 정리 결과
+     *
+     * @param references 수집한 참조 수 (중복 제거 후)
+     * @param visited    검사한 원본 파일 수
+     * @param deleted    삭제한 파일 수 (변형본/압축본 포함)
+     * @param freedBytes 확보한 용량 (바이트)
+     */
+    public record Result(int references, long visited, long deleted, long freedBytes) {
+    }
+
+    /**
+     * 예약된 주기마다 미참조 업로드 파일 정리를 전용 스레드에서 시작합니다.
+     */
+    @Scheduled(cron = "${file.gc.cron:0 30 4 * * *}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    collect();
+                } catch (RuntimeException e) {
+                    log.error("미참조 업로드 정리 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("미참조 업로드 정리 건너뜀 (종료 중)");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 정리 중이면 ioPause의 sleep에서 인터럽트되어 멈춤
+        executor.shutdownNow();
+    }
+
+    /**
+     * 미참조 업로드 파일을 정리합니다. 이미 실행 중이면 null을 반환합니다.
+     *
+     * @return 정리 결과, 실행하지 않았으면 null
+     */
+    public Result collect() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("미참조 업로드 정리 건너뜀 (이미 실행 중)");
+            return null;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            Path root = fileStorageService.getRootPath();
+            if (!Files.isDirectory(root)) {
+                return new Result(0, 0, 0, 0);
+            }
+            // 참조 수집을 시작하기 전 시각 기준으로 유예 기간을 계산 (수집 도중 올라온 파일은 항상 보존)
+            long cutoff = startedAt - gracePeriod.toMillis();
+
+            FingerprintSet references = collectReferences();
+            if (references.size() == 0) {
+                // DB 연결 대상이 잘못된 경우 등 전체 삭제를 막기 위한 안전장치
+                log.warn("미참조 업로드 정리 중단: 수집된 참조가 없습니다");
+                return new Result(0, 0, 0, 0);
+            }
+
+            Sweeper sweeper = new Sweeper(root, references, cutoff);
+            Files.walkFileTree(root, sweeper);
+            Result result = new Result(references.size(), sweeper.visited, sweeper.deleted, sweeper.freedBytes);
+            log.info("미참조 업로드 정리 완료: references={}, visited={}, deleted={}, freed={}KB, dryRun={}, elapsed={}ms",
+                    result.references(), result.visited(), result.deleted(), result.freedBytes() / 1024,
+                    dryRun, System.currentTimeMillis() - startedAt);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            log.error("미참조 업로드 정리 실패: {}", e.getMessage(), e);
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 참조 컬럼을 id 순서의 청크로 읽어 업로드 파일 지문을 수집합니다.
+     * 업로드 URL prefix가 포함된 행만 읽어 전송량을 줄입니다.
+     */
+    private FingerprintSet collectReferences() {
+        FingerprintSet references = new FingerprintSet();
+        String prefix = fileStorageService.getUrlPrefix();
+        for (ReferenceColumn column : referenceColumns) {
+            String sql = "SELECT " + column.idColumn() + ", " + column.column() + " FROM " + column.table()
+                    + " WHERE " + column.idColumn() + " > ? AND " + column.column() + " LIKE CONCAT('%', ?, '%')"
+                    + " ORDER BY " + column.idColumn() + " LIMIT ?";
+            long lastId = 0;
+            int rows;
+            do {
+                long[] cursor = {lastId};
+                int[] count = {0};
+                jdbcTemplate.query(sql, rs -> {
+                    cursor[0] = rs.getLong(1);
+                    count[0]++;
+                    extractReferences(rs.getString(2), references);
+                }, lastId, prefix, dbChunkSize);
+                lastId = cursor[0];
+                rows = count[0];
+            } while (rows == dbChunkSize);
+        }
+        references.seal();
+        return references;
+    }
+
+    private void extractReferences(String text, FingerprintSet references) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = urlPattern.matcher(text);
+        while (matcher.find()) {
+            Path path = fileStorageService.resolveUrl(fileStorageService.getUrlPrefix() + "/" + matcher.group(1));
+            if (path != null) {
+                references.add(fingerprint(originalKey(path)));
+            }
+        }
+    }
+
+    /**
+     * 변형본(…_thumb.jpg)과 미리 압축된 파일(….gz)을 원본 기준의 상대 경로로 정규화합니다.
+     */
+    private String originalKey(Path path) {
+        String name = path.getFileName().toString();
+        for (String suffix : PRECOMPRESSED_SUFFIXES) {
+            if (name.endsWith(suffix) && name.length() > suffix.length()) {
+                path = path.resolveSibling(name.substring(0, name.length() - suffix.length()));
+                break;
+            }
+        }
+        Path original = imageVariantService.originalOf(path);
+        if (original != null) {
+            path = original;
+        }
+        return fileStorageService.getRootPath().relativize(path).toString().replace('\\', '/');
+    }
+
+    /**
+     * 상대 경로의 64비트 FNV-1a 지문
+     * 충돌하더라도 파일이 보존될 뿐 잘못 삭제되지는 않습니다.
+     */
+    private static long fingerprint(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 업로드 디렉토리를 순회하며 미참조 파일을 삭제하는 방문자
+     */
+    private final class Sweeper extends SimpleFileVisitor<Path> {
+        private final Path root;
+        private final FingerprintSet references;
+        private final long cutoff;
+        private long visited;
+        private long deleted;
+        private long freedBytes;
+        private long sinceLastPause;
+
+        private Sweeper(Path root, FingerprintSet references, long cutoff) {
+            this.root = root;
+            this.references = references;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            // 임시 디렉토리가 업로드 루트 안에 설정된 경우 진행 중인 업로드를 건드리지 않음
+            return dir.equals(fileStorageService.getTempPath()) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            if (!attrs.isRegularFile()) {
+                return FileVisitResult.CONTINUE;
+            }
+            throttle();
+            String key = originalKey(file);
+            Path original = root.resolve(key);
+            if (!original.equals(file) && Files.exists(original)) {
+                // 원본이 있는 변형본/압축본은 원본을 검사할 때 함께 처리
+                return FileVisitResult.CONTINUE;
+            }
+            visited++;
+            if (attrs.lastModifiedTime().toMillis() >= cutoff || references.contains(fingerprint(key))) {
+                return FileVisitResult.CONTINUE;
+            }
+
+            delete(file, attrs.size());
+            if (original.equals(file)) {
+                for (ImageVariantService.Variant variant : ImageVariantService.Variant.values()) {
+                    deleteIfExists(imageVariantService.variantPath(file, variant));
+                }
+                for (String suffix : PRECOMPRESSED_SUFFIXES) {
+                    deleteIfExists(file.resolveSibling(file.getFileName() + suffix));
+                }
+            }
+            return deleted >= maxDeletesPerRun ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            if (e instanceof NoSuchFileException) {
+                // 원본과 함께 먼저 삭제된 변형본/압축본
+                return FileVisitResult.CONTINUE;
+            }
+            log.warn("업로드 파일 검사 실패: {} ({})", file, e.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+            // 비워진 샤딩 디렉토리(ab/cd/) 정리
+            if (!dryRun && !dir.equals(root)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                    if (!stream.iterator().hasNext()) {
+                        Files.deleteIfExists(dir);
+                    }
+                } catch (IOException ignored) {
+                    // 다른 요청이 방금 파일을 만든 경우 등은 무시
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        private void deleteIfExists(Path path) throws IOException {
+            if (Files.isRegularFile(path)) {
+                delete(path, Files.size(path));
+            }
+        }
+
+        private void delete(Path path, long size) throws IOException {
+            if (!dryRun) {
+                Files.deleteIfExists(path);
+            }
+            log.debug("미참조 업로드 삭제{}: {}", dryRun ? " (dry-run)" : "", root.relativize(path));
+            deleted++;
+            freedBytes += size;
+        }
+
+        private void throttle() throws IOException {
+            if (++sinceLastPause < ioBatchSize) {
+                return;
+            }
+            sinceLastPause = 0;
+            try {
+                Thread.sleep(ioPause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("정리 작업이 인터럽트되었습니다", e);
+            }
+        }
+    }
+
+    /**
+     * 정렬된 long 배열 기반의 지문 집합
+     * 참조 하나당 8바이트만 사용하며, seal() 이후 이진 탐색으로 조회합니다.
+     */
+    private static final class FingerprintSet {
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void seal() {
+            Arrays.sort(values, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || values[unique - 1] != values[i]) {
+                    values[unique++] = values[i];
+                }
+            }
+            size = unique;
+        }
+
+        private boolean contains(long value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
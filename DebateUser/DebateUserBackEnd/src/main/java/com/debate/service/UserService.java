@@ -1,6 +1,7 @@
 package com.debate.service;
 
 import com.debate.dto.response.UserResponse;
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.User;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateOpinionRepository;
@@ -21,6 +22,8 @@ public class UserService {
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
     private final DebateOpinionRepository debateOpinionRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
@@ -59,6 +62,10 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        // 닉네임은 토론/댓글 목록마다 캐시된 회원 엔티티에서 읽으므로 커밋 후 캐시를 비움
+        entityCacheEvictor.evict(User.class, userId, EntityCacheEvictor.USER_QUERY_REGION);
+        // 다른 인스턴스(관리자 백엔드 포함)의 캐시는 무효화 로그로 비움
+        cacheInvalidationBus.publish(CacheInvalidation.TargetType.USER, userId);
         return UserResponse.from(user);
     }
 
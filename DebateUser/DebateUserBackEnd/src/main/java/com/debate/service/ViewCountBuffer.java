@@ -0,0 +1,75 @@
+package com.debate.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토론 조회수 누적 버퍼
+ * 상세 조회마다 UPDATE를 실행하지 않고 메모리에 모았다가 flush-interval마다 토론별 한 번의 UPDATE로 반영합니다.
+ *
+ * - 같은 토론에 조회가 몰려도 행 잠금 경쟁 없이 읽기 전용 조회로 처리할 수 있습니다
+ * - 반영에 실패하면 다음 주기에 다시 시도하고, 종료 시 남은 조회수를 반영합니다 (비정상 종료 시 최대 한 주기분 유실)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+    private final JdbcTemplate jdbcTemplate;
+    private final DebateReadCache debateReadCache;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1을 더합니다.
+     *
+     * @param debateId 토론 ID
+     * @return 아직 DB에 반영되지 않은 조회수 (이번 조회 포함)
+     */
+    public long increment(Long debateId) {
+        return pending.merge(debateId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (조회수를 올리지 않는 조회에서 표시용)
+     *
+     * @param debateId 토론 ID
+     * @return 미반영 조회수
+     */
+    public long getPending(Long debateId) {
+        return pending.getOrDefault(debateId, 0L);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${debate.view-count.flush-interval:PT1S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> updates = new ArrayList<>();
+        for (Long debateId : pending.keySet()) {
+            // remove로 꺼내므로 그 뒤의 조회는 새 값으로 다시 쌓임
+            Long count = pending.remove(debateId);
+            if (count != null) {
+                updates.add(new Object[]{count, debateId});
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate("UPDATE debate SET view_count = view_count + ? WHERE id = ?", updates);
+        } catch (DataAccessException e) {
+            log.warn("조회수 반영 실패, 다음 주기에 다시 시도: {}건 - {}", updates.size(), e.getMessage());
+            updates.forEach(update -> pending.merge((Long) update[1], (Long) update[0], Long::sum));
+            return;
+        }
+        // 캐시된 상세의 조회수 + 미반영 조회수로 응답하므로 반영한 토론은 상세를 다시 읽도록 함
+        updates.forEach(update -> debateReadCache.refreshDetail((Long) update[1]));
+    }
+}
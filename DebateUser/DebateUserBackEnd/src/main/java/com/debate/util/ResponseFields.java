@@ -0,0 +1,109 @@
+package com.debate.util;
+
+import com.debate.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 응답 필드 선택 (fields 쿼리 파라미터)
+ * 목록/상세 요청이 필요한 필드만 받도록 fields=id,title,likeCount 형태로 고른 필드를 나타냅니다.
+ *
+ * - 서비스는 {@link #includes(String)}로 고르지 않은 컬럼과 집계(좋아요 수, 댓글 수, 대댓글)를 조회하지 않습니다
+ * - 직렬화는 {@link #FILTER} 필터가 붙은 응답 DTO에서 고르지 않은 필드를 빼고 씁니다 ({@link #filters(Set)})
+ * - fields가 없거나 비어 있으면 모든 필드를 반환합니다 (기존 응답과 동일)
+ */
+public final class ResponseFields {
+    public static final String PARAMETER = "fields";
+    public static final String FILTER = "responseFields";
+
+    private static final ResponseFields ALL = new ResponseFields(null);
+    private static final FilterProvider SERIALIZE_ALL = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    private final Set<String> names;    // null이면 전체 필드
+
+    private ResponseFields(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * 전체 필드 선택
+     */
+    public static ResponseFields all() {
+        return ALL;
+    }
+
+    /**
+     * fields 파라미터를 해석합니다.
+     *
+     * @param fields  쉼표로 구분한 필드 이름 (null 또는 빈 값이면 전체)
+     * @param allowed 응답 DTO가 지원하는 필드 이름
+     * @return 필드 선택
+     * @throws BadRequestException 지원하지 않는 필드 이름이 있는 경우
+     */
+    public static ResponseFields parse(String fields, Set<String> allowed) {
+        Set<String> names = split(fields);
+        if (names.isEmpty()) {
+            return ALL;
+        }
+        for (String name : names) {
+            if (!allowed.contains(name)) {
+                throw new BadRequestException("지원하지 않는 필드입니다: " + name);
+            }
+        }
+        return new ResponseFields(Collections.unmodifiableSet(names));
+    }
+
+    /**
+     * 쉼표로 구분한 필드 이름을 정렬된 집합으로 나눕니다 (공백, 빈 이름 제외).
+     */
+    public static Set<String> split(String fields) {
+        Set<String> names = new TreeSet<>();
+        if (fields != null) {
+            for (String name : fields.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 기본 필터: 모든 필드를 직렬화 (fields 파라미터가 없는 요청, 애플리케이션 ObjectMapper 기본값)
+     */
+    public static FilterProvider serializeAll() {
+        return SERIALIZE_ALL;
+    }
+
+    /**
+     * 고른 필드만 직렬화하는 필터 (필터가 붙지 않은 다른 클래스는 모든 필드를 직렬화)
+     *
+     * @param names 직렬화할 필드 이름
+     */
+    public static FilterProvider filters(Set<String> names) {
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * 캐시 키에 쓰는 정규화된 표현 (전체면 *)
+     */
+    public String key() {
+        return names == null ? "*" : String.join(",", names);
+    }
+}
@@ -0,0 +1,70 @@
+package com.debate.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 로더 (single flight)
+ * 먼저 들어온 요청 하나만 loader를 실행하고, 실행 중에 들어온 같은 키의 요청은 그 결과(또는 예외)를 함께 받습니다.
+ *
+ * - 결과를 보관하지 않으므로 실행이 끝난 뒤 들어온 요청은 다시 실행합니다 (보관은 호출하는 캐시가 담당)
+ * - 기다리는 요청은 DB 연결을 잡지 않도록 트랜잭션 밖에서 호출해야 합니다
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder joined = new LongAdder();
+
+    /**
+     * 같은 키의 실행 중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 실행합니다.
+     *
+     * @param key    키
+     * @param loader 조회 함수
+     * @return 조회 결과
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            joined.increment();
+            return await(existing);
+        }
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 다른 요청의 실행 결과를 받아 간 횟수 (합쳐진 조회 수)
+     */
+    public long getJoinedCount() {
+        return joined.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 실행한 요청과 같은 예외(예: ResourceNotFoundException)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -90,12 +90,12 @@ const MyPage = () => {
       const data = response.data || response
       const opinions = Array.isArray(data) ? data : []
       
-      // DebateOpinion에서 토론 정보 추출
+      // OpinionResponse에서 토론 정보 추출
       const debates = opinions.map(opinion => ({
-        id: opinion.debate?.id,
-        title: opinion.debate?.title,
-        categoryName: opinion.debate?.category?.name,
-        status: opinion.debate?.status,
+        id: opinion.debateId,
+        title: opinion.debateTitle,
+        categoryName: opinion.categoryName,
+        status: opinion.debateStatus,
         side: opinion.side,
         createdAt: opinion.createdAt
       })).filter(debate => debate.id) // 토론 정보가 있는 것만